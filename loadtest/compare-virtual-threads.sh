@@ -0,0 +1,99 @@
+#!/bin/bash
+
+# ========================================
+# Platform threads vs virtual threads load comparison
+# ========================================
+# Builds the Java 21 jar, then runs the same wrk workload against the app
+# twice: once on the default 50-thread Tomcat pool and once with the
+# virtual-threads profile. Prints throughput and p99 for each run.
+#
+# Requirements: JDK 21 on PATH, Maven, wrk (https://github.com/wg/wrk)
+#
+# Usage: ./loadtest/compare-virtual-threads.sh [connections] [duration]
+#   connections  concurrent connections (default 500)
+#   duration     duration per scenario, wrk format (default 60s)
+
+set -e
+
+CONNECTIONS=${1:-500}
+DURATION=${2:-60s}
+THREADS=4
+PORT=18080
+BASE_URL="http://localhost:${PORT}"
+OUT_DIR="target/loadtest"
+
+cd "$(dirname "$0")/.."
+mkdir -p "$OUT_DIR"
+
+if ! command -v wrk > /dev/null; then
+    echo "wrk is required: https://github.com/wg/wrk"
+    exit 1
+fi
+
+echo "Building Java 21 jar..."
+mvn -q -B clean package -Pjava21 -DskipTests
+JAR=$(ls target/*.jar | grep -v original | head -1)
+
+# Admin login body (BCrypt + one UPDATE per request)
+cat > "$OUT_DIR/admin-login.lua" <<'LUA'
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+wrk.body = '{"username":"admin","password":"admin123"}'
+LUA
+
+run_scenario() {
+    local label=$1
+    local profiles=$2
+
+    echo ""
+    echo "=== ${label} (profiles: ${profiles}) ==="
+
+    java -Xms256m -Xmx512m -jar "$JAR" \
+        --server.port=${PORT} \
+        --spring.profiles.active=${profiles} \
+        --logging.level.com.maternity=WARN \
+        --logging.level.org.springframework.security=WARN \
+        --spring.jpa.show-sql=false \
+        > "$OUT_DIR/${label}-app.log" 2>&1 &
+    local app_pid=$!
+
+    # Wait for the app to come up
+    for i in $(seq 1 60); do
+        if curl -sf "${BASE_URL}/actuator/health" > /dev/null; then
+            break
+        fi
+        sleep 1
+    done
+
+    # Warm up JIT and connection pool
+    wrk -t${THREADS} -c50 -d10s "${BASE_URL}/api/matrons" > /dev/null
+
+    wrk -t${THREADS} -c${CONNECTIONS} -d${DURATION} --latency \
+        "${BASE_URL}/api/matrons" > "$OUT_DIR/${label}-matrons.txt"
+    wrk -t${THREADS} -c${CONNECTIONS} -d${DURATION} --latency -s "$OUT_DIR/admin-login.lua" \
+        "${BASE_URL}/api/admin/auth/login" > "$OUT_DIR/${label}-admin-login.txt"
+
+    kill ${app_pid}
+    wait ${app_pid} 2> /dev/null || true
+}
+
+summarize() {
+    local label=$1
+    for scenario in matrons admin-login; do
+        local file="$OUT_DIR/${label}-${scenario}.txt"
+        local rps=$(grep "Requests/sec" "$file" | awk '{print $2}')
+        local p99=$(grep -E "^ +99%" "$file" | awk '{print $2}')
+        local errors=$(grep -E "Non-2xx|Socket errors" "$file" | tr '\n' ' ')
+        printf "%-18s %-12s %12s req/s   p99 %10s   %s\n" "$label" "$scenario" "$rps" "$p99" "$errors"
+    done
+}
+
+run_scenario "platform-threads" "default"
+run_scenario "virtual-threads" "default,virtual-threads"
+
+echo ""
+echo "=== Results: ${CONNECTIONS} connections, ${DURATION} per scenario ==="
+summarize "platform-threads"
+summarize "virtual-threads"
+echo ""
+echo "Raw wrk output: ${OUT_DIR}/"
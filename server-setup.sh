@@ -252,7 +252,7 @@ echo -e "${BLUE}=========================================${NC}"
 echo ""
 echo -e "${GREEN}Your application is now running:${NC}"
 echo -e "  • API URL: ${YELLOW}http://129.211.167.49:8080${NC}"
-echo -e "  • Health Check: ${YELLOW}http://129.211.167.49:8080/actuator/health${NC}"
+echo -e "  • Health Check: ${YELLOW}http://localhost:8090/actuator/health (on this server)${NC}"
 echo -e "  • API Docs: ${YELLOW}http://129.211.167.49:8080/swagger-ui.html${NC}"
 echo ""
 echo -e "${GREEN}Admin Credentials:${NC}"
@@ -0,0 +1,108 @@
+package com.maternity.benchmark;
+
+import com.maternity.model.Admin;
+import com.maternity.model.Certification;
+import com.maternity.model.MatronProfile;
+import com.maternity.model.Order;
+import com.maternity.model.Skill;
+import com.maternity.model.User;
+import com.maternity.model.WorkExperience;
+import com.maternity.security.JwtTokenProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entity and bean fixtures shared by the benchmarks, built without a Spring context
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-key-for-jmh-runs-must-be-at-least-256-bits-long";
+    static final long JWT_EXPIRATION = 86400000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtTokenProvider jwtTokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", JWT_EXPIRATION);
+        provider.init();
+        return provider;
+    }
+
+    static User user(long id, User.UserRole role) {
+        LocalDateTime now = LocalDateTime.now();
+        return new User(id, "用户" + id, "user" + id + "@example.com", "{noop}password",
+                "138" + String.format("%08d", id), "https://example.com/avatar/" + id + ".png", role, now, now);
+    }
+
+    static Admin admin() {
+        Admin admin = new Admin("admin", "{noop}admin123", "admin@example.com", "Administrator", Admin.AdminRole.SUPER_ADMIN);
+        admin.setId(1L);
+        admin.setEnabled(true);
+        return admin;
+    }
+
+    static MatronProfile matronProfile(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        MatronProfile profile = new MatronProfile(id, user(id, User.UserRole.MATRON), 35 + (int) (id % 15),
+                3 + (int) (id % 12), 12000.0 + (id % 20) * 500, "上海市浦东新区",
+                "十年母婴护理经验，擅长新生儿护理和产后恢复。",
+                skills("新生儿护理", "产后恢复", "月子餐", "母乳喂养指导"),
+                certifications("高级母婴护理师证", "育婴师证"),
+                new ArrayList<>(), 4.5 + (id % 5) / 10.0, (int) (id % 100), true,
+                LocalDate.now().plusDays(id % 30), now, now);
+        for (int i = 0; i < 3; i++) {
+            WorkExperience experience = new WorkExperience();
+            experience.setId(id * 10 + i);
+            experience.setMatronProfile(profile);
+            experience.setClientName("客户" + i);
+            experience.setStartDate(LocalDate.now().minusMonths(12L * (i + 1)));
+            experience.setEndDate(LocalDate.now().minusMonths(12L * (i + 1) - 1));
+            experience.setDescription("照顾新生儿及产妇，负责月子餐与日常护理。");
+            profile.getWorkHistory().add(experience);
+        }
+        return profile;
+    }
+
+    static Set<Skill> skills(String... names) {
+        Set<Skill> skills = new LinkedHashSet<>();
+        for (String name : names) {
+            Skill skill = new Skill(name);
+            skill.setId(skills.size() + 1);
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    static Set<Certification> certifications(String... names) {
+        Set<Certification> certifications = new LinkedHashSet<>();
+        for (String name : names) {
+            Certification certification = new Certification(name);
+            certification.setId(certifications.size() + 1);
+            certifications.add(certification);
+        }
+        return certifications;
+    }
+
+    static List<MatronProfile> matronProfiles(int count) {
+        List<MatronProfile> profiles = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            profiles.add(matronProfile(id));
+        }
+        return profiles;
+    }
+
+    static Order order(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Order(id, user(100000 + id, User.UserRole.MOTHER), matronProfile(id),
+                LocalDate.now(), LocalDate.now().plusDays(26), 13500.0, Order.OrderStatus.CONFIRMED,
+                "上海市浦东新区世纪大道100号", "需要有早产儿护理经验", now, now, now, null);
+    }
+}
@@ -0,0 +1,140 @@
+package com.maternity.benchmark;
+
+import com.maternity.MaternityApplication;
+import com.maternity.dto.AdminCreateUserRequest;
+import com.maternity.model.Certification;
+import com.maternity.model.MatronProfile;
+import com.maternity.model.Order;
+import com.maternity.model.Skill;
+import com.maternity.model.User;
+import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.OrderRepository;
+import com.maternity.repository.UserRepository;
+import com.maternity.service.AdminUserService;
+import com.maternity.service.SkillDictionaryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write paths against a full application context on in-memory H2, with JDBC batching
+ * off (batchSize=0, one round trip per row as with the old IDENTITY ids) and on.
+ *
+ * seedMatrons mirrors DataInitializer: users, matron profiles with skills and certifications,
+ * and orders saved through the repositories in one transaction. adminCreateMother is the
+ * admin "create user" flow (user + mother profile). In-memory H2 has no network latency,
+ * so the gap here is a lower bound for a database across a network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    private static final int MATRONS_PER_OP = 20;
+
+    @Param({"0", "50"})
+    private int batchSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private UserRepository userRepository;
+    private MatronProfileRepository matronProfileRepository;
+    private OrderRepository orderRepository;
+    private SkillDictionaryService skillDictionaryService;
+    private AdminUserService adminUserService;
+    private User mother;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(MaternityApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bulk-insert-" + batchSize + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.show-sql=false",
+                        "--catalog.reactive.enabled=false");
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        userRepository = context.getBean(UserRepository.class);
+        matronProfileRepository = context.getBean(MatronProfileRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        skillDictionaryService = context.getBean(SkillDictionaryService.class);
+        adminUserService = context.getBean(AdminUserService.class);
+        mother = userRepository.findByEmail("mother@test.com").orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int seedMatrons() {
+        return transactionTemplate.execute(status -> {
+            List<MatronProfile> profiles = new ArrayList<>(MATRONS_PER_OP);
+            Set<Skill> skills = skillDictionaryService.resolveSkills(
+                    List.of("Newborn Care", "Baby Massage", "Postpartum Meals", "Sleep Training"));
+            Set<Certification> certifications = skillDictionaryService.resolveCertifications(
+                    List.of("Certified Maternity Nurse", "CPR Certified"));
+            for (int i = 0; i < MATRONS_PER_OP; i++) {
+                long n = sequence.incrementAndGet();
+                User user = new User();
+                user.setName("Matron " + n);
+                user.setEmail("bulk-matron-" + n + "@example.com");
+                user.setPassword("{noop}password");
+                user.setRole(User.UserRole.MATRON);
+                user.setPhone("139" + String.format("%08d", n));
+                userRepository.save(user);
+
+                MatronProfile profile = new MatronProfile();
+                profile.setUser(user);
+                profile.setAge(40);
+                profile.setYearsOfExperience(10);
+                profile.setPricePerMonth(13000.0);
+                profile.setLocation("Shanghai, Pudong");
+                profile.setBio("Benchmark matron");
+                profile.setSkills(new HashSet<>(skills));
+                profile.setCertifications(new HashSet<>(certifications));
+                profiles.add(matronProfileRepository.save(profile));
+            }
+            for (MatronProfile profile : profiles) {
+                Order order = new Order();
+                order.setMother(mother);
+                order.setMatronProfile(profile);
+                order.setStartDate(LocalDate.now().plusDays(30));
+                order.setEndDate(LocalDate.now().plusDays(56));
+                order.setTotalPrice(13000.0);
+                order.setStatus(Order.OrderStatus.PENDING);
+                order.setAddress("Benchmark address");
+                orderRepository.save(order);
+            }
+            return profiles.size();
+        });
+    }
+
+    @Benchmark
+    public Long adminCreateMother() {
+        long n = sequence.incrementAndGet();
+        AdminCreateUserRequest request = new AdminCreateUserRequest();
+        request.setName("Mother " + n);
+        request.setEmail("bulk-mother-" + n + "@example.com");
+        request.setPhone("138" + String.format("%08d", n));
+        request.setRole(User.UserRole.MOTHER);
+        request.setAddress("Beijing, Chaoyang District");
+        request.setDueDate(LocalDate.now().plusDays(60));
+        return adminUserService.createUser(request).getId();
+    }
+}
@@ -0,0 +1,49 @@
+package com.maternity.benchmark;
+
+import com.maternity.dto.AdminOrderDTO;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.model.MatronProfile;
+import com.maternity.model.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private List<MatronProfile> profiles;
+    private List<Order> orders;
+
+    @Setup
+    public void setup() {
+        profiles = BenchmarkFixtures.matronProfiles(size);
+        orders = new java.util.ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            orders.add(BenchmarkFixtures.order(id));
+        }
+    }
+
+    @Benchmark
+    public List<MatronProfileDTO> matronProfileFromEntity() {
+        return profiles.stream()
+                .map(MatronProfileDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<AdminOrderDTO> adminOrderDto() {
+        return orders.stream()
+                .map(AdminOrderDTO::new)
+                .collect(Collectors.toList());
+    }
+}
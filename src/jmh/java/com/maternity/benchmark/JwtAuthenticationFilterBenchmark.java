@@ -0,0 +1,73 @@
+package com.maternity.benchmark;
+
+import com.maternity.repository.AdminRepository;
+import com.maternity.repository.UserRepository;
+import com.maternity.security.CustomUserDetailsService;
+import com.maternity.security.JwtAuthenticationFilter;
+import com.maternity.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Full JwtAuthenticationFilter pass: validate, parse, load user, build authentication, refresh token.
+ * Repositories are stubbed so only the filter and JWT work is measured, not the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String userToken;
+    private String adminToken;
+
+    @Setup
+    public void setup() {
+        JwtTokenProvider provider = BenchmarkFixtures.jwtTokenProvider();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        AdminRepository adminRepository = mock(AdminRepository.class);
+        when(userRepository.findByEmail(anyString()))
+                .thenReturn(Optional.of(BenchmarkFixtures.user(1L, com.maternity.model.User.UserRole.MOTHER)));
+        when(adminRepository.findByUsername(anyString())).thenReturn(Optional.of(BenchmarkFixtures.admin()));
+
+        filter = new JwtAuthenticationFilter(provider, new CustomUserDetailsService(userRepository, adminRepository));
+        userToken = provider.generateToken("user1@example.com");
+        adminToken = provider.generateToken("admin:admin");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse userRequest() throws Exception {
+        return doFilter(userToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse adminRequest() throws Exception {
+        return doFilter(adminToken);
+    }
+
+    private MockHttpServletResponse doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
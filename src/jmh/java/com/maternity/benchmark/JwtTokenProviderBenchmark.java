@@ -0,0 +1,44 @@
+package com.maternity.benchmark;
+
+import com.maternity.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        provider = BenchmarkFixtures.jwtTokenProvider();
+        token = provider.generateToken("user1@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken("user1@example.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getIdentifierFromToken() {
+        return provider.getIdentifierFromToken(token);
+    }
+
+    @Benchmark
+    public String refreshToken() {
+        return provider.refreshToken(token);
+    }
+}
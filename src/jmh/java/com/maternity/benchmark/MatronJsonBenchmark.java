@@ -0,0 +1,42 @@
+package com.maternity.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maternity.dto.MatronProfileDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serializing matron lists the way the /api/matrons endpoints do
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatronJsonBenchmark {
+
+    @Param({"20", "500"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<MatronProfileDTO> matrons;
+
+    @Setup
+    public void setup() {
+        // Same defaults Spring Boot applies to the application ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        matrons = BenchmarkFixtures.matronProfiles(size).stream()
+                .map(MatronProfileDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeMatronList() throws Exception {
+        return objectMapper.writeValueAsBytes(matrons);
+    }
+}
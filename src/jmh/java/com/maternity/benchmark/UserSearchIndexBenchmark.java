@@ -0,0 +1,86 @@
+package com.maternity.benchmark;
+
+import com.maternity.model.User;
+import com.maternity.repository.UserRepository;
+import com.maternity.search.UserSearchDocument;
+import com.maternity.search.UserSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Admin name and phone lookups against a million users, in a 512 MB heap so the index
+ * has to fit next to nothing else. Names are a surname and one or two given characters,
+ * so common names are shared by hundreds of users.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx512m"})
+@State(Scope.Benchmark)
+public class UserSearchIndexBenchmark {
+
+    private static final String SURNAMES = "王李张刘陈杨黄赵吴周徐孙马朱胡郭何林罗高";
+    private static final String GIVEN = "秀英桂兰玉丽敏静燕艳娟霞芳红玲梅婷雪慧洁明伟华强军平建国晓春海涛波云飞";
+
+    @Param({"1000000"})
+    private int users;
+
+    private UserSearchIndex index;
+    private final Pageable page = PageRequest.of(0, 20);
+
+    @Setup
+    public void setup() {
+        UserRepository userRepository = mock(UserRepository.class);
+        // Generated on the call, so the index is all the benchmark keeps
+        when(userRepository.findAllSearchDocuments()).thenAnswer(invocation -> documents());
+        index = new UserSearchIndex(userRepository, mock(PlatformTransactionManager.class));
+        index.reload();
+    }
+
+    private List<UserSearchDocument> documents() {
+        Random random = new Random(42);
+        List<UserSearchDocument> documents = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            StringBuilder name = new StringBuilder().append(SURNAMES.charAt(random.nextInt(SURNAMES.length())));
+            int given = random.nextInt(3) == 0 ? 1 : 2;
+            for (int i = 0; i < given; i++) {
+                name.append(GIVEN.charAt(random.nextInt(GIVEN.length())));
+            }
+            documents.add(new UserSearchDocument(id, name.toString(), "138" + String.format("%08d", id),
+                    id % 10 == 0 ? User.UserRole.MATRON : User.UserRole.MOTHER));
+        }
+        return documents;
+    }
+
+    @Benchmark
+    public Page<Long> exactName() {
+        return index.search("王秀英", null, page);
+    }
+
+    @Benchmark
+    public Page<Long> wrongMiddleCharacter() {
+        return index.search("王伟英", null, page);
+    }
+
+    @Benchmark
+    public Page<Long> twoCharacters() {
+        return index.search("李明", User.UserRole.MATRON, page);
+    }
+
+    @Benchmark
+    public Page<Long> phoneSuffix() {
+        return index.search("4321", null, page);
+    }
+}
@@ -0,0 +1,44 @@
+package com.maternity.benchmark;
+
+import com.maternity.service.VerificationCodeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Send/verify on the shared in-memory code store from 8 threads.
+ * Phones are drawn from a small pool so threads contend on the same keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class VerificationCodeBenchmark {
+
+    @Param({"16", "10000"})
+    private int phones;
+
+    private VerificationCodeService service;
+
+    @Setup
+    public void setup() {
+        service = new VerificationCodeService();
+    }
+
+    @Benchmark
+    public boolean sendAndVerify() {
+        String phone = "138" + String.format("%08d", ThreadLocalRandom.current().nextInt(phones));
+        String code = service.sendCode("+86", phone);
+        return service.verifyCode("+86", phone, code);
+    }
+
+    @Benchmark
+    public boolean isRateLimitExceeded() {
+        String phone = "138" + String.format("%08d", ThreadLocalRandom.current().nextInt(phones));
+        return service.isRateLimitExceeded("+86", phone);
+    }
+}
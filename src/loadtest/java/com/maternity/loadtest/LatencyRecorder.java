@@ -0,0 +1,47 @@
+package com.maternity.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms (microseconds) and status code counts per operation.
+ *
+ * Latencies are recorded from the request's intended start time, so time spent waiting
+ * behind a slow server is included (no coordinated omission).
+ */
+class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = 60_000_000L;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, LongAdder>> statuses = new ConcurrentHashMap<>();
+
+    void record(String operation, long latencyNanos, int status) {
+        long micros = Math.min(MAX_TRACKABLE_MICROS, Math.max(1, latencyNanos / 1000));
+        histograms.computeIfAbsent(operation, k -> new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+        statuses.computeIfAbsent(operation, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(status, k -> new LongAdder())
+                .increment();
+    }
+
+    void reset() {
+        histograms.clear();
+        statuses.clear();
+    }
+
+    Map<String, Histogram> histograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    Map<Integer, Long> statuses(String operation) {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.getOrDefault(operation, Map.of()).forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,220 @@
+package com.maternity.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maternity.MaternityApplication;
+import com.maternity.catalog.ReactiveCatalogServer;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator.
+ *
+ * Scenarios start at a fixed arrival rate regardless of how fast the server answers, so a
+ * slow server shows up as queueing latency rather than as a lower request rate. Without
+ * loadtest.target the application is started in-process with the "loadtest" profile.
+ *
+ * Run with: mvn -Ploadtest verify -DskipTests [-Dloadtest.rate=100 -Dloadtest.duration=60 ...]
+ * Options (system properties):
+ *   loadtest.target          base URL of a running instance; empty starts an embedded one
+ *   loadtest.catalog-target  base URL for anonymous /api/matrons browsing (defaults to the reactive
+ *                            catalog port when embedded, otherwise to loadtest.target)
+ *   loadtest.profiles        Spring profiles for the embedded instance (default "loadtest")
+ *   loadtest.rate            scenario starts per second (default 50)
+ *   loadtest.warmup          warm-up seconds, not reported (default 10)
+ *   loadtest.duration        measured seconds (default 60)
+ *   loadtest.mix             scenario weights (default browse:70,phone-login:10,create-order:10,admin-paging:10)
+ *   loadtest.seed            seed for the scenario sequence (default 1)
+ *   loadtest.verification-code phone login code; the embedded instance issues it through
+ *                            LoadTestVerificationCodeService, so phone-login only succeeds embedded
+ *   loadtest.max-outstanding scenarios allowed in flight before new starts are dropped (default 5000)
+ *   loadtest.output          JSON report file (default target/loadtest/loadtest-result.json)
+ */
+public class LoadTestRunner {
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    private void run() throws Exception {
+        String target = System.getProperty("loadtest.target", "");
+        String catalogTarget = System.getProperty("loadtest.catalog-target", "");
+        int rate = Integer.getInteger("loadtest.rate", 50);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        int maxOutstanding = Integer.getInteger("loadtest.max-outstanding", 5000);
+        long seed = Long.getLong("loadtest.seed", 1L);
+        Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix",
+                "browse:70,phone-login:10,create-order:10,admin-paging:10"));
+        Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest/loadtest-result.json"));
+
+        ConfigurableApplicationContext context = null;
+        if (target.isBlank()) {
+            context = new SpringApplicationBuilder(MaternityApplication.class)
+                    .profiles(System.getProperty("loadtest.profiles", "loadtest").split(","))
+                    .run("--server.port=0", "--catalog.reactive.port=0");
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            if (catalogTarget.isBlank()) {
+                ReactiveCatalogServer catalogServer = context.getBeanProvider(ReactiveCatalogServer.class).getIfAvailable();
+                catalogTarget = catalogServer != null ? "http://localhost:" + catalogServer.getPort() : target;
+            }
+        }
+        if (catalogTarget.isBlank()) {
+            catalogTarget = target;
+        }
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Integer.getInteger("loadtest.client-threads", 8));
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            Scenarios scenarios = new Scenarios(client, objectMapper, recorder, target, catalogTarget,
+                    System.getProperty("loadtest.verification-code", "246810"));
+            scenarios.prepare(
+                    System.getProperty("loadtest.mother.username", "mother@test.com"),
+                    System.getProperty("loadtest.mother.password", "password"),
+                    System.getProperty("loadtest.admin.username", "admin"),
+                    System.getProperty("loadtest.admin.password", "admin123"));
+
+            System.out.printf("Load test against %s (catalog %s): %d scenarios/s, mix %s%n",
+                    target, catalogTarget, rate, mix);
+            SplittableRandom random = new SplittableRandom(seed);
+            if (warmupSeconds > 0) {
+                System.out.printf("Warming up for %d s...%n", warmupSeconds);
+                drive(scenarios, mix, random, rate, warmupSeconds, maxOutstanding);
+                awaitOutstanding();
+                recorder.reset();
+            }
+
+            System.out.printf("Measuring for %d s...%n", durationSeconds);
+            long dropped = drive(scenarios, mix, random, rate, durationSeconds, maxOutstanding);
+            awaitOutstanding();
+
+            Map<String, Object> report = report(rate, durationSeconds, dropped);
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+            System.out.printf("Report written to %s%n", output.toAbsolutePath());
+        } finally {
+            clientExecutor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Start scenarios at their scheduled times for the given duration
+     *
+     * @return number of scenario starts dropped because too many were still outstanding
+     */
+    private long drive(Scenarios scenarios, Map<String, Integer> mix, SplittableRandom random,
+                       int rate, int seconds, int maxOutstanding) {
+        List<String> weighted = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(scenario);
+            }
+        });
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * seconds;
+        long startNanos = System.nanoTime();
+        long dropped = 0;
+
+        for (long i = 0; i < total; i++) {
+            long intendedStart = startNanos + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String scenario = weighted.get(random.nextInt(weighted.size()));
+            if (outstanding.get() >= maxOutstanding) {
+                dropped++;
+                continue;
+            }
+            outstanding.incrementAndGet();
+            scenarios.run(scenario, intendedStart, random)
+                    .whenComplete((result, error) -> outstanding.decrementAndGet());
+        }
+        return dropped;
+    }
+
+    private void awaitOutstanding() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    private Map<String, Object> report(int rate, int durationSeconds, long dropped) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        System.out.println();
+        System.out.printf("%-22s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "status");
+        for (Map.Entry<String, Histogram> entry : recorder.histograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            Map<Integer, Long> statuses = recorder.statuses(entry.getKey());
+            double throughput = (double) histogram.getTotalCount() / durationSeconds;
+
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("count", histogram.getTotalCount());
+            operation.put("throughput", throughput);
+            operation.put("p50Ms", millis(histogram, 50.0));
+            operation.put("p95Ms", millis(histogram, 95.0));
+            operation.put("p99Ms", millis(histogram, 99.0));
+            operation.put("p999Ms", millis(histogram, 99.9));
+            operation.put("maxMs", histogram.getMaxValue() / 1000.0);
+            operation.put("statuses", statuses);
+            operations.put(entry.getKey(), operation);
+
+            System.out.printf("%-22s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    entry.getKey(), histogram.getTotalCount(), throughput,
+                    millis(histogram, 50.0), millis(histogram, 95.0), millis(histogram, 99.0),
+                    millis(histogram, 99.9), histogram.getMaxValue() / 1000.0, statuses);
+        }
+        if (dropped > 0) {
+            System.out.printf("%d scenario starts dropped: more than loadtest.max-outstanding in flight%n", dropped);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", rate);
+        report.put("durationSeconds", durationSeconds);
+        report.put("dropped", dropped);
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] scenarioWeight = part.trim().split(":");
+            weights.put(scenarioWeight[0], Integer.parseInt(scenarioWeight[1]));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,30 @@
+package com.maternity.loadtest;
+
+import com.maternity.service.VerificationCodeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Hands out the same verification code to every number, so scripted phone logins can complete.
+ *
+ * Compiled only into the load-test classpath (-Ploadtest) and active only with the loadtest
+ * profile; a packaged application has no way to fix the code.
+ */
+@Service
+@Primary
+@Profile("loadtest")
+public class LoadTestVerificationCodeService extends VerificationCodeService {
+
+    private final String code;
+
+    public LoadTestVerificationCodeService(@Value("${loadtest.verification-code:246810}") String code) {
+        this.code = code;
+    }
+
+    @Override
+    protected String generateCode() {
+        return code;
+    }
+}
@@ -0,0 +1,195 @@
+package com.maternity.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The request mixes replayed by {@link LoadTestRunner}.
+ *
+ * Each scenario issues its requests asynchronously and records every request under its own
+ * operation name; multi-step scenarios also record the whole flow.
+ */
+class Scenarios {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] LOCATIONS = {"Beijing", "Shanghai", "Shenzhen", "Guangzhou", "Hangzhou"};
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final String apiUrl;
+    private final String catalogUrl;
+    private final String verificationCode;
+
+    private final AtomicLong phoneSequence = new AtomicLong(System.currentTimeMillis() % 1_000_000L * 1000);
+    private String motherToken;
+    private String adminToken;
+    private List<Long> matronIds = List.of();
+    private long adminOrderPages = 1;
+
+    Scenarios(HttpClient client, ObjectMapper objectMapper, LatencyRecorder recorder,
+              String apiUrl, String catalogUrl, String verificationCode) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.apiUrl = apiUrl;
+        this.catalogUrl = catalogUrl;
+        this.verificationCode = verificationCode;
+    }
+
+    /**
+     * Log in the mother and admin accounts used by the scenarios and load the matron ids
+     */
+    void prepare(String motherEmail, String motherPassword, String adminUsername, String adminPassword) throws Exception {
+        motherToken = login("/api/auth/login", Map.of("username", motherEmail, "password", motherPassword));
+        adminToken = login("/api/admin/auth/login", Map.of("username", adminUsername, "password", adminPassword));
+
+        JsonNode matrons = getJson(catalogUrl + "/api/matrons", null);
+        List<Long> ids = new ArrayList<>();
+        matrons.forEach(matron -> ids.add(matron.get("id").asLong()));
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No matron profiles to book, seed data first");
+        }
+        matronIds = ids;
+
+        JsonNode orders = getJson(apiUrl + "/api/admin/orders?size=20", adminToken);
+        adminOrderPages = Math.max(1, orders.path("totalPages").asLong(1));
+    }
+
+    CompletableFuture<?> run(String scenario, long intendedStartNanos, SplittableRandom random) {
+        return switch (scenario) {
+            case "browse" -> browse(intendedStartNanos, random);
+            case "phone-login" -> phoneLogin(intendedStartNanos);
+            case "create-order" -> createOrder(intendedStartNanos, random);
+            case "admin-paging" -> adminPaging(intendedStartNanos, random);
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+    }
+
+    /**
+     * Anonymous matron browsing: list, available, detail, location search and price filter
+     */
+    private CompletableFuture<?> browse(long intendedStartNanos, SplittableRandom random) {
+        int pick = random.nextInt(10);
+        if (pick < 3) {
+            return send("browse.list", intendedStartNanos, get(catalogUrl + "/api/matrons", null));
+        } else if (pick < 5) {
+            return send("browse.available", intendedStartNanos, get(catalogUrl + "/api/matrons/available", null));
+        } else if (pick < 8) {
+            long id = matronIds.get(random.nextInt(matronIds.size()));
+            return send("browse.detail", intendedStartNanos, get(catalogUrl + "/api/matrons/" + id, null));
+        } else if (pick < 9) {
+            String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            return send("browse.search", intendedStartNanos,
+                    get(catalogUrl + "/api/matrons/search?location=" + location, null));
+        } else {
+            int min = 8000 + random.nextInt(8) * 1000;
+            return send("browse.filter-price", intendedStartNanos,
+                    get(catalogUrl + "/api/matrons/filter/price?minPrice=" + min + "&maxPrice=" + (min + 5000), null));
+        }
+    }
+
+    /**
+     * Send a code to a fresh number (the per-number rate limit is 60 s), then verify and log in
+     */
+    private CompletableFuture<?> phoneLogin(long intendedStartNanos) {
+        String phoneNumber = String.format("139%08d", phoneSequence.incrementAndGet() % 100_000_000L);
+        HttpRequest sendCode = post(apiUrl + "/api/auth/phone/send-code", null,
+                Map.of("countryCode", "+86", "phoneNumber", phoneNumber));
+        return send("phone.send-code", intendedStartNanos, sendCode)
+                .thenCompose(response -> {
+                    if (response.statusCode() != 200) {
+                        recorder.record("phone-login", System.nanoTime() - intendedStartNanos, response.statusCode());
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    HttpRequest verify = post(apiUrl + "/api/auth/phone/verify", null, Map.of(
+                            "countryCode", "+86", "phoneNumber", phoneNumber,
+                            "verificationCode", verificationCode, "role", "MOTHER"));
+                    return send("phone.verify", System.nanoTime(), verify)
+                            .whenComplete((verified, error) -> recorder.record("phone-login",
+                                    System.nanoTime() - intendedStartNanos, verified != null ? verified.statusCode() : -1));
+                });
+    }
+
+    private CompletableFuture<?> createOrder(long intendedStartNanos, SplittableRandom random) {
+        LocalDate start = LocalDate.now().plusDays(random.nextInt(7, 180));
+        HttpRequest request = post(apiUrl + "/api/orders", motherToken, Map.of(
+                "matronProfileId", matronIds.get(random.nextInt(matronIds.size())),
+                "startDate", start.toString(),
+                "endDate", start.plusDays(random.nextInt(26, 43)).toString(),
+                "address", "Load test address",
+                "notes", "load test"));
+        return send("order.create", intendedStartNanos, request);
+    }
+
+    private CompletableFuture<?> adminPaging(long intendedStartNanos, SplittableRandom random) {
+        // Mostly the first pages, like the admin console
+        long page = random.nextInt(4) == 0 ? random.nextLong(adminOrderPages) : random.nextInt(3);
+        if (random.nextBoolean()) {
+            return send("admin.orders-page", intendedStartNanos,
+                    get(apiUrl + "/api/admin/orders?page=" + page + "&size=20", adminToken));
+        }
+        return send("admin.users-page", intendedStartNanos,
+                get(apiUrl + "/api/admin/users?page=" + random.nextInt(3) + "&size=20", adminToken));
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(String operation, long startNanos, HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) ->
+                        recorder.record(operation, System.nanoTime() - startNanos,
+                                response != null ? response.statusCode() : -1));
+    }
+
+    private String login(String path, Map<String, String> credentials) throws Exception {
+        HttpResponse<byte[]> response = client.send(post(apiUrl + path, null, credentials),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login to " + path + " failed with HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private JsonNode getJson(String url, String token) throws Exception {
+        HttpResponse<byte[]> response = client.send(get(url, token), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " failed with HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest get(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String url, String token, Map<String, ?> body) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            if (token != null) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder.build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
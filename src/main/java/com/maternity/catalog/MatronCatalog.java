@@ -0,0 +1,241 @@
+package com.maternity.catalog;
+
+import com.maternity.datasource.ReadWriteRoutingDataSource;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.event.EntityChangeEvent;
+import com.maternity.model.MatronProfile;
+import com.maternity.model.User;
+import com.maternity.repository.MatronProfileRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory, read-only view of all matron profiles for the public browsing endpoints.
+ *
+ * Loaded once the application is ready and kept current from committed
+ * {@link EntityChangeEvent}s, so reads never touch the database or the connection pool.
+ *
+ * Changes are applied on a small pool of its own rather than on the request thread that
+ * committed them, so a write never holds a second connection for the re-read or waits for the
+ * listeners. The changes of one profile are applied one at a time in the order they arrived,
+ * so listeners see its versions in that order and each previous is the one they last saw;
+ * different profiles are applied in parallel.
+ */
+@Component
+public class MatronCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(MatronCatalog.class);
+
+    private final MatronProfileRepository matronProfileRepository;
+    private final ObjectProvider<MatronCatalogListener> listeners;
+    private final TransactionTemplate readTransaction;
+    private final int refreshThreads;
+
+    // Ordered by profile id, same as the repository's findAll()
+    private final NavigableMap<Long, MatronProfileDTO> matrons = new ConcurrentSkipListMap<>();
+    // Profile of each matron user, so user changes don't scan the catalog
+    private final Map<Long, Long> profileIdsByUserId = new ConcurrentHashMap<>();
+    // Last queued change of each profile with changes pending; the next one runs after it
+    private final Map<Long, CompletableFuture<Void>> pendingChanges = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+    private ExecutorService refreshExecutor;
+
+    public MatronCatalog(MatronProfileRepository matronProfileRepository,
+                         ObjectProvider<MatronCatalogListener> listeners,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${catalog.refresh-threads:2}") int refreshThreads) {
+        this.matronProfileRepository = matronProfileRepository;
+        this.listeners = listeners;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.refreshThreads = refreshThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger count = new AtomicInteger();
+        refreshExecutor = Executors.newFixedThreadPool(refreshThreads, runnable -> {
+            Thread thread = new Thread(runnable, "matron-catalog-refresh-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Reload every profile from the database
+     */
+    public void reload() {
+        // From the primary, as changes are only applied on top of what is loaded here
+        List<MatronProfileDTO> all = ReadWriteRoutingDataSource.onPrimary(() -> readTransaction.execute(status ->
+                matronProfileRepository.findAll().stream()
+                        .map(MatronProfileDTO::fromEntity)
+                        .collect(Collectors.toList())));
+
+        Map<Long, MatronProfileDTO> byId = all.stream()
+                .collect(Collectors.toMap(MatronProfileDTO::getId, matron -> matron));
+        Map<Long, Long> byUserId = all.stream()
+                .collect(Collectors.toMap(MatronProfileDTO::getUserId, MatronProfileDTO::getId));
+        matrons.putAll(byId);
+        matrons.keySet().retainAll(byId.keySet());
+        profileIdsByUserId.putAll(byUserId);
+        profileIdsByUserId.entrySet().retainAll(byUserId.entrySet());
+        loaded = true;
+
+        log.info("Matron catalog loaded with {} profiles", matrons.size());
+        listeners.orderedStream().forEach(listener -> listener.onCatalogLoaded(all));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        if (!loaded) {
+            return;
+        }
+
+        if (event.isFor(MatronProfile.class)) {
+            if (event.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+                queue(event.getEntityId(), () -> remove(event.getEntityId()));
+            } else {
+                queue(event.getEntityId(), () -> refresh(event.getEntityId()));
+            }
+        } else if (event.isFor(User.class)) {
+            // Name and avatar of a matron come from the user row
+            Long profileId = profileIdsByUserId.get(event.getEntityId());
+            if (profileId != null) {
+                queue(profileId, () -> refresh(profileId));
+            }
+        }
+    }
+
+    /**
+     * Run a change of the profile on the refresh pool once its earlier changes are applied
+     */
+    private void queue(Long profileId, Runnable change) {
+        CompletableFuture<Void> queued = pendingChanges.compute(profileId, (id, last) ->
+                (last != null ? last : CompletableFuture.<Void>completedFuture(null))
+                        .thenRunAsync(() -> apply(profileId, change), refreshExecutor));
+        queued.whenComplete((result, error) -> pendingChanges.remove(profileId, queued));
+    }
+
+    private void apply(Long profileId, Runnable change) {
+        try {
+            change.run();
+        } catch (RuntimeException e) {
+            // Later changes of the profile still run, and re-read it in full
+            log.error("Matron catalog could not apply a change of profile {}", profileId, e);
+        }
+    }
+
+    /**
+     * Reload a single profile from the database and notify the listeners
+     */
+    private void refresh(Long profileId) {
+        // From the primary: a replica may not have the change yet, and nothing would re-read it
+        Optional<MatronProfileDTO> current = ReadWriteRoutingDataSource.onPrimary(() -> readTransaction.execute(status ->
+                matronProfileRepository.findById(profileId).map(MatronProfileDTO::fromEntity)));
+
+        if (current == null || current.isEmpty()) {
+            remove(profileId);
+            return;
+        }
+
+        MatronProfileDTO previous = matrons.put(profileId, current.get());
+        if (previous != null && !previous.getUserId().equals(current.get().getUserId())) {
+            profileIdsByUserId.remove(previous.getUserId(), profileId);
+        }
+        profileIdsByUserId.put(current.get().getUserId(), profileId);
+        log.debug("Matron catalog refreshed profile {}", profileId);
+        listeners.orderedStream().forEach(listener -> listener.onMatronUpdated(previous, current.get()));
+    }
+
+    private void remove(Long profileId) {
+        MatronProfileDTO previous = matrons.remove(profileId);
+        if (previous != null) {
+            profileIdsByUserId.remove(previous.getUserId(), profileId);
+            log.debug("Matron catalog removed profile {}", profileId);
+            listeners.orderedStream().forEach(listener -> listener.onMatronRemoved(previous));
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return matrons.size();
+    }
+
+    public List<MatronProfileDTO> getAll() {
+        return new ArrayList<>(matrons.values());
+    }
+
+    /**
+     * Every profile, read from the live catalog without copying it first
+     */
+    public Stream<MatronProfileDTO> stream() {
+        return matrons.values().stream();
+    }
+
+    public Optional<MatronProfileDTO> getById(Long id) {
+        return Optional.ofNullable(matrons.get(id));
+    }
+
+    public Optional<MatronProfileDTO> findByUserId(Long userId) {
+        Long profileId = profileIdsByUserId.get(userId);
+        return profileId == null ? Optional.empty() : getById(profileId);
+    }
+
+    public List<MatronProfileDTO> getAvailable() {
+        return matrons.values().stream()
+                .filter(matron -> Boolean.TRUE.equals(matron.getIsAvailable()))
+                .collect(Collectors.toList());
+    }
+
+    public List<MatronProfileDTO> searchByLocation(String location) {
+        return matrons.values().stream()
+                .filter(matron -> matron.getLocation() != null && matron.getLocation().contains(location))
+                .collect(Collectors.toList());
+    }
+
+    public List<MatronProfileDTO> filterByPriceRange(Double minPrice, Double maxPrice) {
+        return matrons.values().stream()
+                .filter(matron -> matron.getPricePerMonth() != null
+                        && matron.getPricePerMonth() >= minPrice
+                        && matron.getPricePerMonth() <= maxPrice)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,276 @@
+package com.maternity.catalog;
+
+import com.maternity.exception.GlobalExceptionHandler.ErrorResponse;
+import com.maternity.model.GeoPoint;
+import com.maternity.service.MatronSyncService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking handlers for the public matron browsing endpoints.
+ *
+ * Serves the same paths and JSON as {@code MatronController}, but straight from the
+ * in-memory {@link MatronCatalog}, so requests never wait on a database connection. The
+ * one exception is the delta sync, which reads change versions the catalog does not hold
+ * and so runs on the bounded elastic scheduler instead of the event loop.
+ */
+@Component
+public class MatronCatalogHandler {
+
+    private final MatronCatalog matronCatalog;
+    private final MatronTypeahead matronTypeahead;
+    private final MatronSkillFilter matronSkillFilter;
+    private final RegionTree regionTree;
+    private final MatronGeoIndex matronGeoIndex;
+    private final MatronLeaderboards matronLeaderboards;
+    private final MatronSyncService matronSyncService;
+
+    public MatronCatalogHandler(MatronCatalog matronCatalog, MatronTypeahead matronTypeahead,
+                                MatronSkillFilter matronSkillFilter, RegionTree regionTree,
+                                MatronGeoIndex matronGeoIndex, MatronLeaderboards matronLeaderboards,
+                                MatronSyncService matronSyncService) {
+        this.matronCatalog = matronCatalog;
+        this.matronTypeahead = matronTypeahead;
+        this.matronSkillFilter = matronSkillFilter;
+        this.regionTree = regionTree;
+        this.matronGeoIndex = matronGeoIndex;
+        this.matronLeaderboards = matronLeaderboards;
+        this.matronSyncService = matronSyncService;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/matrons", this::getAllMatrons)
+                .GET("/api/matrons/available", this::getAvailableMatrons)
+                .GET("/api/matrons/search", this::searchByLocation)
+                .GET("/api/matrons/filter/price", this::filterByPriceRange)
+                .GET("/api/matrons/filter/skills", this::filterBySkills)
+                .GET("/api/matrons/filter/region", this::filterByRegion)
+                .GET("/api/matrons/regions", this::getRegionFacets)
+                .GET("/api/matrons/nearby", this::findNearby)
+                .GET("/api/matrons/top", this::getTopMatrons)
+                .GET("/api/matrons/suggest", this::suggest)
+                .GET("/api/matrons/changes", this::getChanges)
+                .GET("/api/matrons/{id}", this::getMatronById)
+                .build();
+    }
+
+    public Mono<ServerResponse> getAllMatrons(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+        return ok(matronCatalog.getAll());
+    }
+
+    public Mono<ServerResponse> getMatronById(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        Long id;
+        try {
+            id = Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid matron id: " + request.pathVariable("id"));
+        }
+
+        return matronCatalog.getById(id)
+                .map(this::ok)
+                .orElseGet(() -> error(HttpStatus.NOT_FOUND, "Matron not found with id: " + id));
+    }
+
+    public Mono<ServerResponse> getAvailableMatrons(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+        return ok(matronCatalog.getAvailable());
+    }
+
+    public Mono<ServerResponse> searchByLocation(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        Optional<String> location = request.queryParam("location");
+        if (location.isEmpty()) {
+            return missingParameter("location");
+        }
+        return ok(matronCatalog.searchByLocation(location.get()));
+    }
+
+    public Mono<ServerResponse> filterByPriceRange(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        Optional<String> minPrice = request.queryParam("minPrice");
+        Optional<String> maxPrice = request.queryParam("maxPrice");
+        if (minPrice.isEmpty()) {
+            return missingParameter("minPrice");
+        }
+        if (maxPrice.isEmpty()) {
+            return missingParameter("maxPrice");
+        }
+
+        try {
+            return ok(matronCatalog.filterByPriceRange(Double.valueOf(minPrice.get()), Double.valueOf(maxPrice.get())));
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "minPrice and maxPrice must be numbers");
+        }
+    }
+
+    public Mono<ServerResponse> filterBySkills(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+        return ok(matronSkillFilter.filter(listParam(request, "skills"), listParam(request, "certifications")));
+    }
+
+    public Mono<ServerResponse> filterByRegion(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        Optional<String> province = request.queryParam("province");
+        if (province.isEmpty()) {
+            return missingParameter("province");
+        }
+        return ok(regionTree.matrons(province.get(), request.queryParam("city").orElse(null),
+                request.queryParam("district").orElse(null)));
+    }
+
+    public Mono<ServerResponse> getRegionFacets(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        Optional<String> province = request.queryParam("province");
+        Optional<String> city = request.queryParam("city");
+        return regionTree.facets(province.orElse(null), city.orElse(null))
+                .map(this::ok)
+                .orElseGet(() -> error(HttpStatus.NOT_FOUND,
+                        "No matrons in region: " + province.orElse("") + city.map(name -> " / " + name).orElse("")));
+    }
+
+    public Mono<ServerResponse> findNearby(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        // NumberFormatException is an IllegalArgumentException too
+        try {
+            GeoPoint point = MatronGeoIndex.searchPoint(doubleParam(request, "lat"), doubleParam(request, "lng"),
+                    request.queryParam("near").orElse(null));
+            return ok(matronGeoIndex.nearby(point.getLatitude(), point.getLongitude(),
+                    Double.parseDouble(request.queryParam("radiusKm").orElse("10")),
+                    doubleParam(request, "minPrice"), doubleParam(request, "maxPrice"),
+                    request.queryParam("available").map(Boolean::valueOf).orElse(null),
+                    Integer.parseInt(request.queryParam("limit").orElse("20"))));
+        } catch (IllegalArgumentException e) {
+            return error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    public Mono<ServerResponse> getTopMatrons(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        MatronLeaderboards.Ranking ranking;
+        int limit;
+        try {
+            ranking = MatronLeaderboards.Ranking.fromName(request.queryParam("by").orElse("rating"));
+            limit = Integer.parseInt(request.queryParam("limit").orElse("10"));
+        } catch (IllegalArgumentException e) {
+            return error(HttpStatus.BAD_REQUEST, "by must be rating, experience or value and limit a number");
+        }
+        return ok(matronLeaderboards.top(ranking, request.queryParam("province").orElse(null),
+                request.queryParam("city").orElse(null), limit));
+    }
+
+    public Mono<ServerResponse> suggest(ServerRequest request) {
+        if (!matronCatalog.isLoaded()) {
+            return notReady();
+        }
+
+        Optional<String> prefix = request.queryParam("q");
+        if (prefix.isEmpty()) {
+            return missingParameter("q");
+        }
+
+        MatronTypeahead.Field field;
+        int limit;
+        try {
+            field = MatronTypeahead.Field.fromName(request.queryParam("field").orElse("location"));
+            limit = Integer.parseInt(request.queryParam("limit").orElse("10"));
+        } catch (IllegalArgumentException e) {
+            return error(HttpStatus.BAD_REQUEST, "field must be location or skill and limit a number");
+        }
+        return ok(matronTypeahead.suggest(field, prefix.get(), Math.max(1, Math.min(limit, MatronTypeahead.MAX_SUGGESTIONS))));
+    }
+
+    public Mono<ServerResponse> getChanges(ServerRequest request) {
+        long since;
+        int limit;
+        try {
+            since = Long.parseLong(request.queryParam("since").orElse("0"));
+            limit = Integer.parseInt(request.queryParam("limit").orElse("500"));
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "since and limit must be numbers");
+        }
+
+        return Mono.fromCallable(() -> matronSyncService.getChanges(since, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> error(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    /**
+     * @throws NumberFormatException if present but not a number
+     */
+    private static Double doubleParam(ServerRequest request, String name) {
+        return request.queryParam(name).map(Double::valueOf).orElse(null);
+    }
+
+    /**
+     * Values of a repeatable, comma-separated parameter, split the way Spring MVC binds a List
+     */
+    private static List<String> listParam(ServerRequest request, String name) {
+        return request.queryParams().getOrDefault(name, List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .collect(Collectors.toList());
+    }
+
+    private Mono<ServerResponse> ok(Object body) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+
+    private Mono<ServerResponse> missingParameter(String name) {
+        return error(HttpStatus.BAD_REQUEST, "Required request parameter '" + name + "' is not present");
+    }
+
+    private Mono<ServerResponse> notReady() {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "Matron catalog is loading, please retry");
+    }
+
+    private Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.maternity.catalog;
+
+import com.maternity.dto.MatronProfileDTO;
+
+import java.util.Collection;
+
+/**
+ * Receives {@link MatronCatalog} changes so derived in-memory indexes can update incrementally.
+ */
+public interface MatronCatalogListener {
+
+    /**
+     * Called after the whole catalog has been (re)loaded from the database
+     */
+    default void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+    }
+
+    /**
+     * Called after a profile was added or changed; previous is null for new profiles
+     */
+    default void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+    }
+
+    /**
+     * Called after a profile was removed from the catalog
+     */
+    default void onMatronRemoved(MatronProfileDTO previous) {
+    }
+}
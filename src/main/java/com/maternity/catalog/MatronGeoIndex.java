@@ -0,0 +1,164 @@
+package com.maternity.catalog;
+
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.dto.NearbyMatronDTO;
+import com.maternity.geo.DistrictGazetteer;
+import com.maternity.geo.GeoHash;
+import com.maternity.model.GeoPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Radius search over matrons with coordinates, on a geohash grid.
+ *
+ * Matrons are kept sorted by full-precision geohash, so every coarser cell is a contiguous
+ * key range. A query reads at most nine cells: the one holding the search point and its
+ * neighbours, at the finest precision whose cells are at least the radius across. Only the
+ * matrons found there have their exact distance computed.
+ */
+@Component
+public class MatronGeoIndex implements MatronCatalogListener {
+
+    public static final double MAX_RADIUS_KM = 200;
+    public static final int MAX_RESULTS = 100;
+
+    private final MatronCatalog matronCatalog;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Set<Long>> cells = new TreeMap<>();
+    private final Map<Long, String> hashById = new HashMap<>();
+
+    public MatronGeoIndex(MatronCatalog matronCatalog) {
+        this.matronCatalog = matronCatalog;
+    }
+
+    @Override
+    public void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            hashById.clear();
+            matrons.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        lock.writeLock().lock();
+        try {
+            remove(current.getId());
+            put(current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronRemoved(MatronProfileDTO previous) {
+        lock.writeLock().lock();
+        try {
+            remove(previous.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the given coordinates, or else the location of the near text
+     * @throws IllegalArgumentException if neither is given or the text names no known place
+     */
+    public static GeoPoint searchPoint(Double latitude, Double longitude, String near) {
+        if (latitude != null && longitude != null) {
+            return new GeoPoint(latitude, longitude);
+        }
+        if (near == null || near.isBlank()) {
+            throw new IllegalArgumentException("Either lat and lng or near is required");
+        }
+        GeoPoint point = DistrictGazetteer.locate(near);
+        if (point == null) {
+            throw new IllegalArgumentException("Unknown place: " + near);
+        }
+        return point;
+    }
+
+    /**
+     * @return matrons within radiusKm of the point, nearest first, optionally limited to a
+     *         price range and to available matrons
+     * @throws IllegalArgumentException for coordinates off the globe or a radius outside
+     *         (0, {@value #MAX_RADIUS_KM}] km
+     */
+    public List<NearbyMatronDTO> nearby(double latitude, double longitude, double radiusKm,
+                                        Double minPrice, Double maxPrice, Boolean available, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException("radiusKm must be greater than 0 and at most " + MAX_RADIUS_KM);
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        int precision = GeoHash.precisionFor(radiusKm, latitude);
+        lock.readLock().lock();
+        try {
+            for (String cell : GeoHash.cellsAround(latitude, longitude, precision)) {
+                cells.subMap(cell, true, cell + Character.MAX_VALUE, false).values().forEach(candidates::addAll);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<NearbyMatronDTO> nearby = new ArrayList<>();
+        for (Long id : candidates) {
+            matronCatalog.getById(id)
+                    .filter(matron -> minPrice == null || matron.getPricePerMonth() >= minPrice)
+                    .filter(matron -> maxPrice == null || matron.getPricePerMonth() <= maxPrice)
+                    .filter(matron -> available == null || available.equals(matron.getIsAvailable()))
+                    .filter(matron -> matron.getLatitude() != null && matron.getLongitude() != null)
+                    .ifPresent(matron -> {
+                        double distance = GeoPoint.distanceKm(latitude, longitude,
+                                matron.getLatitude(), matron.getLongitude());
+                        if (distance <= radiusKm) {
+                            nearby.add(new NearbyMatronDTO(matron, Math.round(distance * 10) / 10.0));
+                        }
+                    });
+        }
+        return nearby.stream()
+                .sorted(Comparator.comparing(NearbyMatronDTO::getDistanceKm)
+                        .thenComparing(result -> result.getMatron().getId()))
+                .limit(Math.max(1, Math.min(limit, MAX_RESULTS)))
+                .collect(Collectors.toList());
+    }
+
+    private void put(MatronProfileDTO matron) {
+        if (matron.getLatitude() == null || matron.getLongitude() == null) {
+            return;
+        }
+        String hash = GeoHash.encode(matron.getLatitude(), matron.getLongitude(), GeoHash.MAX_PRECISION);
+        cells.computeIfAbsent(hash, key -> new HashSet<>()).add(matron.getId());
+        hashById.put(matron.getId(), hash);
+    }
+
+    private void remove(Long matronId) {
+        String hash = hashById.remove(matronId);
+        if (hash != null) {
+            Set<Long> ids = cells.get(hash);
+            ids.remove(matronId);
+            if (ids.isEmpty()) {
+                cells.remove(hash);
+            }
+        }
+    }
+}
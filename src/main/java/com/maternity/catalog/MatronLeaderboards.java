@@ -0,0 +1,184 @@
+package com.maternity.catalog;
+
+import com.maternity.dto.LeaderboardEntryDTO;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.model.Region;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Top matrons by rating, experience and value for money, country-wide and per province and city.
+ *
+ * Every ranking of every region is a skip list ordered best first, updated one profile at a
+ * time as the catalog changes, so the top K is the first K entries. Updates are serialized;
+ * reads take no lock and may briefly miss a profile that is being re-scored. A reload builds
+ * new boards and swaps them in whole, so reads never see them half filled.
+ */
+@Component
+public class MatronLeaderboards implements MatronCatalogListener {
+
+    public static final int MAX_RESULTS = 50;
+
+    public enum Ranking {
+        RATING, EXPERIENCE, VALUE;
+
+        /**
+         * @throws IllegalArgumentException unless the name is rating, experience or value, in any case
+         */
+        public static Ranking fromName(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final String GLOBAL = "";
+
+    private final MatronCatalog matronCatalog;
+    private final double priorRating;
+    private final double priorReviews;
+
+    // Ranking and region key -> entries, best first
+    private volatile Map<String, NavigableSet<Entry>> boards = new ConcurrentHashMap<>();
+
+    public MatronLeaderboards(MatronCatalog matronCatalog,
+                              @Value("${catalog.leaderboard.prior-rating:4.5}") double priorRating,
+                              @Value("${catalog.leaderboard.prior-reviews:10}") double priorReviews) {
+        this.matronCatalog = matronCatalog;
+        this.priorRating = priorRating;
+        this.priorReviews = priorReviews;
+    }
+
+    @Override
+    public synchronized void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        Map<String, NavigableSet<Entry>> loaded = new ConcurrentHashMap<>();
+        matrons.forEach(matron -> update(loaded, matron, true));
+        boards = loaded;
+    }
+
+    @Override
+    public synchronized void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        if (previous != null) {
+            update(boards, previous, false);
+        }
+        update(boards, current, true);
+    }
+
+    @Override
+    public synchronized void onMatronRemoved(MatronProfileDTO previous) {
+        update(boards, previous, false);
+    }
+
+    /**
+     * @return up to limit best matrons of the region (the whole country when province is
+     *         null; city narrows a province). Empty if city is given without province.
+     */
+    public List<LeaderboardEntryDTO> top(Ranking ranking, String province, String city, int limit) {
+        List<LeaderboardEntryDTO> top = new ArrayList<>();
+        if (province == null && city != null) {
+            return top;
+        }
+        Region region = Region.of(province, city, null);
+        NavigableSet<Entry> board = boards.get(key(ranking, region(region.getProvince(), region.getCity())));
+        if (board == null) {
+            return top;
+        }
+        int max = Math.max(1, Math.min(limit, MAX_RESULTS));
+        for (Entry entry : board) {
+            if (top.size() == max) {
+                break;
+            }
+            int rank = top.size() + 1;
+            matronCatalog.getById(entry.matronId)
+                    .ifPresent(matron -> top.add(new LeaderboardEntryDTO(rank, round(entry.score), matron)));
+        }
+        return top;
+    }
+
+    /**
+     * Rating pulled towards the prior until the matron has enough reviews, so one 5-star
+     * review does not outrank fifty 4.9s
+     */
+    double adjustedRating(MatronProfileDTO matron) {
+        double reviews = matron.getReviewCount() != null ? matron.getReviewCount() : 0;
+        double rating = matron.getRating() != null ? matron.getRating() : 0;
+        return (priorRating * priorReviews + rating * reviews) / (priorReviews + reviews);
+    }
+
+    private double score(Ranking ranking, MatronProfileDTO matron) {
+        switch (ranking) {
+            case EXPERIENCE:
+                return matron.getYearsOfExperience() != null ? matron.getYearsOfExperience() : 0;
+            case VALUE:
+                // Adjusted rating per 10,000 a month
+                return matron.getPricePerMonth() != null && matron.getPricePerMonth() > 0
+                        ? adjustedRating(matron) / (matron.getPricePerMonth() / 10000) : 0;
+            default:
+                return adjustedRating(matron);
+        }
+    }
+
+    private void update(Map<String, NavigableSet<Entry>> boards, MatronProfileDTO matron, boolean present) {
+        List<String> regions = new ArrayList<>(3);
+        regions.add(GLOBAL);
+        if (matron.getProvince() != null) {
+            regions.add(region(matron.getProvince(), null));
+            if (matron.getCity() != null) {
+                regions.add(region(matron.getProvince(), matron.getCity()));
+            }
+        }
+
+        for (Ranking ranking : Ranking.values()) {
+            Entry entry = new Entry(score(ranking, matron), matron.getId());
+            for (String region : regions) {
+                String key = key(ranking, region);
+                if (present) {
+                    boards.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(Entry.BEST_FIRST)).add(entry);
+                } else {
+                    NavigableSet<Entry> board = boards.get(key);
+                    if (board != null) {
+                        board.remove(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String region(String province, String city) {
+        if (province == null) {
+            return GLOBAL;
+        }
+        return city == null ? province : province + "/" + city;
+    }
+
+    private static String key(Ranking ranking, String region) {
+        return ranking.name() + ":" + region;
+    }
+
+    private static double round(double score) {
+        return Math.round(score * 1000) / 1000.0;
+    }
+
+    private static final class Entry {
+
+        static final Comparator<Entry> BEST_FIRST = Comparator.comparingDouble((Entry entry) -> entry.score)
+                .reversed()
+                .thenComparingLong(entry -> entry.matronId);
+
+        final double score;
+        final long matronId;
+
+        Entry(double score, long matronId) {
+            this.score = score;
+            this.matronId = matronId;
+        }
+    }
+}
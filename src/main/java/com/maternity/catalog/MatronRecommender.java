@@ -0,0 +1,452 @@
+package com.maternity.catalog;
+
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.dto.RecommendedMatronDTO;
+import com.maternity.model.GeoPoint;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Scores matrons against a mother's preferences from precomputed feature vectors.
+ *
+ * Features are kept column by column in primitive arrays, one row per matron, and updated
+ * one profile at a time as the catalog changes. A recommendation is a scan over the rows in
+ * chunks, scored in parallel, each chunk keeping its own top K before they are merged.
+ *
+ * Notified ahead of the other catalog listeners, so those can score a changed matron against
+ * its updated row.
+ */
+@Component
+@Order(0)
+public class MatronRecommender implements MatronCatalogListener {
+
+    public static final int MAX_RESULTS = 50;
+
+    private static final int CHUNK_ROWS = 4096;
+    private static final int CHANGE_LOG_SIZE = 10000;
+
+    private static final float SKILL_WEIGHT = 0.35f;
+    private static final float PROXIMITY_WEIGHT = 0.25f;
+    private static final float AVAILABILITY_WEIGHT = 0.2f;
+    private static final float RATING_WEIGHT = 0.1f;
+    private static final float PRICE_WEIGHT = 0.1f;
+
+    // Proximity score halves at this distance
+    private static final double PROXIMITY_KM = 20;
+    // A matron free within this many days after the mother needs her still scores half
+    private static final int AVAILABILITY_GRACE_DAYS = 14;
+    // Upper bounds of the monthly price bands below the top one
+    private static final double[] PRICE_BANDS = {10000, 15000, 20000};
+
+    private static final long AVAILABLE_NOW = Long.MIN_VALUE;
+    private static final long NOT_AVAILABLE = Long.MAX_VALUE;
+
+    private final MatronCatalog matronCatalog;
+    private final MatronLeaderboards matronLeaderboards;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Bumped on every catalog change, so a recommendation can tell the catalog changed while
+    // it was computed
+    private final AtomicLong version = new AtomicLong();
+    // Bumped when a skill is seen for the first time: it can change which skills free text
+    // asks for, and so every score
+    private final AtomicLong skillsVersion = new AtomicLong();
+    // Version of each recent change -> the matron changed or removed, so a recommendation
+    // computed at some version can tell which matrons changed since
+    private final NavigableMap<Long, Long> changes = new TreeMap<>();
+    // Changes up to this version are no longer all in the log
+    private long changesFrom;
+
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    // Skill id -> lower-cased name, to find the skills a mother's free text asks for
+    private final Map<Integer, String> skillNames = new HashMap<>();
+    private int size;
+    private long[] ids = new long[16];
+    // Confidence-adjusted rating / 5
+    private float[] ratings = new float[16];
+    // NaN when the location is unknown
+    private float[] latitudes = new float[16];
+    private float[] longitudes = new float[16];
+    // Epoch day from which the matron is free, or AVAILABLE_NOW / NOT_AVAILABLE
+    private long[] availableFrom = new long[16];
+    private byte[] priceBands = new byte[16];
+    // Skill bitmap of each row, skillStride words per row
+    private long[] skillWords = new long[16];
+    private int skillStride = 1;
+
+    public MatronRecommender(MatronCatalog matronCatalog, MatronLeaderboards matronLeaderboards) {
+        this.matronCatalog = matronCatalog;
+        this.matronLeaderboards = matronLeaderboards;
+    }
+
+    @Override
+    public void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        lock.writeLock().lock();
+        try {
+            rowById.clear();
+            skillNames.clear();
+            size = 0;
+            matrons.forEach(this::put);
+            changes.clear();
+            changesFrom = version.incrementAndGet();
+            skillsVersion.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        lock.writeLock().lock();
+        try {
+            put(current);
+            logChange(version.incrementAndGet(), current.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronRemoved(MatronProfileDTO previous) {
+        lock.writeLock().lock();
+        try {
+            remove(previous.getId());
+            logChange(version.incrementAndGet(), previous.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public long getSkillsVersion() {
+        return skillsVersion.get();
+    }
+
+    /**
+     * Matrons changed or removed after the given version
+     *
+     * @return their ids, or empty if the log no longer reaches back to that version
+     */
+    public Optional<Set<Long>> changedSince(long since) {
+        lock.readLock().lock();
+        try {
+            if (since < changesFrom) {
+                return Optional.empty();
+            }
+            return Optional.of(new HashSet<>(changes.tailMap(since, false).values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void logChange(long changeVersion, Long matronId) {
+        changes.put(changeVersion, matronId);
+        if (changes.size() > CHANGE_LOG_SIZE) {
+            changesFrom = changes.pollFirstEntry().getKey();
+        }
+    }
+
+    /**
+     * @param preferences free text naming wanted skills, such as special needs
+     * @param home        where the mother lives, or null if unknown
+     * @param needFrom    the day the mother needs a matron from
+     * @param budget      monthly budget, or null to favour cheaper matrons
+     * @return up to limit matrons, best match first
+     */
+    public List<RecommendedMatronDTO> recommend(String preferences, GeoPoint home, LocalDate needFrom,
+                                                Double budget, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_RESULTS));
+        long[] rowIds;
+        float[] scores;
+        lock.readLock().lock();
+        try {
+            Query query = new Query(wantedSkills(preferences), home, needFrom.toEpochDay(),
+                    budget != null ? priceBand(budget) : -1);
+            int chunks = (size + CHUNK_ROWS - 1) / CHUNK_ROWS;
+            TopK top = IntStream.range(0, chunks).parallel()
+                    .mapToObj(chunk -> scan(query, chunk * CHUNK_ROWS, Math.min(size, (chunk + 1) * CHUNK_ROWS), max))
+                    .reduce(TopK::merge)
+                    .orElseGet(() -> new TopK(max));
+            rowIds = new long[top.size];
+            scores = Arrays.copyOf(top.scores, top.size);
+            for (int i = 0; i < top.size; i++) {
+                rowIds[i] = ids[top.rows[i]];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<RecommendedMatronDTO> recommended = new ArrayList<>(rowIds.length);
+        for (int i = 0; i < rowIds.length; i++) {
+            double score = round(scores[i]);
+            matronCatalog.getById(rowIds[i]).ifPresent(matron -> recommended.add(new RecommendedMatronDTO(matron, score)));
+        }
+        return recommended;
+    }
+
+    /**
+     * Score of one matron for the same arguments as {@link #recommend}, rounded the same way
+     *
+     * @return the score, or empty if the matron is not in the catalog
+     */
+    public OptionalDouble score(String preferences, GeoPoint home, LocalDate needFrom, Double budget, Long matronId) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowById.get(matronId);
+            if (row == null) {
+                return OptionalDouble.empty();
+            }
+            Query query = new Query(wantedSkills(preferences), home, needFrom.toEpochDay(),
+                    budget != null ? priceBand(budget) : -1);
+            return OptionalDouble.of(round(score(query, row)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double round(float score) {
+        return Math.round(score * 1000) / 1000.0;
+    }
+
+    private TopK scan(Query query, int from, int to, int k) {
+        TopK top = new TopK(k);
+        for (int row = from; row < to; row++) {
+            top.offer(row, ids[row], score(query, row));
+        }
+        return top;
+    }
+
+    private float score(Query query, int row) {
+        float skills = 0;
+        if (query.wantedCount > 0) {
+            int matched = 0;
+            int words = Math.min(skillStride, query.wantedSkills.length);
+            for (int word = 0; word < words; word++) {
+                matched += Long.bitCount(skillWords[row * skillStride + word] & query.wantedSkills[word]);
+            }
+            skills = (float) matched / query.wantedCount;
+        }
+
+        float proximity = 0;
+        if (query.home != null && !Float.isNaN(latitudes[row])) {
+            double distance = GeoPoint.distanceKm(query.home.getLatitude(), query.home.getLongitude(),
+                    latitudes[row], longitudes[row]);
+            proximity = (float) (1 / (1 + distance / PROXIMITY_KM));
+        }
+
+        float availability = 0;
+        if (availableFrom[row] <= query.needFromDay) {
+            availability = 1;
+        } else if (availableFrom[row] != NOT_AVAILABLE
+                && availableFrom[row] - query.needFromDay <= AVAILABILITY_GRACE_DAYS) {
+            availability = 0.5f;
+        }
+
+        float price;
+        if (query.budgetBand < 0) {
+            price = 1 - (float) priceBands[row] / PRICE_BANDS.length;
+        } else {
+            price = Math.max(0, 1 - 0.5f * Math.max(0, priceBands[row] - query.budgetBand));
+        }
+
+        return SKILL_WEIGHT * skills + PROXIMITY_WEIGHT * proximity + AVAILABILITY_WEIGHT * availability
+                + RATING_WEIGHT * ratings[row] + PRICE_WEIGHT * price;
+    }
+
+    /**
+     * Skills named in the text: the whole skill name, or its first word if that is at least
+     * four letters ("twins" asks for Twin Care)
+     */
+    private long[] wantedSkills(String preferences) {
+        long[] wanted = new long[skillStride];
+        if (preferences == null || preferences.isBlank()) {
+            return wanted;
+        }
+        String text = preferences.toLowerCase(Locale.ROOT);
+        skillNames.forEach((id, name) -> {
+            String firstWord = name.split("\\s+")[0];
+            if (text.contains(name) || (firstWord.length() >= 4 && text.contains(firstWord))) {
+                wanted[id >>> 6] |= 1L << id;
+            }
+        });
+        return wanted;
+    }
+
+    private static byte priceBand(double price) {
+        byte band = 0;
+        while (band < PRICE_BANDS.length && price > PRICE_BANDS[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    private void put(MatronProfileDTO matron) {
+        Integer existing = rowById.get(matron.getId());
+        int row;
+        if (existing != null) {
+            row = existing;
+        } else {
+            row = size++;
+            ensureCapacity(size);
+            rowById.put(matron.getId(), row);
+        }
+
+        int[] skillIds = matron.getSkillIds();
+        for (int i = 0; i < skillIds.length; i++) {
+            if (skillNames.put(skillIds[i], matron.getSkills().get(i).toLowerCase(Locale.ROOT)) == null) {
+                skillsVersion.incrementAndGet();
+            }
+            if ((skillIds[i] >>> 6) >= skillStride) {
+                widenSkills((skillIds[i] >>> 6) + 1);
+            }
+        }
+
+        ids[row] = matron.getId();
+        ratings[row] = (float) (matronLeaderboards.adjustedRating(matron) / 5);
+        boolean located = matron.getLatitude() != null && matron.getLongitude() != null;
+        latitudes[row] = located ? matron.getLatitude().floatValue() : Float.NaN;
+        longitudes[row] = located ? matron.getLongitude().floatValue() : Float.NaN;
+        if (Boolean.TRUE.equals(matron.getIsAvailable()) && matron.getAvailableFrom() == null) {
+            availableFrom[row] = AVAILABLE_NOW;
+        } else {
+            availableFrom[row] = matron.getAvailableFrom() != null ? matron.getAvailableFrom().toEpochDay() : NOT_AVAILABLE;
+        }
+        priceBands[row] = priceBand(matron.getPricePerMonth() != null ? matron.getPricePerMonth() : 0);
+        Arrays.fill(skillWords, row * skillStride, (row + 1) * skillStride, 0);
+        for (int id : skillIds) {
+            skillWords[row * skillStride + (id >>> 6)] |= 1L << id;
+        }
+    }
+
+    /**
+     * Moves the last row into the removed one's place
+     */
+    private void remove(Long matronId) {
+        Integer row = rowById.remove(matronId);
+        if (row == null) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            ratings[row] = ratings[last];
+            latitudes[row] = latitudes[last];
+            longitudes[row] = longitudes[last];
+            availableFrom[row] = availableFrom[last];
+            priceBands[row] = priceBands[last];
+            System.arraycopy(skillWords, last * skillStride, skillWords, row * skillStride, skillStride);
+            rowById.put(ids[row], row);
+        }
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(rows, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        ratings = Arrays.copyOf(ratings, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        availableFrom = Arrays.copyOf(availableFrom, capacity);
+        priceBands = Arrays.copyOf(priceBands, capacity);
+        skillWords = Arrays.copyOf(skillWords, capacity * skillStride);
+    }
+
+    /**
+     * Re-lays the skill bitmaps out with more words per row, for a skill id past the last word
+     */
+    private void widenSkills(int stride) {
+        long[] widened = new long[ids.length * stride];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(skillWords, row * skillStride, widened, row * stride, skillStride);
+        }
+        skillWords = widened;
+        skillStride = stride;
+    }
+
+    private static final class Query {
+
+        final long[] wantedSkills;
+        final int wantedCount;
+        final GeoPoint home;
+        final long needFromDay;
+        // -1 without a budget
+        final int budgetBand;
+
+        Query(long[] wantedSkills, GeoPoint home, long needFromDay, int budgetBand) {
+            this.wantedSkills = wantedSkills;
+            this.wantedCount = Arrays.stream(wantedSkills).map(Long::bitCount).mapToInt(count -> (int) count).sum();
+            this.home = home;
+            this.needFromDay = needFromDay;
+            this.budgetBand = budgetBand;
+        }
+    }
+
+    /**
+     * The k best rows seen, best first; ties go to the lower matron id
+     */
+    private static final class TopK {
+
+        final int[] rows;
+        final long[] matronIds;
+        final float[] scores;
+        int size;
+
+        TopK(int k) {
+            rows = new int[k];
+            matronIds = new long[k];
+            scores = new float[k];
+        }
+
+        void offer(int row, long matronId, float score) {
+            int k = rows.length;
+            if (size == k && !better(score, matronId, size - 1)) {
+                return;
+            }
+            int at = Math.min(size, k - 1);
+            while (at > 0 && better(score, matronId, at - 1)) {
+                rows[at] = rows[at - 1];
+                matronIds[at] = matronIds[at - 1];
+                scores[at] = scores[at - 1];
+                at--;
+            }
+            rows[at] = row;
+            matronIds[at] = matronId;
+            scores[at] = score;
+            size = Math.min(size + 1, k);
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.rows[i], other.matronIds[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        private boolean better(float score, long matronId, int index) {
+            return score > scores[index] || (score == scores[index] && matronId < matronIds[index]);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.maternity.catalog;
+
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.model.DictionaryTerm;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Filters the catalog by skills and certifications with one bitmap per dictionary entry.
+ *
+ * Bit n of a bitmap is set when the profile with id n has that skill or certification, so
+ * "has all of these" is an AND over a few bitmaps instead of a scan over every profile's
+ * string lists.
+ */
+@Component
+public class MatronSkillFilter implements MatronCatalogListener {
+
+    private final MatronCatalog matronCatalog;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Bitmaps skills = new Bitmaps(MatronProfileDTO::getSkills, MatronProfileDTO::getSkillIds);
+    private final Bitmaps certifications = new Bitmaps(MatronProfileDTO::getCertifications,
+            MatronProfileDTO::getCertificationIds);
+
+    public MatronSkillFilter(MatronCatalog matronCatalog) {
+        this.matronCatalog = matronCatalog;
+    }
+
+    @Override
+    public void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        lock.writeLock().lock();
+        try {
+            skills.clear();
+            certifications.clear();
+            matrons.forEach(matron -> update(matron, true));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                update(previous, false);
+            }
+            update(current, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronRemoved(MatronProfileDTO previous) {
+        lock.writeLock().lock();
+        try {
+            update(previous, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return matrons having every listed skill and certification, in profile id order; names
+     *         match regardless of case and spacing
+     */
+    public List<MatronProfileDTO> filter(Collection<String> skillNames, Collection<String> certificationNames) {
+        BitSet matches;
+        lock.readLock().lock();
+        try {
+            matches = skills.matchingAll(skillNames, null);
+            matches = certifications.matchingAll(certificationNames, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (matches == null) {
+            return matronCatalog.getAll();
+        }
+
+        List<MatronProfileDTO> result = new ArrayList<>(matches.cardinality());
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+            matronCatalog.getById((long) id).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    private void update(MatronProfileDTO matron, boolean present) {
+        if (matron.getId() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Profile id " + matron.getId() + " does not fit a bitmap index");
+        }
+        int bit = matron.getId().intValue();
+        skills.update(matron, bit, present);
+        certifications.update(matron, bit, present);
+    }
+
+    /**
+     * Bitmaps of one dictionary, keyed by entry id, plus the normalized names seen so far
+     */
+    private static final class Bitmaps {
+
+        final Function<MatronProfileDTO, List<String>> names;
+        final Function<MatronProfileDTO, int[]> ids;
+        final Map<String, Integer> idsByName = new HashMap<>();
+        final Map<Integer, BitSet> bitmaps = new HashMap<>();
+
+        Bitmaps(Function<MatronProfileDTO, List<String>> names, Function<MatronProfileDTO, int[]> ids) {
+            this.names = names;
+            this.ids = ids;
+        }
+
+        void update(MatronProfileDTO matron, int bit, boolean present) {
+            int[] termIds = ids.apply(matron);
+            List<String> termNames = names.apply(matron);
+            for (int i = 0; i < termIds.length; i++) {
+                if (present) {
+                    idsByName.put(DictionaryTerm.normalize(termNames.get(i)), termIds[i]);
+                    bitmaps.computeIfAbsent(termIds[i], id -> new BitSet()).set(bit);
+                } else {
+                    BitSet bitmap = bitmaps.get(termIds[i]);
+                    if (bitmap != null) {
+                        bitmap.clear(bit);
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return matches ANDed with the bitmap of every name, matches itself when no names
+         *         are given (null meaning no filter yet), or an empty set for an unknown name
+         */
+        BitSet matchingAll(Collection<String> wanted, BitSet matches) {
+            for (String name : wanted) {
+                if (name == null || name.isBlank()) {
+                    continue;
+                }
+                Integer id = idsByName.get(DictionaryTerm.normalize(name));
+                BitSet bitmap = id == null ? null : bitmaps.get(id);
+                if (bitmap == null) {
+                    return new BitSet();
+                }
+                if (matches == null) {
+                    matches = (BitSet) bitmap.clone();
+                } else {
+                    matches.and(bitmap);
+                }
+            }
+            return matches;
+        }
+
+        void clear() {
+            idsByName.clear();
+            bitmaps.clear();
+        }
+    }
+}
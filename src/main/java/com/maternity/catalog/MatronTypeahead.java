@@ -0,0 +1,241 @@
+package com.maternity.catalog;
+
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.dto.SuggestionDTO;
+import net.sourceforge.pinyin4j.PinyinHelper;
+import net.sourceforge.pinyin4j.format.HanyuPinyinCaseType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinOutputFormat;
+import net.sourceforge.pinyin4j.format.HanyuPinyinToneType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinVCharType;
+import net.sourceforge.pinyin4j.format.exception.BadHanyuPinyinOutputFormatCombination;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead suggestions for matron locations and skills, ranked by how many matrons have them.
+ *
+ * Each distinct location and skill is stored in a {@link PrefixTrie} under several keys: the
+ * whole value, the value from each later word (so "chaoyang" finds "Beijing, Chaoyang District")
+ * and, for Hanzi, the full pinyin and the pinyin initials of each of those. Counts follow
+ * catalog changes one profile at a time, and the trie keeps each prefix's best
+ * {@link #MAX_SUGGESTIONS} values ranked as they change.
+ */
+@Component
+public class MatronTypeahead implements MatronCatalogListener {
+
+    public static final int MAX_SUGGESTIONS = 50;
+
+    public enum Field {
+        LOCATION, SKILL;
+
+        /**
+         * @throws IllegalArgumentException unless the name is location or skill, in any case
+         */
+        public static Field fromName(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Field, Terms> fields = Map.of(Field.LOCATION, new Terms(), Field.SKILL, new Terms());
+
+    @Override
+    public void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        lock.writeLock().lock();
+        try {
+            fields.values().forEach(Terms::clear);
+            Map<Field, Map<String, Integer>> deltas = new EnumMap<>(Field.class);
+            matrons.forEach(matron -> collect(matron, 1, deltas));
+            apply(deltas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        lock.writeLock().lock();
+        try {
+            Map<Field, Map<String, Integer>> deltas = new EnumMap<>(Field.class);
+            if (previous != null) {
+                collect(previous, -1, deltas);
+            }
+            collect(current, 1, deltas);
+            apply(deltas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronRemoved(MatronProfileDTO previous) {
+        lock.writeLock().lock();
+        try {
+            Map<Field, Map<String, Integer>> deltas = new EnumMap<>(Field.class);
+            collect(previous, -1, deltas);
+            apply(deltas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to limit values matching the prefix, most matrons first; at most {@link #MAX_SUGGESTIONS}
+     */
+    public List<SuggestionDTO> suggest(Field field, String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Terms terms = fields.get(field);
+            return terms.trie.termsWithPrefix(key).stream()
+                    .limit(limit)
+                    .map(term -> new SuggestionDTO(term, terms.counts.get(term)))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add a profile's values to the count changes, so a value that an update keeps costs nothing
+     */
+    private static void collect(MatronProfileDTO matron, int delta, Map<Field, Map<String, Integer>> deltas) {
+        if (matron.getLocation() != null && !matron.getLocation().isBlank()) {
+            deltas.computeIfAbsent(Field.LOCATION, field -> new HashMap<>())
+                    .merge(matron.getLocation().trim(), delta, Integer::sum);
+        }
+        if (matron.getSkills() != null) {
+            matron.getSkills().stream()
+                    .filter(skill -> skill != null && !skill.isBlank())
+                    .map(String::trim)
+                    .distinct()
+                    .forEach(skill -> deltas.computeIfAbsent(Field.SKILL, field -> new HashMap<>())
+                            .merge(skill, delta, Integer::sum));
+        }
+    }
+
+    private void apply(Map<Field, Map<String, Integer>> deltas) {
+        deltas.forEach((field, counts) -> counts.forEach((term, delta) -> {
+            if (delta != 0) {
+                fields.get(field).add(term, delta);
+            }
+        }));
+    }
+
+    static String normalize(String text) {
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return folded.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Trie keys for a value: the value from its start, from every later word and from every
+     * Hanzi, each also as full pinyin and as pinyin initials when it contains Hanzi
+     */
+    static Set<String> keys(String term) {
+        String normalized = normalize(term);
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean wordStart = i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1));
+            if (!Character.isLetterOrDigit(c) || !(wordStart || isHanzi(c))) {
+                continue;
+            }
+            String suffix = normalized.substring(i);
+            keys.add(suffix);
+            if (suffix.chars().anyMatch(ch -> isHanzi((char) ch))) {
+                keys.add(pinyin(suffix, false));
+                keys.add(pinyin(suffix, true));
+            }
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static boolean isHanzi(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HAN;
+    }
+
+    /**
+     * Hanzi replaced by their most common reading (or its first letter), separators dropped
+     */
+    private static String pinyin(String text, boolean initials) {
+        HanyuPinyinOutputFormat format = new HanyuPinyinOutputFormat();
+        format.setCaseType(HanyuPinyinCaseType.LOWERCASE);
+        format.setToneType(HanyuPinyinToneType.WITHOUT_TONE);
+        format.setVCharType(HanyuPinyinVCharType.WITH_V);
+
+        StringBuilder result = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            String[] readings = null;
+            if (isHanzi(c)) {
+                try {
+                    readings = PinyinHelper.toHanyuPinyinStringArray(c, format);
+                } catch (BadHanyuPinyinOutputFormatCombination e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (readings != null && readings.length > 0) {
+                result.append(initials ? readings[0].substring(0, 1) : readings[0]);
+            } else if (Character.isLetterOrDigit(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Distinct values of one field with their matron counts
+     */
+    private static final class Terms {
+
+        final Map<String, Integer> counts = new HashMap<>();
+        // Most matrons first, then shorter values, then alphabetically; reads the counts above,
+        // so a count changes before the trie is told and a value leaves the trie before its count
+        final Comparator<String> ranking = Comparator.comparing((String term) -> counts.get(term)).reversed()
+                .thenComparing(String::length)
+                .thenComparing(Comparator.naturalOrder());
+        PrefixTrie trie = new PrefixTrie(MAX_SUGGESTIONS, ranking);
+
+        void add(String term, int delta) {
+            int before = counts.getOrDefault(term, 0);
+            int after = Math.max(0, before + delta);
+            if (after == before) {
+                return;
+            }
+            if (after == 0) {
+                keys(term).forEach(key -> trie.remove(key, term));
+                counts.remove(term);
+                return;
+            }
+            counts.put(term, after);
+            if (before == 0) {
+                keys(term).forEach(key -> trie.add(key, term));
+            } else if (after > before) {
+                keys(term).forEach(key -> trie.promote(key, term));
+            } else {
+                keys(term).forEach(key -> trie.demote(key, term));
+            }
+        }
+
+        void clear() {
+            counts.clear();
+            trie = new PrefixTrie(MAX_SUGGESTIONS, ranking);
+        }
+    }
+}
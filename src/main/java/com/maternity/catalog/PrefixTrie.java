@@ -0,0 +1,223 @@
+package com.maternity.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compressed prefix trie (radix tree) mapping lookup keys to the terms stored under them.
+ *
+ * Edges carry whole key fragments, so a chain of single-child nodes takes one node; removing
+ * the last term under a key prunes and re-merges the path. Every node keeps the best-ranked
+ * terms of its subtree, so a prefix lookup reads one list instead of walking the subtree. The
+ * ranking may change while a term is stored, as long as the trie is told through
+ * {@link #promote} or {@link #demote}. Not thread-safe.
+ */
+class PrefixTrie {
+
+    private final int maxRanked;
+    private final Comparator<String> ranking;
+    private final Node root = new Node("");
+
+    /**
+     * @param maxRanked how many terms each prefix lookup can return
+     * @param ranking   best term first
+     */
+    PrefixTrie(int maxRanked, Comparator<String> ranking) {
+        this.maxRanked = maxRanked;
+        this.ranking = ranking;
+    }
+
+    /**
+     * Store a term under a key; the same term may be stored under many keys
+     */
+    void add(String key, String term) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+                node = child;
+                path.add(node);
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // Split the edge where the key leaves it; the middle node has the same subtree
+                Node middle = new Node(child.label.substring(0, common));
+                middle.top.addAll(child.top);
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+        node.terms.add(term);
+        path.forEach(onPath -> rankHigher(onPath, term));
+    }
+
+    void remove(String key, String term) {
+        remove(root, key, 0, term);
+    }
+
+    /**
+     * Re-rank a term stored under the key after its ranking improved
+     */
+    void promote(String key, String term) {
+        Node node = root;
+        rankHigher(node, term);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            rankHigher(node, term);
+            i += child.label.length();
+        }
+    }
+
+    /**
+     * Re-rank a term stored under the key after its ranking got worse
+     */
+    void demote(String key, String term) {
+        demote(root, key, 0, term);
+    }
+
+    /**
+     * @return up to maxRanked terms stored under a key starting with the prefix, best first
+     */
+    List<String> termsWithPrefix(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (i + common < prefix.length() && common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            i += common;
+        }
+        return List.copyOf(node.top);
+    }
+
+    /**
+     * @return true if the caller should drop this node from its parent
+     */
+    private boolean remove(Node node, String key, int i, String term) {
+        if (i == key.length()) {
+            node.terms.remove(term);
+        } else {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return false;
+            }
+            if (remove(child, key, i + child.label.length(), term)) {
+                node.children.remove(key.charAt(i));
+            } else if (child.terms.isEmpty() && child.children.size() == 1) {
+                // Merge a now pass-through node into its only child
+                Node grandchild = child.children.values().iterator().next();
+                grandchild.label = child.label + grandchild.label;
+                node.children.put(key.charAt(i), grandchild);
+            }
+        }
+        // The term may still be stored under another key in this subtree
+        if (node.top.contains(term)) {
+            rerank(node);
+        }
+        return node != root && node.terms.isEmpty() && node.children.isEmpty();
+    }
+
+    private void demote(Node node, String key, int i, String term) {
+        if (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            demote(child, key, i + child.label.length(), term);
+        }
+        // Children first, so a re-rank here reads their updated lists
+        rankLower(node, term);
+    }
+
+    /**
+     * Move a term stored in the node's subtree up its list, or into it
+     */
+    private void rankHigher(Node node, String term) {
+        node.top.remove(term);
+        insertRanked(node.top, term);
+        if (node.top.size() > maxRanked) {
+            node.top.remove(node.top.size() - 1);
+        }
+    }
+
+    private void rankLower(Node node, String term) {
+        if (!node.top.remove(term)) {
+            return;
+        }
+        // A full list may leave out terms now ranked above this one
+        if (node.top.size() + 1 == maxRanked && (node.top.isEmpty()
+                || ranking.compare(term, node.top.get(node.top.size() - 1)) > 0)) {
+            rerank(node);
+        } else {
+            insertRanked(node.top, term);
+        }
+    }
+
+    /**
+     * Rebuild the node's list from its own terms and its children's lists
+     */
+    private void rerank(Node node) {
+        Set<String> candidates = new HashSet<>(node.terms);
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+        List<String> ranked = new ArrayList<>(candidates);
+        ranked.sort(ranking);
+        node.top.clear();
+        node.top.addAll(ranked.subList(0, Math.min(ranked.size(), maxRanked)));
+    }
+
+    private void insertRanked(List<String> ranked, String term) {
+        int position = Collections.binarySearch(ranked, term, ranking);
+        ranked.add(position < 0 ? -position - 1 : position, term);
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        String label;
+        // Keyed by the first character of the child's label
+        final Map<Character, Node> children = new HashMap<>(4);
+        final Set<String> terms = new HashSet<>(2);
+        // Best-ranked terms stored in this subtree, best first
+        final List<String> top = new ArrayList<>(2);
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.maternity.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.util.List;
+
+/**
+ * Runs the read-only matron endpoints on a separate Reactor Netty server.
+ *
+ * A couple of event-loop threads serve {@link MatronCatalog} reads, independent of the
+ * Tomcat thread pool and the database connection pool. Enabled with catalog.reactive.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.reactive.enabled", havingValue = "true")
+public class ReactiveCatalogServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCatalogServer.class);
+
+    private final MatronCatalogHandler matronCatalogHandler;
+    private final ObjectMapper objectMapper;
+
+    @Value("${catalog.reactive.port:8081}")
+    private int port;
+
+    @Value("${catalog.reactive.event-loop-threads:2}")
+    private int eventLoopThreads;
+
+    private LoopResources loopResources;
+    private DisposableServer server;
+
+    public ReactiveCatalogServer(MatronCatalogHandler matronCatalogHandler, ObjectMapper objectMapper) {
+        this.matronCatalogHandler = matronCatalogHandler;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void start() {
+        // Use the application's ObjectMapper so the JSON matches the servlet endpoints
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(
+                            new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON));
+                    codecs.defaultCodecs().jackson2JsonDecoder(
+                            new Jackson2JsonDecoder(objectMapper, MediaType.APPLICATION_JSON));
+                })
+                .webFilter(new CorsWebFilter(corsConfigurationSource()))
+                .build();
+
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(matronCatalogHandler.routes(), strategies);
+
+        loopResources = LoopResources.create("catalog-reactive", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+
+        log.info("Reactive matron catalog server started on port {} with {} event-loop threads",
+                server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.dispose();
+            loopResources = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        return server != null ? server.port() : port;
+    }
+
+    private UrlBasedCorsConfigurationSource corsConfigurationSource() {
+        // Same policy as CorsConfig, limited to the read-only methods served here
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of("*"));
+        configuration.setAllowedMethods(List.of("GET", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+        configuration.setAllowCredentials(false);
+        configuration.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
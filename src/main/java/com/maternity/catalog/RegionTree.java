@@ -0,0 +1,167 @@
+package com.maternity.catalog;
+
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.dto.RegionFacetDTO;
+import com.maternity.model.Region;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Province / city / district tree over the catalog with matron counts on every node.
+ *
+ * Each node keeps the ids of the matrons in its subtree and the total and available counts,
+ * updated one profile at a time, so "matrons in Beijing" and "how many per district" are
+ * lookups rather than scans.
+ */
+@Component
+public class RegionTree implements MatronCatalogListener {
+
+    private final MatronCatalog matronCatalog;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node(null);
+
+    public RegionTree(MatronCatalog matronCatalog) {
+        this.matronCatalog = matronCatalog;
+    }
+
+    @Override
+    public void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        lock.writeLock().lock();
+        try {
+            root = new Node(null);
+            matrons.forEach(matron -> update(matron, 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                update(previous, -1);
+            }
+            update(current, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatronRemoved(MatronProfileDTO previous) {
+        lock.writeLock().lock();
+        try {
+            update(previous, -1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return counts for the region and each region one level below it; the whole country
+     *         when province is null. Empty if the region has no matrons or city is given
+     *         without province.
+     */
+    public Optional<RegionFacetDTO> facets(String province, String city) {
+        lock.readLock().lock();
+        try {
+            Region region = Region.of(province, city, null);
+            return find(region.getProvince(), region.getCity(), null).map(node -> {
+                RegionFacetDTO facet = toFacet(node);
+                node.children.values().forEach(child -> facet.getChildren().add(toFacet(child)));
+                return facet;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return matrons in the region, in profile id order; city and district narrow it when given
+     */
+    public List<MatronProfileDTO> matrons(String province, String city, String district) {
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            Region region = Region.of(province, city, district);
+            ids = find(region.getProvince(), region.getCity(), region.getDistrict())
+                    .map(node -> new ArrayList<>(node.matronIds))
+                    .orElseGet(ArrayList::new);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<MatronProfileDTO> matrons = new ArrayList<>(ids.size());
+        ids.forEach(id -> matronCatalog.getById(id).ifPresent(matrons::add));
+        return matrons;
+    }
+
+    private Optional<Node> find(String... path) {
+        Node node = root;
+        boolean ended = false;
+        for (String name : path) {
+            if (name == null) {
+                ended = true;
+            } else if (ended) {
+                // A city without its province, or a district without its city
+                return Optional.empty();
+            } else {
+                node = node.children.get(name);
+                if (node == null) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(node);
+    }
+
+    private void update(MatronProfileDTO matron, int delta) {
+        boolean available = Boolean.TRUE.equals(matron.getIsAvailable());
+        Node node = root;
+        node.update(matron.getId(), available, delta);
+        for (String name : new String[]{matron.getProvince(), matron.getCity(), matron.getDistrict()}) {
+            if (name == null) {
+                break;
+            }
+            Node parent = node;
+            node = parent.children.computeIfAbsent(name, Node::new);
+            node.update(matron.getId(), available, delta);
+            if (node.matronIds.isEmpty()) {
+                parent.children.remove(name);
+            }
+        }
+    }
+
+    private static RegionFacetDTO toFacet(Node node) {
+        return new RegionFacetDTO(node.name, node.matronIds.size(), node.available);
+    }
+
+    private static final class Node {
+
+        final String name;
+        final TreeMap<String, Node> children = new TreeMap<>();
+        final NavigableSet<Long> matronIds = new TreeSet<>();
+        int available;
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        void update(Long matronId, boolean isAvailable, int delta) {
+            boolean changed = delta > 0 ? matronIds.add(matronId) : matronIds.remove(matronId);
+            if (changed && isAvailable) {
+                available += delta;
+            }
+        }
+    }
+}
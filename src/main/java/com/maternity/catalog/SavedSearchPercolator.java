@@ -0,0 +1,393 @@
+package com.maternity.catalog;
+
+import com.maternity.datasource.ReadWriteRoutingDataSource;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.event.EntityChangeEvent;
+import com.maternity.model.MatronProfile;
+import com.maternity.model.SavedSearch;
+import com.maternity.model.SearchAlert;
+import com.maternity.model.Skill;
+import com.maternity.model.User;
+import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.SavedSearchRepository;
+import com.maternity.repository.SearchAlertRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Matches changed matron profiles against saved searches and queues alerts for the searches
+ * a matron has just started to match.
+ *
+ * The saved searches are indexed by the region they are restricted to, so a changed profile
+ * is only evaluated against the searches for its city, its province and no region, instead of
+ * every search re-running against the catalog. A profile that matched before the change
+ * raises no new alert.
+ *
+ * A search without an availableBy date wants a matron free today, so a matron can also start
+ * matching it at midnight, on her availableFrom day, without any profile write. A sweep just
+ * after midnight raises those alerts; a midnight the application is down for is not caught up.
+ *
+ * Alerts are written on the percolator's own thread, after the catalog update that found them,
+ * so the catalog's refresh never holds a connection for the write.
+ */
+@Component
+public class SavedSearchPercolator implements MatronCatalogListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchPercolator.class);
+
+    private static final String ANY_REGION = "";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SearchAlertRepository searchAlertRepository;
+    private final MatronProfileRepository matronProfileRepository;
+    private final MatronCatalog matronCatalog;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Criteria> searches = new HashMap<>();
+    // Region key -> ids of the searches restricted to exactly that region
+    private final Map<String, Set<Long>> searchesByRegion = new HashMap<>();
+
+    private volatile boolean loaded = false;
+    // Writes queued alerts and runs the midnight sweep, one at a time
+    private ScheduledExecutorService executor;
+
+    public SavedSearchPercolator(SavedSearchRepository savedSearchRepository,
+                                 SearchAlertRepository searchAlertRepository,
+                                 MatronProfileRepository matronProfileRepository,
+                                 MatronCatalog matronCatalog,
+                                 PlatformTransactionManager transactionManager) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.searchAlertRepository = searchAlertRepository;
+        this.matronProfileRepository = matronProfileRepository;
+        this.matronCatalog = matronCatalog;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Catalog and change events arrive after the writing transaction committed
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "saved-search-alerts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleSweep();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Loads the saved searches along with the catalog; catalog contents need no indexing
+     */
+    @Override
+    public void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        // From the primary, as changes are only applied on top of what is loaded here
+        List<Criteria> all = ReadWriteRoutingDataSource.onPrimary(() -> readTransaction.execute(status ->
+                savedSearchRepository.findAllWithSkills().stream().map(Criteria::new).collect(Collectors.toList())));
+
+        lock.writeLock().lock();
+        try {
+            searches.clear();
+            searchesByRegion.clear();
+            all.forEach(this::add);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Saved search percolator loaded with {} searches", all.size());
+    }
+
+    @Override
+    public void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        LocalDate today = LocalDate.now();
+        List<Long> newlyMatched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String region : regionsOf(current)) {
+                for (Long searchId : searchesByRegion.getOrDefault(region, Set.of())) {
+                    Criteria criteria = searches.get(searchId);
+                    if (criteria.matches(current, today) && (previous == null || !criteria.matches(previous, today))) {
+                        newlyMatched.add(searchId);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!newlyMatched.isEmpty()) {
+            executor.execute(() -> {
+                try {
+                    queueAlerts(current.getId(), newlyMatched);
+                } catch (RuntimeException e) {
+                    log.error("Could not queue saved search alerts for matron profile {}", current.getId(), e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Queue alerts for the searches that matrons free from today match today but not yesterday
+     */
+    public void sweepAvailability(LocalDate today) {
+        if (!loaded) {
+            return;
+        }
+        LocalDate yesterday = today.minusDays(1);
+        for (MatronProfileDTO matron : matronCatalog.getAll()) {
+            if (!today.equals(matron.getAvailableFrom()) || Boolean.TRUE.equals(matron.getIsAvailable())) {
+                continue;
+            }
+            List<Long> newlyMatched = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                for (String region : regionsOf(matron)) {
+                    for (Long searchId : searchesByRegion.getOrDefault(region, Set.of())) {
+                        Criteria criteria = searches.get(searchId);
+                        if (criteria.matches(matron, today) && !criteria.matches(matron, yesterday)) {
+                            newlyMatched.add(searchId);
+                        }
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            if (!newlyMatched.isEmpty()) {
+                queueAlerts(matron.getId(), newlyMatched);
+            }
+        }
+    }
+
+    private void scheduleSweep() {
+        LocalDateTime now = LocalDateTime.now();
+        long delayMillis = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay()).toMillis();
+        executor.schedule(() -> {
+            try {
+                sweepAvailability(LocalDate.now());
+            } catch (RuntimeException e) {
+                log.error("Saved search availability sweep failed", e);
+            }
+            scheduleSweep();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onMatronRemoved(MatronProfileDTO previous) {
+        // Alerts for the profile are deleted with it
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        if (!loaded) {
+            return;
+        }
+
+        if (event.isFor(SavedSearch.class)) {
+            if (event.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+                remove(event.getEntityId());
+            } else {
+                refresh(event.getEntityId());
+            }
+        } else if (event.isFor(User.class) && event.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+            // The database deletes the user's searches along with the user
+            lock.writeLock().lock();
+            try {
+                searches.values().stream()
+                        .filter(criteria -> event.getEntityId().equals(criteria.userId))
+                        .map(criteria -> criteria.id)
+                        .collect(Collectors.toList())
+                        .forEach(this::removeLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Re-index a single saved search from the database
+     */
+    public void refresh(Long searchId) {
+        // From the primary: a replica may not have the change yet, and nothing would re-read it
+        Optional<Criteria> current = ReadWriteRoutingDataSource.onPrimary(() -> readTransaction.execute(status ->
+                savedSearchRepository.findByIdWithSkills(searchId).map(Criteria::new)));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(searchId);
+            if (current != null) {
+                current.ifPresent(this::add);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return searches.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void queueAlerts(Long matronProfileId, List<Long> searchIds) {
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                MatronProfile matron = matronProfileRepository.getReferenceById(matronProfileId);
+                searchIds.forEach(searchId -> searchAlertRepository.save(
+                        new SearchAlert(savedSearchRepository.getReferenceById(searchId), matron)));
+            });
+            log.info("Queued {} saved search alerts for matron profile {}", searchIds.size(), matronProfileId);
+        } catch (DataAccessException e) {
+            // A search deleted meanwhile; the profile change itself is already committed
+            log.warn("Could not queue saved search alerts for matron profile {}: {}", matronProfileId, e.getMessage());
+        }
+    }
+
+    private void remove(Long searchId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(searchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Criteria criteria) {
+        searches.put(criteria.id, criteria);
+        searchesByRegion.computeIfAbsent(criteria.region(), key -> new HashSet<>()).add(criteria.id);
+    }
+
+    private void removeLocked(Long searchId) {
+        Criteria criteria = searches.remove(searchId);
+        if (criteria != null) {
+            Set<Long> ids = searchesByRegion.get(criteria.region());
+            ids.remove(searchId);
+            if (ids.isEmpty()) {
+                searchesByRegion.remove(criteria.region());
+            }
+        }
+    }
+
+    /**
+     * Keys of the searches that can match the profile: no region, its province and its city
+     */
+    private static List<String> regionsOf(MatronProfileDTO matron) {
+        List<String> regions = new ArrayList<>(3);
+        regions.add(ANY_REGION);
+        if (matron.getProvince() != null) {
+            regions.add(regionKey(matron.getProvince(), null));
+            if (matron.getCity() != null) {
+                regions.add(regionKey(matron.getProvince(), matron.getCity()));
+            }
+        }
+        return regions;
+    }
+
+    private static String regionKey(String province, String city) {
+        if (province == null) {
+            return ANY_REGION;
+        }
+        return city == null ? province : province + "/" + city;
+    }
+
+    /**
+     * Immutable copy of a saved search's criteria
+     */
+    private static final class Criteria {
+
+        final Long id;
+        final Long userId;
+        final String province;
+        final String city;
+        final Double minPrice;
+        final Double maxPrice;
+        final int[] skillIds;
+        final LocalDate availableBy;
+
+        Criteria(SavedSearch search) {
+            id = search.getId();
+            userId = search.getUser().getId();
+            province = search.getProvince();
+            city = search.getCity();
+            minPrice = search.getMinPrice();
+            maxPrice = search.getMaxPrice();
+            skillIds = search.getSkills().stream().mapToInt(Skill::getId).toArray();
+            availableBy = search.getAvailableBy();
+        }
+
+        String region() {
+            return regionKey(province, city);
+        }
+
+        boolean matches(MatronProfileDTO matron, LocalDate today) {
+            if (province != null && !province.equals(matron.getProvince())) {
+                return false;
+            }
+            if (city != null && !city.equals(matron.getCity())) {
+                return false;
+            }
+            Double price = matron.getPricePerMonth();
+            if ((minPrice != null || maxPrice != null) && price == null) {
+                return false;
+            }
+            if ((minPrice != null && price < minPrice) || (maxPrice != null && price > maxPrice)) {
+                return false;
+            }
+            for (int skillId : skillIds) {
+                if (!contains(matron.getSkillIds(), skillId)) {
+                    return false;
+                }
+            }
+
+            LocalDate freeFrom = Boolean.TRUE.equals(matron.getIsAvailable()) ? today : matron.getAvailableFrom();
+            return freeFrom != null && !freeFrom.isAfter(availableBy != null ? availableBy : today);
+        }
+
+        private static boolean contains(int[] ids, int id) {
+            for (int candidate : ids) {
+                if (candidate == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
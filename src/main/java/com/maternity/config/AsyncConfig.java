@@ -0,0 +1,15 @@
+package com.maternity.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables @Async methods.
+ *
+ * They run on Spring Boot's applicationTaskExecutor, which uses virtual threads
+ * when the virtual-threads profile is active on Java 21.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
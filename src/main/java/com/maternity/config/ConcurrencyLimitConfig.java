@@ -0,0 +1,61 @@
+package com.maternity.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maternity.limit.AdaptiveConcurrencyLimit;
+import com.maternity.limit.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Adaptive concurrency limits in front of the API.
+ *
+ * Production runs 50 Tomcat threads against 5 database connections; instead of letting the
+ * surplus wait up to connection-timeout on the pool, requests above the adaptive limit get
+ * an immediate 503. Streaming exports get a fixed limit of concurrency-limit.stream.max.
+ * Disable with concurrency-limit.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimit adminConcurrencyLimit(
+            @Value("${concurrency-limit.admin.initial:5}") int initial,
+            @Value("${concurrency-limit.admin.min:2}") int min,
+            @Value("${concurrency-limit.admin.max:20}") int max,
+            @Value("${concurrency-limit.admin.latency-threshold-ms:3000}") long latencyThresholdMs,
+            @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio) {
+        return new AdaptiveConcurrencyLimit("admin", initial, min, max, latencyThresholdMs, backoffRatio);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimit publicConcurrencyLimit(
+            @Value("${concurrency-limit.public.initial:20}") int initial,
+            @Value("${concurrency-limit.public.min:5}") int min,
+            @Value("${concurrency-limit.public.max:200}") int max,
+            @Value("${concurrency-limit.public.latency-threshold-ms:1000}") long latencyThresholdMs,
+            @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio) {
+        return new AdaptiveConcurrencyLimit("public", initial, min, max, latencyThresholdMs, backoffRatio);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimit adminConcurrencyLimit,
+            AdaptiveConcurrencyLimit publicConcurrencyLimit,
+            @Value("${concurrency-limit.stream.max:2}") int streamLimit,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(adminConcurrencyLimit, publicConcurrencyLimit, streamLimit,
+                        objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Run before Spring Security so rejected requests never load users or touch the database
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
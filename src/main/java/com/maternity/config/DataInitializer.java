@@ -7,9 +7,11 @@ import com.maternity.repository.MotherProfileRepository;
 import com.maternity.repository.OrderRepository;
 import com.maternity.repository.ReviewRepository;
 import com.maternity.repository.UserRepository;
+import com.maternity.service.SkillDictionaryService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -27,11 +29,12 @@ public class DataInitializer implements CommandLineRunner {
     private final ReviewRepository reviewRepository;
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SkillDictionaryService skillDictionaryService;
 
     public DataInitializer(UserRepository userRepository, MatronProfileRepository matronProfileRepository,
                           MotherProfileRepository motherProfileRepository, OrderRepository orderRepository,
                           ReviewRepository reviewRepository, AdminRepository adminRepository,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder, SkillDictionaryService skillDictionaryService) {
         this.userRepository = userRepository;
         this.matronProfileRepository = matronProfileRepository;
         this.motherProfileRepository = motherProfileRepository;
@@ -39,9 +42,11 @@ public class DataInitializer implements CommandLineRunner {
         this.reviewRepository = reviewRepository;
         this.adminRepository = adminRepository;
         this.passwordEncoder = passwordEncoder;
+        this.skillDictionaryService = skillDictionaryService;
     }
 
     @Override
+    @Transactional // One transaction so the inserts go out as JDBC batches
     public void run(String... args) {
         // Check if database is already initialized
         if (adminRepository.count() > 0) {
@@ -153,8 +158,8 @@ public class DataInitializer implements CommandLineRunner {
         profile.setPricePerMonth(pricePerMonth);
         profile.setLocation(location);
         profile.setBio(bio);
-        profile.setSkills(skills);
-        profile.setCertifications(certifications);
+        profile.setSkills(skillDictionaryService.resolveSkills(skills));
+        profile.setCertifications(skillDictionaryService.resolveCertifications(certifications));
         profile.setRating(rating);
         profile.setReviewCount(reviewCount);
         profile.setIsAvailable(isAvailable);
@@ -0,0 +1,124 @@
+package com.maternity.config;
+
+import com.maternity.datasource.AnalyticsQueryAspect;
+import com.maternity.datasource.ReadWriteRoutingDataSource;
+import com.maternity.datasource.ReplicaMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary, replica and analytics connection pools behind one routing DataSource.
+ *
+ * Read-only transactions (@Transactional(readOnly = true), Spring Data's find methods) use the
+ * replica pool while ReplicaMonitor considers it healthy; @AnalyticsQuery methods use the
+ * analytics pool, which points at the replica unless datasource.analytics.url is set.
+ * Everything else, including Flyway and startup JDBC work, uses the primary configured by
+ * spring.datasource.*. Enable with datasource.routing.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.maximum-pool-size:5}") int maximumPoolSize) {
+        return pool("replica", url, username, password, maximumPoolSize);
+    }
+
+    @Bean
+    public HikariDataSource analyticsDataSource(
+            @Value("${datasource.analytics.url:${datasource.replica.url}}") String url,
+            @Value("${datasource.analytics.username:${datasource.replica.username:${spring.datasource.username:}}}") String username,
+            @Value("${datasource.analytics.password:${datasource.replica.password:${spring.datasource.password:}}}") String password,
+            @Value("${datasource.analytics.maximum-pool-size:2}") int maximumPoolSize) {
+        return pool("analytics", url, username, password, maximumPoolSize);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaMonitor replicaMonitor(
+            HikariDataSource replicaDataSource,
+            @Value("${datasource.replica.lag-query:}") String lagQuery,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+            @Value("${datasource.replica.check-interval-ms:5000}") long checkIntervalMs,
+            MeterRegistry meterRegistry) {
+        ReplicaMonitor monitor = new ReplicaMonitor(replicaDataSource, lagQuery, maxLagSeconds, checkIntervalMs);
+        Gauge.builder("datasource.replica.available", monitor, m -> m.isAvailable() ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", monitor, ReplicaMonitor::getLastLagSeconds)
+                .description("Replication lag reported by datasource.replica.lag-query")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 HikariDataSource replicaDataSource,
+                                 HikariDataSource analyticsDataSource,
+                                 ReplicaMonitor replicaMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, analyticsDataSource, replicaMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        // The routing decision needs the transaction's read-only flag, which is bound after the
+        // transaction manager asks for a connection; the proxy defers it to the first statement
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public AnalyticsQueryAspect analyticsQueryAspect() {
+        return new AnalyticsQueryAspect();
+    }
+
+    /**
+     * Spring's default keeps a session's connection until the session closes, so a session
+     * spanning several transactions would stay on the pool its first transaction picked.
+     * Release after each transaction instead so every transaction is routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password, int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(1);
+        dataSource.setReadOnly(true);
+        // Fail over to the primary quickly, and let the application start while this pool is down
+        dataSource.setConnectionTimeout(2000);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,66 @@
+package com.maternity.config;
+
+import com.maternity.geo.DistrictGazetteer;
+import com.maternity.model.GeoPoint;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Flyway V8: fills the coordinate columns added by V7 from matron locations and mother
+ * addresses, with the same {@link DistrictGazetteer} the entities use.
+ */
+@Component
+public class GeoCoordinatesBackfillMigration implements JavaMigration {
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("8");
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill geo coordinates";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        backfill(context.getConnection(), "matron_profiles", "location");
+        backfill(context.getConnection(), "mother_profiles", "address");
+    }
+
+    private static void backfill(Connection connection, String table, String textColumn) throws Exception {
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, " + textColumn + " FROM " + table);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE " + table + " SET latitude = ?, longitude = ? WHERE id = ?")) {
+            while (rows.next()) {
+                GeoPoint point = DistrictGazetteer.locate(rows.getString(textColumn));
+                if (point == null) {
+                    continue;
+                }
+                update.setDouble(1, point.getLatitude());
+                update.setDouble(2, point.getLongitude());
+                update.setLong(3, rows.getLong("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+}
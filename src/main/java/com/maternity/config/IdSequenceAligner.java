@@ -0,0 +1,92 @@
+package com.maternity.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the entity id sequences ahead of the ids already in their tables.
+ *
+ * Entities get ids from sequences in blocks of 50 (pooled optimizer), so a call to nextval
+ * returning N hands out N-49..N. Databases created while ids were IDENTITY columns, or rows
+ * inserted with explicit ids (SyntheticDataGenerator), leave the sequence behind the table;
+ * this moves it to MAX(id) + 50 before anything is inserted. Runs after the
+ * EntityManagerFactory, so the schema and sequences already exist.
+ */
+@Component
+public class IdSequenceAligner {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("admins", "admins_seq");
+        SEQUENCES.put("users", "users_seq");
+        SEQUENCES.put("matron_profiles", "matron_profiles_seq");
+        SEQUENCES.put("mother_profiles", "mother_profiles_seq");
+        SEQUENCES.put("work_experiences", "work_experiences_seq");
+        SEQUENCES.put("orders", "orders_seq");
+        SEQUENCES.put("reviews", "reviews_seq");
+        SEQUENCES.put("skills", "skills_seq");
+        SEQUENCES.put("certifications", "certifications_seq");
+        SEQUENCES.put("saved_searches", "saved_searches_seq");
+        SEQUENCES.put("search_alerts", "search_alerts_seq");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignAll() {
+        SEQUENCES.forEach(this::align);
+    }
+
+    /**
+     * Highest id in the table that is either stored or may already be handed out by the sequence.
+     * Rows inserted with explicit ids must start above this.
+     */
+    public long reservedUpTo(String table) {
+        String sequence = SEQUENCES.get(table);
+        if (sequence == null) {
+            throw new IllegalArgumentException("No id sequence for table " + table);
+        }
+        long maxId = maxId(table);
+        Long next = nextValue(sequence);
+        return next != null ? Math.max(maxId, next - 1) : maxId;
+    }
+
+    private void align(String table, String sequence) {
+        long maxId = maxId(table);
+        if (maxId == 0) {
+            return;
+        }
+        Long next = nextValue(sequence);
+        long required = maxId + ALLOCATION_SIZE;
+        if (next == null || next < required) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+            log.info("Moved sequence {} to {} (max id in {} is {})", sequence, required, table, maxId);
+        }
+    }
+
+    private long maxId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    private Long nextValue(String sequence) {
+        // H2: BASE_VALUE is the value the next nextval call returns
+        return jdbcTemplate.query(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                rs -> rs.next() ? rs.getLong(1) : null, sequence);
+    }
+}
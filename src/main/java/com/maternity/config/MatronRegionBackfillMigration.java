@@ -0,0 +1,59 @@
+package com.maternity.config;
+
+import com.maternity.model.Region;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Flyway V6: fills the region columns added by V5 for existing matron profiles.
+ *
+ * A Java migration so existing rows are parsed by the same {@link Region#parse} the entity
+ * uses for new ones. Spring Boot hands JavaMigration beans to Flyway.
+ */
+@Component
+public class MatronRegionBackfillMigration implements JavaMigration {
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("6");
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill matron regions";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement select = context.getConnection().createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, location FROM matron_profiles");
+             PreparedStatement update = context.getConnection().prepareStatement(
+                     "UPDATE matron_profiles SET province = ?, city = ?, district = ? WHERE id = ?")) {
+            while (rows.next()) {
+                Region region = Region.parse(rows.getString("location"));
+                update.setString(1, region.getProvince());
+                update.setString(2, region.getCity());
+                update.setString(3, region.getDistrict());
+                update.setLong(4, rows.getLong("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+}
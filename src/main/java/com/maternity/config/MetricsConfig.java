@@ -0,0 +1,31 @@
+package com.maternity.config;
+
+import com.maternity.metrics.ConnectionHoldTracker;
+import com.maternity.metrics.SqlCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static ConnectionHoldTracker connectionHoldTracker() {
+        return new ConnectionHoldTracker();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlCountFilter> sqlCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.sql-count-header.enabled:false}") boolean headerEnabled) {
+        FilterRegistrationBean<SqlCountFilter> registration =
+                new FilterRegistrationBean<>(new SqlCountFilter(meterRegistry, headerEnabled));
+        registration.addUrlPatterns("/api/*");
+        // Just inside the concurrency limit so security's user lookups are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,72 @@
+package com.maternity.config;
+
+import com.maternity.model.Region;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Flyway V11: rewrites stored regions in the single form {@link Region} now gives them, so
+ * matrons and saved searches written in Chinese share regions with those written in English.
+ */
+@Component
+public class RegionNamesMigration implements JavaMigration {
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("11");
+    }
+
+    @Override
+    public String getDescription() {
+        return "one name per region";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement select = context.getConnection().createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, location FROM matron_profiles");
+             PreparedStatement update = context.getConnection().prepareStatement(
+                     "UPDATE matron_profiles SET province = ?, city = ?, district = ? WHERE id = ?")) {
+            while (rows.next()) {
+                Region region = Region.parse(rows.getString("location"));
+                update.setString(1, region.getProvince());
+                update.setString(2, region.getCity());
+                update.setString(3, region.getDistrict());
+                update.setLong(4, rows.getLong("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+
+        try (Statement select = context.getConnection().createStatement();
+             ResultSet rows = select.executeQuery(
+                     "SELECT id, province, city FROM saved_searches WHERE province IS NOT NULL");
+             PreparedStatement update = context.getConnection().prepareStatement(
+                     "UPDATE saved_searches SET province = ?, city = ? WHERE id = ?")) {
+            while (rows.next()) {
+                Region region = Region.of(rows.getString("province"), rows.getString("city"), null);
+                update.setString(1, region.getProvince());
+                update.setString(2, region.getCity());
+                update.setLong(3, rows.getLong("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+}
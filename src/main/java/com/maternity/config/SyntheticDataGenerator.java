@@ -0,0 +1,469 @@
+package com.maternity.config;
+
+import com.maternity.event.ChangeVersionTracker;
+import com.maternity.geo.DistrictGazetteer;
+import com.maternity.model.DictionaryTerm;
+import com.maternity.model.GeoPoint;
+import com.maternity.model.Order;
+import com.maternity.model.Region;
+import com.maternity.model.User;
+import com.maternity.service.SkillDictionaryService;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Synthetic Data Generator
+ *
+ * Seeds a production-sized dataset for load and scale testing. Activate with the
+ * "synthetic" profile, e.g. --spring.profiles.active=synthetic or prod,synthetic.
+ *
+ * All rows are derived from synthetic.seed, synthetic.reference-date and
+ * synthetic.id-offset, so the same settings and counts always produce the same dataset:
+ * dates are laid out around the reference date rather than today, and each table's ids start
+ * right after the offset rather than wherever its sequence stands. Generation fails if any
+ * table already holds or has handed out an id above the offset. Rows are written with
+ * batched JDBC inserts (one transaction per batch) rather than through JPA, so a 1M-order
+ * dataset loads in minutes. The id sequences are moved past the generated ids afterwards.
+ *
+ * Every synthetic user's password is "password". Generation is skipped if the dataset for
+ * the configured seed already exists.
+ */
+@Profile("synthetic")
+@Component
+@org.springframework.core.annotation.Order(Ordered.LOWEST_PRECEDENCE)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] SURNAMES = {
+            "王", "李", "张", "刘", "陈", "杨", "黄", "赵", "吴", "周", "徐", "孙", "马", "朱", "胡", "郭", "何", "林", "罗", "高"
+    };
+    private static final String[] GIVEN_NAMES = {
+            "秀英", "桂英", "秀兰", "玉兰", "桂兰", "丽", "敏", "静", "燕", "艳", "娟", "霞", "芳", "红", "玲", "梅", "婷", "雪", "慧", "洁"
+    };
+    private static final String[] LOCATIONS = {
+            "Beijing, Chaoyang District", "Beijing, Haidian District", "Beijing, Dongcheng District",
+            "Shanghai, Pudong", "Shanghai, Xuhui District", "Shanghai, Jing'an District",
+            "Shenzhen, Nanshan", "Shenzhen, Futian", "Guangzhou, Tianhe District", "Guangzhou, Yuexiu District",
+            "Hangzhou, Xihu District", "Chengdu, Wuhou District", "Nanjing, Gulou District", "Wuhan, Wuchang District",
+            "Xi'an, Yanta District", "Suzhou, Gusu District", "Tianjin, Heping District", "Chongqing, Yuzhong District"
+    };
+    private static final String[] SKILLS = {
+            "Newborn Care", "Breastfeeding Support", "Postpartum Meals", "Baby Massage", "Twin Care",
+            "Premature Baby Care", "Postpartum Recovery", "Nutrition Planning", "Sleep Training",
+            "Emotional Support", "Traditional Methods", "Hygiene Care", "Early Education", "Jaundice Care"
+    };
+    private static final String[] CERTIFICATIONS = {
+            "Certified Maternity Nurse", "Senior Maternity Nurse", "Pediatric First Aid", "CPR Certified",
+            "Nutrition Specialist", "Sleep Consultant", "Traditional Chinese Medicine", "Lactation Consultant"
+    };
+    private static final String[] REVIEW_COMMENTS = {
+            "Excellent service! Very professional and caring.",
+            "Great experience. Highly recommend!",
+            "Very patient with the baby and helpful with recovery meals.",
+            "Good overall, communication could be better.",
+            "非常专业，宝宝照顾得很好。",
+            "经验丰富，月子餐很好吃。",
+            "Punctual and knowledgeable, would book again."
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final IdSequenceAligner idSequenceAligner;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SkillDictionaryService skillDictionaryService;
+    private final ChangeVersionTracker changeVersionTracker;
+
+    @Value("${synthetic.seed:42}")
+    private long seed;
+
+    // The "today" of the dataset: bookings, due dates and availability are placed around it
+    @Value("${synthetic.reference-date:2025-01-01}")
+    private String referenceDate;
+
+    @Value("${synthetic.id-offset:1000000}")
+    private long idOffset;
+
+    @Value("${synthetic.mothers:10000}")
+    private int motherCount;
+
+    @Value("${synthetic.matrons:1000}")
+    private int matronCount;
+
+    @Value("${synthetic.orders:50000}")
+    private int orderCount;
+
+    @Value("${synthetic.review-probability:0.6}")
+    private double reviewProbability;
+
+    @Value("${synthetic.batch-size:1000}")
+    private int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  PasswordEncoder passwordEncoder, IdSequenceAligner idSequenceAligner,
+                                  EntityManagerFactory entityManagerFactory,
+                                  SkillDictionaryService skillDictionaryService,
+                                  ChangeVersionTracker changeVersionTracker) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.idSequenceAligner = idSequenceAligner;
+        this.entityManagerFactory = entityManagerFactory;
+        this.skillDictionaryService = skillDictionaryService;
+        this.changeVersionTracker = changeVersionTracker;
+    }
+
+    @Override
+    public void run(String... args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email("mother", 1));
+        if (existing != null && existing > 0) {
+            log.info("Synthetic dataset for seed {} already present, skipping generation", seed);
+            return;
+        }
+
+        log.info("Generating synthetic dataset (seed={}, mothers={}, matrons={}, orders={})",
+                seed, motherCount, matronCount, orderCount);
+        long start = System.currentTimeMillis();
+
+        for (String table : List.of("users", "matron_profiles", "mother_profiles", "work_experiences",
+                "orders", "reviews")) {
+            long reserved = idSequenceAligner.reservedUpTo(table);
+            if (reserved > idOffset) {
+                throw new IllegalStateException("Ids up to " + reserved + " are already taken in " + table
+                        + "; set synthetic.id-offset above that");
+            }
+        }
+
+        // Every table's ids start after the offset; mothers take user ids offset+1 ..
+        // offset+motherCount, matrons the ids after that
+        long firstMotherUserId = idOffset + 1;
+        long firstMatronUserId = idOffset + motherCount + 1;
+
+        insertUsers(firstMotherUserId, firstMatronUserId);
+        insertMotherProfiles(idOffset, firstMotherUserId);
+        double[] prices = insertMatronProfiles(idOffset, firstMatronUserId);
+        long workExperiences = insertWorkExperiences(idOffset, idOffset);
+        long reviews = insertOrdersAndReviews(idOffset, idOffset, firstMotherUserId, idOffset, prices);
+
+        // Ids were assigned explicitly, so move the sequences past them for later JPA inserts
+        idSequenceAligner.alignAll();
+        // JDBC writes bypass Hibernate, so drop anything the second-level and query caches hold
+        entityManagerFactory.getCache().evictAll();
+
+        log.info("Synthetic dataset generated in {} ms: {} users, {} orders, {} reviews",
+                System.currentTimeMillis() - start, motherCount + matronCount, orderCount, reviews);
+    }
+
+    private void insertUsers(long firstMotherUserId, long firstMatronUserId) {
+        // One hash for everyone: BCrypt per row would dominate the load time
+        String password = passwordEncoder.encode("password");
+        SplittableRandom random = new SplittableRandom(seed);
+        Timestamp now = Timestamp.valueOf(referenceTime());
+
+        BatchWriter writer = new BatchWriter("INSERT INTO users (id, name, email, password, phone, avatar, " +
+                "profile_completed, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 1; i <= motherCount; i++) {
+            writer.add(firstMotherUserId + i - 1, name(random), email("mother", i), password, phone(random),
+                    null, true, User.UserRole.MOTHER.name(), now, now);
+        }
+        for (int i = 1; i <= matronCount; i++) {
+            writer.add(firstMatronUserId + i - 1, name(random), email("matron", i), password, phone(random),
+                    null, true, User.UserRole.MATRON.name(), now, now);
+        }
+        writer.flush();
+    }
+
+    private void insertMotherProfiles(long idBase, long firstMotherUserId) {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        Timestamp now = Timestamp.valueOf(referenceTime());
+        LocalDate today = LocalDate.parse(referenceDate);
+
+        BatchWriter writer = new BatchWriter("INSERT INTO mother_profiles (id, user_id, due_date, baby_birth_date, " +
+                "address, latitude, longitude, special_needs, number_of_children, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < motherCount; i++) {
+            // Two thirds are expecting, the rest gave birth in the last three months
+            boolean expecting = random.nextInt(3) > 0;
+            Date dueDate = expecting ? Date.valueOf(today.plusDays(random.nextInt(1, 240))) : null;
+            Date birthDate = expecting ? null : Date.valueOf(today.minusDays(random.nextInt(1, 90)));
+            String address = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            GeoPoint point = DistrictGazetteer.locate(address);
+            writer.add(idBase + i + 1, firstMotherUserId + i, dueDate, birthDate, address,
+                    point != null ? point.getLatitude() : null, point != null ? point.getLongitude() : null,
+                    null, random.nextInt(1, 4), now, now);
+        }
+        writer.flush();
+    }
+
+    /**
+     * @return monthly price per matron, indexed by matron number (0-based)
+     */
+    private double[] insertMatronProfiles(long idBase, long firstMatronUserId) {
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        Timestamp now = Timestamp.valueOf(referenceTime());
+        LocalDate today = LocalDate.parse(referenceDate);
+        double[] prices = new double[matronCount];
+        Map<String, Integer> skillIds = idsByName(skillDictionaryService.resolveSkills(List.of(SKILLS)));
+        Map<String, Integer> certificationIds =
+                idsByName(skillDictionaryService.resolveCertifications(List.of(CERTIFICATIONS)));
+
+        BatchWriter profiles = new BatchWriter("INSERT INTO matron_profiles (id, user_id, age, years_of_experience, " +
+                "price_per_month, location, province, city, district, latitude, longitude, bio, rating, review_count, " +
+                "is_available, available_from, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter skills = new BatchWriter(
+                "INSERT INTO matron_profile_skills (matron_id, skill_id) VALUES (?, ?)", profiles);
+        BatchWriter certifications = new BatchWriter(
+                "INSERT INTO matron_profile_certifications (matron_id, certification_id) VALUES (?, ?)", profiles);
+
+        for (int i = 0; i < matronCount; i++) {
+            long id = idBase + i + 1;
+            int age = random.nextInt(28, 56);
+            int experience = Math.min(age - 22, random.nextInt(1, 21));
+            // Price tracks experience, in steps of 500
+            double price = 8000 + experience * 400 + random.nextInt(0, 11) * 500;
+            prices[i] = price;
+            boolean available = random.nextInt(4) > 0;
+            Date availableFrom = available ? null : Date.valueOf(today.plusDays(random.nextInt(1, 60)));
+
+            String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            Region region = Region.parse(location);
+            GeoPoint point = DistrictGazetteer.locate(location);
+            profiles.add(id, firstMatronUserId + i, age, experience, price, location,
+                    region.getProvince(), region.getCity(), region.getDistrict(),
+                    point != null ? point.getLatitude() : null, point != null ? point.getLongitude() : null,
+                    "Maternity matron with " + experience + " years of experience.", 0.0, 0, available,
+                    availableFrom, now, now);
+            for (String skill : pick(random, SKILLS, random.nextInt(2, 6))) {
+                skills.add(id, skillIds.get(skill));
+            }
+            for (String certification : pick(random, CERTIFICATIONS, random.nextInt(1, 4))) {
+                certifications.add(id, certificationIds.get(certification));
+            }
+        }
+        profiles.flush();
+        skills.flush();
+        certifications.flush();
+        return prices;
+    }
+
+    private long insertWorkExperiences(long idBase, long matronBase) {
+        SplittableRandom random = new SplittableRandom(seed + 3);
+        LocalDate today = LocalDate.parse(referenceDate);
+        long id = idBase;
+
+        BatchWriter writer = new BatchWriter("INSERT INTO work_experiences (id, matron_profile_id, client_name, " +
+                "start_date, end_date, description) VALUES (?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < matronCount; i++) {
+            LocalDate end = today.minusDays(random.nextInt(30, 400));
+            for (int j = random.nextInt(0, 5); j > 0; j--) {
+                LocalDate begin = end.minusDays(random.nextInt(26, 43));
+                writer.add(++id, matronBase + i + 1, SURNAMES[random.nextInt(SURNAMES.length)] + "女士",
+                        Date.valueOf(begin), Date.valueOf(end), "Postpartum care for mother and newborn.");
+                end = begin.minusDays(random.nextInt(7, 120));
+            }
+        }
+        writer.flush();
+        return id - idBase;
+    }
+
+    /**
+     * Orders are laid out per matron on a timeline that ends a few months after the reference
+     * date: each booking of 26-42 days follows the previous one after a short gap, and about one
+     * in ten overlaps the previous booking (a competing request that ends up cancelled or still
+     * pending). Status follows the dates relative to the reference date. Completed orders get a
+     * review with synthetic.review-probability, and the matron's rating and review count are
+     * updated to match.
+     *
+     * @return number of reviews inserted
+     */
+    private long insertOrdersAndReviews(long orderBase, long reviewBase, long firstMotherUserId,
+                                        long matronBase, double[] prices) {
+        if (matronCount == 0 || motherCount == 0) {
+            return 0;
+        }
+        SplittableRandom random = new SplittableRandom(seed + 4);
+        LocalDate today = LocalDate.parse(referenceDate);
+        LocalDateTime now = referenceTime();
+        // A booking cycle averages ~44 days (34-day stay plus gap), so start far enough back that
+        // each matron's timeline runs up to a few months past the reference date
+        long bookingsPerMatron = orderCount * 9L / 10 / matronCount;
+        long timelineStart = today.toEpochDay() - Math.max(365, bookingsPerMatron * 44 - 120);
+
+        long[] nextStart = new long[matronCount];
+        long[] lastStart = new long[matronCount];
+        for (int i = 0; i < matronCount; i++) {
+            nextStart[i] = timelineStart + random.nextInt(0, 60);
+            lastStart[i] = nextStart[i];
+        }
+        double[] ratingSum = new double[matronCount];
+        int[] ratingCount = new int[matronCount];
+        long reviewId = reviewBase;
+
+        BatchWriter orders = new BatchWriter("INSERT INTO orders (id, mother_id, matron_profile_id, start_date, " +
+                "end_date, total_price, status, address, notes, created_at, updated_at, confirmed_at, completed_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter reviews = new BatchWriter("INSERT INTO reviews (id, matron_profile_id, user_id, rating, comment, " +
+                "created_at) VALUES (?, ?, ?, ?, ?, ?)");
+
+        for (int i = 0; i < orderCount; i++) {
+            int matron = random.nextInt(matronCount);
+            long motherUserId = firstMotherUserId + random.nextInt(motherCount);
+            int days = random.nextInt(26, 43);
+
+            boolean overlapping = random.nextInt(10) == 0 && nextStart[matron] > lastStart[matron];
+            long startDay;
+            if (overlapping) {
+                startDay = random.nextLong(lastStart[matron], nextStart[matron]);
+            } else {
+                startDay = nextStart[matron];
+                lastStart[matron] = startDay;
+                nextStart[matron] = startDay + days + random.nextInt(0, 21);
+            }
+            LocalDate start = LocalDate.ofEpochDay(startDay);
+            LocalDate end = start.plusDays(days);
+
+            Order.OrderStatus status;
+            if (overlapping) {
+                status = start.isAfter(today) && random.nextBoolean() ? Order.OrderStatus.PENDING : Order.OrderStatus.CANCELLED;
+            } else if (end.isBefore(today)) {
+                status = random.nextInt(20) == 0 ? Order.OrderStatus.CANCELLED : Order.OrderStatus.COMPLETED;
+            } else if (!start.isAfter(today)) {
+                status = Order.OrderStatus.IN_PROGRESS;
+            } else {
+                status = random.nextInt(3) == 0 ? Order.OrderStatus.PENDING : Order.OrderStatus.CONFIRMED;
+            }
+
+            LocalDateTime createdAt = start.minusDays(random.nextInt(7, 90)).atTime(random.nextInt(8, 22), random.nextInt(60));
+            if (createdAt.isAfter(now)) {
+                createdAt = now;
+            }
+            Timestamp confirmedAt = status == Order.OrderStatus.PENDING || status == Order.OrderStatus.CANCELLED
+                    ? null : Timestamp.valueOf(createdAt.plusDays(1));
+            Timestamp completedAt = status == Order.OrderStatus.COMPLETED ? Timestamp.valueOf(end.atTime(18, 0)) : null;
+            double totalPrice = Math.round(prices[matron] * days / 26.0);
+
+            orders.add(orderBase + i + 1, motherUserId, matronBase + matron + 1, Date.valueOf(start), Date.valueOf(end),
+                    totalPrice, status.name(), LOCATIONS[random.nextInt(LOCATIONS.length)], null,
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt), confirmedAt, completedAt);
+
+            if (status == Order.OrderStatus.COMPLETED && random.nextDouble() < reviewProbability) {
+                // Skewed towards good ratings, in half-star steps
+                double rating = Math.max(1.0, 5.0 - random.nextInt(0, 5) * random.nextInt(0, 3) * 0.5);
+                ratingSum[matron] += rating;
+                ratingCount[matron]++;
+                reviews.add(++reviewId, matronBase + matron + 1, motherUserId, rating,
+                        REVIEW_COMMENTS[random.nextInt(REVIEW_COMMENTS.length)],
+                        Timestamp.valueOf(end.atTime(20, 0).plusDays(random.nextInt(0, 14))));
+            }
+        }
+        orders.flush();
+        reviews.flush();
+
+        BatchWriter ratings = new BatchWriter("UPDATE matron_profiles SET rating = ?, review_count = ? WHERE id = ?");
+        for (int i = 0; i < matronCount; i++) {
+            if (ratingCount[i] > 0) {
+                ratings.add(Math.round(ratingSum[i] / ratingCount[i] * 10) / 10.0, ratingCount[i], matronBase + i + 1);
+            }
+        }
+        ratings.flush();
+        return reviewId - reviewBase;
+    }
+
+    /**
+     * When the dataset was "generated": noon on the reference date
+     */
+    private LocalDateTime referenceTime() {
+        return LocalDate.parse(referenceDate).atTime(12, 0);
+    }
+
+    private String email(String role, int n) {
+        return "synthetic-" + seed + "-" + role + "-" + n + "@example.com";
+    }
+
+    private static String name(SplittableRandom random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "1" + (3 + random.nextInt(7)) + String.format("%09d", random.nextInt(1_000_000_000));
+    }
+
+    /**
+     * @return dictionary ids keyed by the names they were resolved from
+     */
+    private static Map<String, Integer> idsByName(Collection<? extends DictionaryTerm> terms) {
+        return terms.stream().collect(Collectors.toMap(DictionaryTerm::getName, DictionaryTerm::getId));
+    }
+
+    private static List<String> pick(SplittableRandom random, String[] values, int count) {
+        List<String> pool = new ArrayList<>(List.of(values));
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count && !pool.isEmpty(); i++) {
+            picked.add(pool.remove(random.nextInt(pool.size())));
+        }
+        return picked;
+    }
+
+    /**
+     * Buffers rows for one statement and writes them with JDBC batching, one transaction per batch.
+     * A writer for a child table flushes its parent first so foreign keys are always satisfied.
+     */
+    private class BatchWriter {
+
+        private final String sql;
+        private final BatchWriter parent;
+        private final List<Object[]> rows = new ArrayList<>(batchSize);
+
+        BatchWriter(String sql) {
+            this(sql, null);
+        }
+
+        BatchWriter(String sql, BatchWriter parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                // Users and matron profiles take change versions, which delta syncs must wait for
+                changeVersionTracker.writing();
+                jdbcTemplate.batchUpdate(sql, rows);
+            });
+            rows.clear();
+        }
+    }
+}
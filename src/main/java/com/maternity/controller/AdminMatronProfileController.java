@@ -1,7 +1,8 @@
 package com.maternity.controller;
 
 import com.maternity.dto.AdminCreateMatronProfileRequest;
-import com.maternity.model.MatronProfile;
+import com.maternity.dto.AdminMatronProfileDTO;
+import com.maternity.dto.AdminMatronProfileSummaryDTO;
 import com.maternity.service.AdminMatronProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -30,26 +31,26 @@ public class AdminMatronProfileController {
 
     @GetMapping
     @Operation(summary = "Get all matron profiles", description = "Retrieve all matron profiles with pagination")
-    public ResponseEntity<Page<MatronProfile>> getAllMatronProfiles(
+    public ResponseEntity<Page<AdminMatronProfileSummaryDTO>> getAllMatronProfiles(
             @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
         return ResponseEntity.ok(adminMatronProfileService.getAllMatronProfiles(pageable));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get matron profile by ID", description = "Retrieve a specific matron profile by ID")
-    public ResponseEntity<MatronProfile> getMatronProfileById(@PathVariable Long id) {
+    public ResponseEntity<AdminMatronProfileDTO> getMatronProfileById(@PathVariable Long id) {
         return ResponseEntity.ok(adminMatronProfileService.getMatronProfileById(id));
     }
 
     @PostMapping
     @Operation(summary = "Create matron profile", description = "Admin creates a matron profile for a user")
-    public ResponseEntity<MatronProfile> createMatronProfile(@Valid @RequestBody AdminCreateMatronProfileRequest request) {
+    public ResponseEntity<AdminMatronProfileDTO> createMatronProfile(@Valid @RequestBody AdminCreateMatronProfileRequest request) {
         return ResponseEntity.ok(adminMatronProfileService.createMatronProfile(request));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update matron profile", description = "Update an existing matron profile")
-    public ResponseEntity<MatronProfile> updateMatronProfile(
+    public ResponseEntity<AdminMatronProfileDTO> updateMatronProfile(
             @PathVariable Long id,
             @Valid @RequestBody AdminCreateMatronProfileRequest request) {
         return ResponseEntity.ok(adminMatronProfileService.updateMatronProfile(id, request));
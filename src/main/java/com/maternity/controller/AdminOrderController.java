@@ -16,7 +16,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -46,15 +45,19 @@ public class AdminOrderController {
     }
 
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get orders by status", description = "Retrieve all orders with a specific status")
-    public ResponseEntity<List<AdminOrderDTO>> getOrdersByStatus(@PathVariable Order.OrderStatus status) {
-        return ResponseEntity.ok(adminOrderService.getOrdersByStatus(status));
+    @Operation(summary = "Get orders by status", description = "Retrieve orders with a specific status with pagination")
+    public ResponseEntity<Page<AdminOrderDTO>> getOrdersByStatus(
+            @PathVariable Order.OrderStatus status,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminOrderService.getOrdersByStatus(status, pageable));
     }
 
     @GetMapping("/mother/{motherId}")
-    @Operation(summary = "Get orders by mother ID", description = "Retrieve all orders for a specific mother")
-    public ResponseEntity<List<AdminOrderDTO>> getOrdersByMotherId(@PathVariable Long motherId) {
-        return ResponseEntity.ok(adminOrderService.getOrdersByMotherId(motherId));
+    @Operation(summary = "Get orders by mother ID", description = "Retrieve orders for a specific mother with pagination")
+    public ResponseEntity<Page<AdminOrderDTO>> getOrdersByMotherId(
+            @PathVariable Long motherId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminOrderService.getOrdersByMotherId(motherId, pageable));
     }
 
     @PutMapping("/{orderId}/status")
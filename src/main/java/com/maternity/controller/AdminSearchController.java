@@ -0,0 +1,37 @@
+package com.maternity.controller;
+
+import com.maternity.dto.AdminSearchResponse;
+import com.maternity.service.AdminSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/search")
+@Tag(name = "Admin Search", description = "Admin search across users, matrons and orders")
+@SecurityRequirement(name = "bearer-jwt")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSearchController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final AdminSearchService adminSearchService;
+
+    public AdminSearchController(AdminSearchService adminSearchService) {
+        this.adminSearchService = adminSearchService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search everything", description = "Search users, matron profiles and orders by name, phone or order id at once; " +
+            "sections that miss the deadline are returned empty and listed in incompleteSections")
+    public ResponseEntity<AdminSearchResponse> search(@RequestParam String q,
+                                                      @RequestParam(defaultValue = "10") int limit) {
+        if (q.isBlank()) {
+            throw new RuntimeException("Search query must not be blank");
+        }
+        return ResponseEntity.ok(adminSearchService.search(q, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
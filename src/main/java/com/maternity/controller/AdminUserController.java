@@ -2,25 +2,28 @@ package com.maternity.controller;
 
 import com.maternity.dto.AdminCreateMatronProfileRequest;
 import com.maternity.dto.AdminCreateUserRequest;
+import com.maternity.dto.AdminMatronProfileDTO;
+import com.maternity.dto.AdminMatronProfileSummaryDTO;
 import com.maternity.dto.AdminUpdateUserRequest;
 import com.maternity.dto.AdminUserDTO;
 import com.maternity.dto.CreateMatronRequest;
-import com.maternity.model.MatronProfile;
 import com.maternity.model.User;
 import com.maternity.service.AdminUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -51,27 +54,70 @@ public class AdminUserController {
     }
 
     @GetMapping("/mothers")
-    @Operation(summary = "Get all mothers", description = "Retrieve all users with MOTHER role")
-    public ResponseEntity<List<AdminUserDTO>> getMothers() {
-        return ResponseEntity.ok(adminUserService.getMothers());
+    @Operation(summary = "Get all mothers", description = "Retrieve users with MOTHER role with pagination")
+    public ResponseEntity<Page<AdminUserDTO>> getMothers(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminUserService.getMothers(pageable));
     }
 
     @GetMapping("/matrons")
-    @Operation(summary = "Get all matrons", description = "Retrieve all users with MATRON role")
-    public ResponseEntity<List<AdminUserDTO>> getMatrons() {
-        return ResponseEntity.ok(adminUserService.getMatrons());
+    @Operation(summary = "Get all matrons", description = "Retrieve users with MATRON role with pagination")
+    public ResponseEntity<Page<AdminUserDTO>> getMatrons(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminUserService.getMatrons(pageable));
     }
 
     @GetMapping("/search/name")
     @Operation(summary = "Search users by name", description = "Search users by name (case insensitive)")
-    public ResponseEntity<List<AdminUserDTO>> searchUsersByName(@RequestParam String name) {
-        return ResponseEntity.ok(adminUserService.searchUsersByName(name));
+    public ResponseEntity<Page<AdminUserDTO>> searchUsersByName(
+            @RequestParam String name,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminUserService.searchUsersByName(name, pageable));
     }
 
     @GetMapping("/search/phone")
     @Operation(summary = "Search users by phone", description = "Search users by phone number")
-    public ResponseEntity<List<AdminUserDTO>> searchUsersByPhone(@RequestParam String phone) {
-        return ResponseEntity.ok(adminUserService.searchUsersByPhone(phone));
+    public ResponseEntity<Page<AdminUserDTO>> searchUsersByPhone(
+            @RequestParam String phone,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminUserService.searchUsersByPhone(phone, pageable));
+    }
+
+    @GetMapping("/search/fuzzy")
+    @Operation(summary = "Fuzzy search users", description = "Typo-tolerant ranked search by name, or by phone suffix when the query is digits")
+    public ResponseEntity<Page<AdminUserDTO>> fuzzySearchUsers(
+            @RequestParam String q,
+            @RequestParam(required = false) User.UserRole role,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(adminUserService.fuzzySearchUsers(q, role, pageable));
+    }
+
+    @GetMapping("/mothers/stream")
+    @Operation(summary = "Stream all mothers", description = "Stream every user with MOTHER role as one JSON array")
+    public void streamMothers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        adminUserService.streamUsersByRole(User.UserRole.MOTHER, response.getOutputStream());
+    }
+
+    @GetMapping("/matrons/stream")
+    @Operation(summary = "Stream all matrons", description = "Stream every user with MATRON role as one JSON array")
+    public void streamMatrons(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        adminUserService.streamUsersByRole(User.UserRole.MATRON, response.getOutputStream());
+    }
+
+    @GetMapping("/search/name/stream")
+    @Operation(summary = "Stream users by name", description = "Stream every user whose name matches (case insensitive) as one JSON array")
+    public void streamUsersByName(@RequestParam String name, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        adminUserService.streamUsersByName(name, response.getOutputStream());
+    }
+
+    @GetMapping("/search/phone/stream")
+    @Operation(summary = "Stream users by phone", description = "Stream every user whose phone number matches as one JSON array")
+    public void streamUsersByPhone(@RequestParam String phone, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        adminUserService.streamUsersByPhone(phone, response.getOutputStream());
     }
 
     @DeleteMapping("/{userId}")
@@ -94,14 +140,15 @@ public class AdminUserController {
     }
 
     @GetMapping("/matron-profiles")
-    @Operation(summary = "Get all matron profiles", description = "Retrieve all matron profiles")
-    public ResponseEntity<List<MatronProfile>> getAllMatronProfiles() {
-        return ResponseEntity.ok(adminUserService.getAllMatronProfiles());
+    @Operation(summary = "Get all matron profiles", description = "Retrieve matron profile summaries with pagination")
+    public ResponseEntity<Page<AdminMatronProfileSummaryDTO>> getAllMatronProfiles(
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminUserService.getAllMatronProfiles(pageable));
     }
 
     @GetMapping("/matron-profiles/{profileId}")
     @Operation(summary = "Get matron profile by ID", description = "Retrieve a specific matron profile by ID")
-    public ResponseEntity<MatronProfile> getMatronProfileById(@PathVariable Long profileId) {
+    public ResponseEntity<AdminMatronProfileDTO> getMatronProfileById(@PathVariable Long profileId) {
         return ResponseEntity.ok(adminUserService.getMatronProfileById(profileId));
     }
 
@@ -121,13 +168,13 @@ public class AdminUserController {
 
     @PostMapping("/matron-profiles")
     @Operation(summary = "Create matron profile", description = "Admin creates a matron profile for a user")
-    public ResponseEntity<MatronProfile> createMatronProfile(@Valid @RequestBody AdminCreateMatronProfileRequest request) {
+    public ResponseEntity<AdminMatronProfileDTO> createMatronProfile(@Valid @RequestBody AdminCreateMatronProfileRequest request) {
         return ResponseEntity.ok(adminUserService.createMatronProfile(request));
     }
 
     @PostMapping("/matrons")
     @Operation(summary = "Create matron", description = "Admin creates a complete matron (user + profile)")
-    public ResponseEntity<MatronProfile> createMatron(@Valid @RequestBody CreateMatronRequest request) {
+    public ResponseEntity<AdminMatronProfileDTO> createMatron(@Valid @RequestBody CreateMatronRequest request) {
         return ResponseEntity.ok(adminUserService.createMatron(request));
     }
 }
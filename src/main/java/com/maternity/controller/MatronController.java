@@ -1,7 +1,13 @@
 package com.maternity.controller;
 
+import com.maternity.dto.LeaderboardEntryDTO;
+import com.maternity.dto.MatronChangesDTO;
 import com.maternity.dto.MatronProfileDTO;
+import com.maternity.dto.NearbyMatronDTO;
+import com.maternity.dto.RegionFacetDTO;
+import com.maternity.dto.SuggestionDTO;
 import com.maternity.service.MatronService;
+import com.maternity.service.MatronSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,9 +23,11 @@ import java.util.List;
 public class MatronController {
 
     private final MatronService matronService;
+    private final MatronSyncService matronSyncService;
 
-    public MatronController(MatronService matronService) {
+    public MatronController(MatronService matronService, MatronSyncService matronSyncService) {
         this.matronService = matronService;
+        this.matronSyncService = matronSyncService;
     }
 
     @Operation(summary = "Get all matrons",
@@ -58,4 +66,85 @@ public class MatronController {
             @RequestParam Double maxPrice) {
         return ResponseEntity.ok(matronService.filterByPriceRange(minPrice, maxPrice));
     }
+
+    @Operation(summary = "Filter matrons by skills and certifications",
+               description = "Find matrons having all of the given skills and certifications " +
+                       "(comma-separated, case-insensitive)")
+    @GetMapping("/filter/skills")
+    public ResponseEntity<List<MatronProfileDTO>> filterBySkills(
+            @RequestParam(defaultValue = "") List<String> skills,
+            @RequestParam(defaultValue = "") List<String> certifications) {
+        return ResponseEntity.ok(matronService.filterBySkills(skills, certifications));
+    }
+
+    @Operation(summary = "Filter matrons by region",
+               description = "Find matrons in a province, optionally narrowed to a city and district")
+    @GetMapping("/filter/region")
+    public ResponseEntity<List<MatronProfileDTO>> filterByRegion(
+            @RequestParam String province,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district) {
+        return ResponseEntity.ok(matronService.filterByRegion(province, city, district));
+    }
+
+    @Operation(summary = "Matron counts by region",
+               description = "Total and available matrons in a region and in each region one level below it: " +
+                       "provinces without parameters, cities of a province, districts of a city")
+    @GetMapping("/regions")
+    public ResponseEntity<RegionFacetDTO> getRegionFacets(
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String city) {
+        return ResponseEntity.ok(matronService.getRegionFacets(province, city));
+    }
+
+    @Operation(summary = "Find matrons nearby",
+               description = "Matrons within radiusKm (at most 200) of lat/lng or of a place named in near, " +
+                       "nearest first; optionally filtered by price and availability")
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyMatronDTO>> findNearby(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) String near,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(matronService.findNearby(lat, lng, near, radiusKm, minPrice, maxPrice,
+                available, limit));
+    }
+
+    @Operation(summary = "Top matrons",
+               description = "Leaderboard by rating (adjusted for review count), experience or value " +
+                       "(rating per 10,000 a month), country-wide or within a province or city; at most 50")
+    @GetMapping("/top")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getTopMatrons(
+            @RequestParam(defaultValue = "rating") String by,
+            @RequestParam(required = false) String province,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(matronService.getTopMatrons(by, province, city, limit));
+    }
+
+    @Operation(summary = "Suggest locations or skills",
+               description = "Typeahead for the search box: locations or skills starting with the typed text " +
+                       "(Hanzi, pinyin or pinyin initials), most matrons first")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "location") String field,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(matronService.suggest(field, q, limit));
+    }
+
+    @Operation(summary = "Catalog changes since a sync",
+               description = "Matron profiles created or updated and ids of profiles deleted since the watermark " +
+                       "of a previous call (0 for the full catalog); pass the returned watermark as since next " +
+                       "time, straight away while hasMore is true. At most 1000 changes per call")
+    @GetMapping("/changes")
+    public ResponseEntity<MatronChangesDTO> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(matronSyncService.getChanges(since, limit));
+    }
 }
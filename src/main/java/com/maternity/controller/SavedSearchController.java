@@ -0,0 +1,82 @@
+package com.maternity.controller;
+
+import com.maternity.dto.SavedSearchDTO;
+import com.maternity.dto.SavedSearchRequest;
+import com.maternity.dto.SearchAlertDTO;
+import com.maternity.exception.ResourceNotFoundException;
+import com.maternity.model.User;
+import com.maternity.repository.UserRepository;
+import com.maternity.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/users/saved-searches")
+@Tag(name = "Saved Searches", description = "Saved matron searches and their alerts")
+@SecurityRequirement(name = "Bearer Authentication")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+    private final UserRepository userRepository;
+
+    public SavedSearchController(SavedSearchService savedSearchService, UserRepository userRepository) {
+        this.savedSearchService = savedSearchService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Get the current authenticated user
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String identifier = authentication.getName();
+        return userRepository.findByEmail(identifier)
+                .or(() -> userRepository.findByPhone(identifier))
+                .or(() -> userRepository.findByWechatOpenId(identifier))
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    @Operation(summary = "List saved searches", description = "The current mother's saved searches, oldest first")
+    @GetMapping
+    public ResponseEntity<List<SavedSearchDTO>> getSavedSearches() {
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(getCurrentUser().getId()));
+    }
+
+    @Operation(summary = "Save a search",
+               description = "Region, price range, skills and availability date to be alerted about: an alert " +
+                       "is queued whenever a matron profile changes so that it starts matching")
+    @PostMapping
+    public ResponseEntity<SavedSearchDTO> createSavedSearch(@Valid @RequestBody SavedSearchRequest request) {
+        SavedSearchDTO created = savedSearchService.createSavedSearch(getCurrentUser().getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    @Operation(summary = "Delete a saved search", description = "Deletes the search and its alerts")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(getCurrentUser().getId(), id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Saved search alerts", description = "Matrons that started matching a saved search, newest first")
+    @GetMapping("/alerts")
+    public ResponseEntity<List<SearchAlertDTO>> getAlerts(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(savedSearchService.getAlerts(getCurrentUser().getId(), limit));
+    }
+
+    @Operation(summary = "Mark alerts read", description = "Marks all of the current mother's alerts read")
+    @PutMapping("/alerts/read")
+    public ResponseEntity<Void> markAlertsRead() {
+        savedSearchService.markAlertsRead(getCurrentUser().getId());
+        return ResponseEntity.noContent().build();
+    }
+}
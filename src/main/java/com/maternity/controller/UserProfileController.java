@@ -1,11 +1,15 @@
 package com.maternity.controller;
 
+import com.maternity.dto.NearbyMatronDTO;
+import com.maternity.dto.RecommendedMatronDTO;
 import com.maternity.dto.UpdateMatronProfileRequest;
 import com.maternity.dto.UpdateMotherProfileRequest;
 import com.maternity.dto.UserDTO;
 import com.maternity.exception.ResourceNotFoundException;
 import com.maternity.model.User;
 import com.maternity.repository.UserRepository;
+import com.maternity.service.MatronService;
+import com.maternity.service.RecommendationService;
 import com.maternity.service.UserProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -18,6 +22,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 @Tag(name = "User Profile", description = "User profile management endpoints")
@@ -28,10 +34,15 @@ public class UserProfileController {
 
     private final UserProfileService userProfileService;
     private final UserRepository userRepository;
+    private final MatronService matronService;
+    private final RecommendationService recommendationService;
 
-    public UserProfileController(UserProfileService userProfileService, UserRepository userRepository) {
+    public UserProfileController(UserProfileService userProfileService, UserRepository userRepository,
+                                 MatronService matronService, RecommendationService recommendationService) {
         this.userProfileService = userProfileService;
         this.userRepository = userRepository;
+        this.matronService = matronService;
+        this.recommendationService = recommendationService;
     }
 
     /**
@@ -83,4 +94,29 @@ public class UserProfileController {
 
         return ResponseEntity.ok(UserDTO.fromEntity(currentUser));
     }
+
+    @Operation(summary = "Find Matrons Near Me",
+               description = "Matrons within radiusKm of the current mother's address, nearest first")
+    @GetMapping("/profile/mother/nearby-matrons")
+    public ResponseEntity<List<NearbyMatronDTO>> findNearbyMatrons(
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(defaultValue = "20") int limit) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(matronService.findNearbyForMother(currentUser.getId(), radiusKm, minPrice,
+                maxPrice, available, limit));
+    }
+
+    @Operation(summary = "Recommended Matrons",
+               description = "Matrons best matching the current mother's special needs, address and due date, " +
+                       "and her monthly budget if given; at most 50")
+    @GetMapping("/profile/mother/recommended-matrons")
+    public ResponseEntity<List<RecommendedMatronDTO>> getRecommendedMatrons(
+            @RequestParam(required = false) Double budget,
+            @RequestParam(defaultValue = "10") int limit) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(recommendationService.recommendForMother(currentUser.getId(), budget, limit));
+    }
 }
@@ -0,0 +1,17 @@
+package com.maternity.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the method's reads on the analytics pool, so slow admin reporting queries
+ * cannot take connections from user-facing requests.
+ *
+ * Ignored inside a read-write transaction, which keeps its primary connection.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AnalyticsQuery {
+}
@@ -0,0 +1,27 @@
+package com.maternity.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Marks the current thread for the analytics pool while an {@link AnalyticsQuery} method runs.
+ *
+ * Connections are fetched lazily, so the mark only has to be in place before the first
+ * statement; the aspect may run inside or outside the transaction interceptor.
+ */
+@Aspect
+public class AnalyticsQueryAspect {
+
+    @Around("@annotation(com.maternity.datasource.AnalyticsQuery) || @within(com.maternity.datasource.AnalyticsQuery)")
+    public Object routeToAnalytics(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean outermost = ReadWriteRoutingDataSource.enterAnalytics();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (outermost) {
+                ReadWriteRoutingDataSource.exitAnalytics();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.maternity.datasource;
+
+/**
+ * Connection pools behind {@link ReadWriteRoutingDataSource}.
+ */
+public enum DataSourceRoute {
+
+    /** Read-write transactions and anything outside a transaction */
+    PRIMARY,
+
+    /** Read-only transactions while the replica is reachable and not lagging */
+    REPLICA,
+
+    /** Admin reporting queries marked with {@link AnalyticsQuery} */
+    ANALYTICS
+}
@@ -0,0 +1,130 @@
+package com.maternity.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Picks a connection pool per transaction: read-only transactions go to the replica,
+ * {@link AnalyticsQuery} work to the analytics pool, everything else to the primary. Reads
+ * wrapped in {@link #onPrimary} always use the primary.
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the transaction manager opens the
+ * connection before the read-only flag is bound to the thread, and the proxy delays the
+ * real getConnection until the first statement. If the replica or analytics pool cannot
+ * hand out a connection, the work runs on the primary instead.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> ANALYTICS = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private final Map<DataSourceRoute, DataSource> dataSources = new EnumMap<>(DataSourceRoute.class);
+    private final ReplicaMonitor replicaMonitor;
+    private final Map<DataSourceRoute, Counter> connections = new EnumMap<>(DataSourceRoute.class);
+    private final Map<DataSourceRoute, Counter> fallbacks = new EnumMap<>(DataSourceRoute.class);
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, DataSource analytics,
+                                      ReplicaMonitor replicaMonitor, MeterRegistry meterRegistry) {
+        this.replicaMonitor = replicaMonitor;
+        dataSources.put(DataSourceRoute.PRIMARY, primary);
+        dataSources.put(DataSourceRoute.REPLICA, replica);
+        dataSources.put(DataSourceRoute.ANALYTICS, analytics);
+        setTargetDataSources(Map.copyOf(dataSources));
+        setDefaultTargetDataSource(primary);
+
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            String tag = route.name().toLowerCase();
+            connections.put(route, Counter.builder("datasource.routing.connections")
+                    .description("Connections handed out per pool by the routing data source")
+                    .tag("route", tag)
+                    .register(meterRegistry));
+            fallbacks.put(route, Counter.builder("datasource.routing.fallbacks")
+                    .description("Connections that fell back to the primary because the pool failed")
+                    .tag("route", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Mark the current thread for the analytics pool
+     *
+     * @return true if this call set the mark (and must clear it with {@link #exitAnalytics()})
+     */
+    static boolean enterAnalytics() {
+        if (Boolean.TRUE.equals(ANALYTICS.get())) {
+            return false;
+        }
+        ANALYTICS.set(Boolean.TRUE);
+        return true;
+    }
+
+    static void exitAnalytics() {
+        ANALYTICS.remove();
+    }
+
+    /**
+     * Run work with its reads on the primary, for reads that must see a write that has just
+     * committed: a lagging replica would still return the rows as they were before it
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (Boolean.TRUE.equals(PRIMARY.get())) {
+            return work.get();
+        }
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY.remove();
+        }
+    }
+
+    @Override
+    protected DataSourceRoute determineCurrentLookupKey() {
+        if (Boolean.TRUE.equals(PRIMARY.get())) {
+            return DataSourceRoute.PRIMARY;
+        }
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        boolean readWriteTransaction = TransactionSynchronizationManager.isActualTransactionActive() && !readOnly;
+        if (Boolean.TRUE.equals(ANALYTICS.get()) && !readWriteTransaction) {
+            return DataSourceRoute.ANALYTICS;
+        }
+        if (readOnly && replicaMonitor.isAvailable()) {
+            return DataSourceRoute.REPLICA;
+        }
+        return DataSourceRoute.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSourceRoute route = determineCurrentLookupKey();
+        if (route != DataSourceRoute.PRIMARY) {
+            try {
+                Connection connection = dataSources.get(route).getConnection();
+                connections.get(route).increment();
+                return connection;
+            } catch (SQLException e) {
+                if (route == DataSourceRoute.REPLICA) {
+                    replicaMonitor.markUnavailable(e.getMessage());
+                }
+                fallbacks.get(route).increment();
+                logger.warn("No connection from " + route + " pool, using primary: " + e.getMessage());
+            }
+        }
+        connections.get(DataSourceRoute.PRIMARY).increment();
+        return dataSources.get(DataSourceRoute.PRIMARY).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+}
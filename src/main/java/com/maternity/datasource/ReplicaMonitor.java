@@ -0,0 +1,107 @@
+package com.maternity.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether read-only transactions may use the replica.
+ *
+ * Every check interval the replica must hand out a valid connection and, when a lag query
+ * is configured, report a replication lag within the limit. Otherwise reads go to the
+ * primary until a later check passes. A failed connection attempt during routing also
+ * takes the replica out immediately.
+ */
+public class ReplicaMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final long checkIntervalMillis;
+
+    private volatile boolean available = true;
+    private volatile long lastLagSeconds;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param lagQuery query returning the replication lag in seconds as a single number,
+     *                 or empty to check only that the replica is reachable
+     */
+    public ReplicaMonitor(DataSource replica, String lagQuery, long maxLagSeconds, long checkIntervalMillis) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Probe the replica now and update availability
+     */
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(2)) {
+                markUnavailable("connection is not valid");
+                return;
+            }
+            if (lagQuery != null && !lagQuery.isBlank()) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(lagQuery)) {
+                    lastLagSeconds = rs.next() ? rs.getLong(1) : 0;
+                }
+                if (lastLagSeconds > maxLagSeconds) {
+                    markUnavailable("lag " + lastLagSeconds + " s exceeds " + maxLagSeconds + " s");
+                    return;
+                }
+            }
+            markAvailable();
+        } catch (Exception e) {
+            markUnavailable(e.getMessage());
+        }
+    }
+
+    public void markUnavailable(String reason) {
+        if (available) {
+            log.warn("Replica unavailable, routing reads to primary: {}", reason);
+        }
+        available = false;
+    }
+
+    private void markAvailable() {
+        if (!available) {
+            log.info("Replica available again, routing read-only transactions to it");
+        }
+        available = true;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+}
@@ -0,0 +1,226 @@
+package com.maternity.dto;
+
+import com.maternity.model.MatronProfile;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Matron profile as returned by the admin endpoints. Built inside the service transaction,
+ * so serialization never touches lazy collections.
+ */
+public class AdminMatronProfileDTO {
+
+    private Long id;
+    private Long userId;
+    private String name;
+    private String email;
+    private String phone;
+    private String avatar;
+    private Integer age;
+    private Integer yearsOfExperience;
+    private Double pricePerMonth;
+    private String location;
+    private String bio;
+    private List<String> skills;
+    private List<String> certifications;
+    private List<MatronProfileDTO.WorkExperienceDTO> workHistory;
+    private Double rating;
+    private Integer reviewCount;
+    private Boolean isAvailable;
+    private LocalDate availableFrom;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public AdminMatronProfileDTO() {
+    }
+
+    public AdminMatronProfileDTO(MatronProfile profile) {
+        this.id = profile.getId();
+        this.userId = profile.getUser().getId();
+        this.name = profile.getUser().getName();
+        this.email = profile.getUser().getEmail();
+        this.phone = profile.getUser().getPhone();
+        this.avatar = profile.getUser().getAvatar();
+        this.age = profile.getAge();
+        this.yearsOfExperience = profile.getYearsOfExperience();
+        this.pricePerMonth = profile.getPricePerMonth();
+        this.location = profile.getLocation();
+        this.bio = profile.getBio();
+        this.skills = profile.getSkillNames();
+        this.certifications = profile.getCertificationNames();
+        this.workHistory = profile.getWorkHistory().stream()
+            .map(MatronProfileDTO.WorkExperienceDTO::fromEntity)
+            .collect(Collectors.toList());
+        this.rating = profile.getRating();
+        this.reviewCount = profile.getReviewCount();
+        this.isAvailable = profile.getIsAvailable();
+        this.availableFrom = profile.getAvailableFrom();
+        this.createdAt = profile.getCreatedAt();
+        this.updatedAt = profile.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getAvatar() {
+        return avatar;
+    }
+
+    public void setAvatar(String avatar) {
+        this.avatar = avatar;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    public Double getPricePerMonth() {
+        return pricePerMonth;
+    }
+
+    public void setPricePerMonth(Double pricePerMonth) {
+        this.pricePerMonth = pricePerMonth;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public List<String> getCertifications() {
+        return certifications;
+    }
+
+    public void setCertifications(List<String> certifications) {
+        this.certifications = certifications;
+    }
+
+    public List<MatronProfileDTO.WorkExperienceDTO> getWorkHistory() {
+        return workHistory;
+    }
+
+    public void setWorkHistory(List<MatronProfileDTO.WorkExperienceDTO> workHistory) {
+        this.workHistory = workHistory;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+
+    public Integer getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(Integer reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Boolean getIsAvailable() {
+        return isAvailable;
+    }
+
+    public void setIsAvailable(Boolean isAvailable) {
+        this.isAvailable = isAvailable;
+    }
+
+    public LocalDate getAvailableFrom() {
+        return availableFrom;
+    }
+
+    public void setAvailableFrom(LocalDate availableFrom) {
+        this.availableFrom = availableFrom;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
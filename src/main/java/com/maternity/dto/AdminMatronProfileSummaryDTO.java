@@ -0,0 +1,152 @@
+package com.maternity.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the admin matron profile listings, selected directly by
+ * MatronProfileRepository.findAdminSummaries without loading entities or collections.
+ * The full profile (skills, certifications, work history) is AdminMatronProfileDTO.
+ */
+public class AdminMatronProfileSummaryDTO {
+
+    private Long id;
+    private Long userId;
+    private String name;
+    private String phone;
+    private Integer age;
+    private Integer yearsOfExperience;
+    private Double pricePerMonth;
+    private String location;
+    private Double rating;
+    private Integer reviewCount;
+    private Boolean isAvailable;
+    private LocalDate availableFrom;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public AdminMatronProfileSummaryDTO() {
+    }
+
+    public AdminMatronProfileSummaryDTO(Long id, Long userId, String name, String phone, Integer age, Integer yearsOfExperience, Double pricePerMonth,
+                                        String location, Double rating, Integer reviewCount, Boolean isAvailable, LocalDate availableFrom, LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+        this.phone = phone;
+        this.age = age;
+        this.yearsOfExperience = yearsOfExperience;
+        this.pricePerMonth = pricePerMonth;
+        this.location = location;
+        this.rating = rating;
+        this.reviewCount = reviewCount;
+        this.isAvailable = isAvailable;
+        this.availableFrom = availableFrom;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    public Double getPricePerMonth() {
+        return pricePerMonth;
+    }
+
+    public void setPricePerMonth(Double pricePerMonth) {
+        this.pricePerMonth = pricePerMonth;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+
+    public Integer getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(Integer reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Boolean getIsAvailable() {
+        return isAvailable;
+    }
+
+    public void setIsAvailable(Boolean isAvailable) {
+        this.isAvailable = isAvailable;
+    }
+
+    public LocalDate getAvailableFrom() {
+        return availableFrom;
+    }
+
+    public void setAvailableFrom(LocalDate availableFrom) {
+        this.availableFrom = availableFrom;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.maternity.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AdminSearchResponse {
+
+    private String query;
+    private List<AdminUserDTO> users = new ArrayList<>();
+    private List<MatronProfileDTO> matrons = new ArrayList<>();
+    private List<AdminOrderDTO> orders = new ArrayList<>();
+    // Sections that missed the deadline or failed; their lists are empty
+    private List<String> incompleteSections = new ArrayList<>();
+
+    // Constructors
+    public AdminSearchResponse() {
+    }
+
+    public AdminSearchResponse(String query) {
+        this.query = query;
+    }
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public List<AdminUserDTO> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<AdminUserDTO> users) {
+        this.users = users;
+    }
+
+    public List<MatronProfileDTO> getMatrons() {
+        return matrons;
+    }
+
+    public void setMatrons(List<MatronProfileDTO> matrons) {
+        this.matrons = matrons;
+    }
+
+    public List<AdminOrderDTO> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<AdminOrderDTO> orders) {
+        this.orders = orders;
+    }
+
+    public List<String> getIncompleteSections() {
+        return incompleteSections;
+    }
+
+    public void setIncompleteSections(List<String> incompleteSections) {
+        this.incompleteSections = incompleteSections;
+    }
+
+    public boolean isPartial() {
+        return !incompleteSections.isEmpty();
+    }
+}
@@ -5,6 +5,9 @@ public class AuthResponse {
     private Object user;
     private String userType;
 
+    public AuthResponse() {
+    }
+
     public AuthResponse(String token, UserDTO user) {
         this.token = token;
         this.user = user;
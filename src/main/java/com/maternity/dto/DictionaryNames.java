@@ -0,0 +1,61 @@
+package com.maternity.dto;
+
+import com.maternity.model.Certification;
+import com.maternity.model.DictionaryTerm;
+import com.maternity.model.Skill;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names of the skill and certification dictionary entries by id, so DTOs kept in memory hold
+ * only the ids and look the names up when serialized.
+ *
+ * Entries are recorded as DTOs are built from entities. A stored entry never changes its name,
+ * so the maps only grow, by one name per distinct term.
+ */
+final class DictionaryNames {
+
+    private static final Map<Integer, String> SKILLS = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> CERTIFICATIONS = new ConcurrentHashMap<>();
+
+    private DictionaryNames() {
+    }
+
+    static int[] skillIds(Collection<Skill> skills) {
+        return ids(skills, SKILLS);
+    }
+
+    static int[] certificationIds(Collection<Certification> certifications) {
+        return ids(certifications, CERTIFICATIONS);
+    }
+
+    static List<String> skills(int[] ids) {
+        return names(ids, SKILLS);
+    }
+
+    static List<String> certifications(int[] ids) {
+        return names(ids, CERTIFICATIONS);
+    }
+
+    private static int[] ids(Collection<? extends DictionaryTerm> terms, Map<Integer, String> names) {
+        int[] ids = new int[terms.size()];
+        int i = 0;
+        for (DictionaryTerm term : terms) {
+            ids[i++] = term.getId();
+            names.put(term.getId(), term.getName());
+        }
+        return ids;
+    }
+
+    private static List<String> names(int[] ids, Map<Integer, String> names) {
+        List<String> resolved = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            resolved.add(names.get(id));
+        }
+        return resolved;
+    }
+}
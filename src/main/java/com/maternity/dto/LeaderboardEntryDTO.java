@@ -0,0 +1,44 @@
+package com.maternity.dto;
+
+public class LeaderboardEntryDTO {
+
+    private Integer rank;
+    // Ranking score: confidence-adjusted rating, years of experience, or adjusted rating per 10,000 a month
+    private Double score;
+    private MatronProfileDTO matron;
+
+    // Constructors
+    public LeaderboardEntryDTO() {
+    }
+
+    public LeaderboardEntryDTO(Integer rank, Double score, MatronProfileDTO matron) {
+        this.rank = rank;
+        this.score = score;
+        this.matron = matron;
+    }
+
+    // Getters and Setters
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public MatronProfileDTO getMatron() {
+        return matron;
+    }
+
+    public void setMatron(MatronProfileDTO matron) {
+        this.matron = matron;
+    }
+}
@@ -0,0 +1,59 @@
+package com.maternity.dto;
+
+import java.util.List;
+
+public class MatronChangesDTO {
+
+    // Pass as since on the next call
+    private Long watermark;
+    // Created or updated since the requested version
+    private List<MatronProfileDTO> updated;
+    // Ids of profiles deleted since the requested version
+    private List<Long> deleted;
+    // More changes are waiting past the watermark
+    private Boolean hasMore;
+
+    // Constructors
+    public MatronChangesDTO() {
+    }
+
+    public MatronChangesDTO(Long watermark, List<MatronProfileDTO> updated, List<Long> deleted, Boolean hasMore) {
+        this.watermark = watermark;
+        this.updated = updated;
+        this.deleted = deleted;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public Long getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(Long watermark) {
+        this.watermark = watermark;
+    }
+
+    public List<MatronProfileDTO> getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(List<MatronProfileDTO> updated) {
+        this.updated = updated;
+    }
+
+    public List<Long> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<Long> deleted) {
+        this.deleted = deleted;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -1,5 +1,6 @@
 package com.maternity.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.maternity.model.MatronProfile;
 import com.maternity.model.WorkExperience;
 
@@ -16,19 +17,28 @@ public class MatronProfileDTO {
     private Integer yearsOfExperience;
     private Double pricePerMonth;
     private String location;
+    private String province;
+    private String city;
+    private String district;
+    private Double latitude;
+    private Double longitude;
     private String bio;
-    private List<String> skills;
-    private List<String> certifications;
     private List<WorkExperienceDTO> workHistory;
     private Double rating;
     private Integer reviewCount;
     private Boolean isAvailable;
     private LocalDate availableFrom;
+    // Dictionary ids, serialized as the names in the same order; the catalog keeps a DTO per
+    // matron, and ids don't repeat the names in each of them
+    @JsonIgnore
+    private int[] skillIds = new int[0];
+    @JsonIgnore
+    private int[] certificationIds = new int[0];
 
     public MatronProfileDTO() {
     }
 
-    public MatronProfileDTO(Long id, Long userId, String name, String avatar, Integer age, Integer yearsOfExperience, Double pricePerMonth, String location, String bio, List<String> skills, List<String> certifications, List<WorkExperienceDTO> workHistory, Double rating, Integer reviewCount, Boolean isAvailable, LocalDate availableFrom) {
+    public MatronProfileDTO(Long id, Long userId, String name, String avatar, Integer age, Integer yearsOfExperience, Double pricePerMonth, String location, String bio, int[] skillIds, int[] certificationIds, List<WorkExperienceDTO> workHistory, Double rating, Integer reviewCount, Boolean isAvailable, LocalDate availableFrom) {
         this.id = id;
         this.userId = userId;
         this.name = name;
@@ -38,8 +48,8 @@ public class MatronProfileDTO {
         this.pricePerMonth = pricePerMonth;
         this.location = location;
         this.bio = bio;
-        this.skills = skills;
-        this.certifications = certifications;
+        this.skillIds = skillIds;
+        this.certificationIds = certificationIds;
         this.workHistory = workHistory;
         this.rating = rating;
         this.reviewCount = reviewCount;
@@ -111,6 +121,46 @@ public class MatronProfileDTO {
         this.location = location;
     }
 
+    public String getProvince() {
+        return province;
+    }
+
+    public void setProvince(String province) {
+        this.province = province;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public void setDistrict(String district) {
+        this.district = district;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public String getBio() {
         return bio;
     }
@@ -120,19 +170,11 @@ public class MatronProfileDTO {
     }
 
     public List<String> getSkills() {
-        return skills;
-    }
-
-    public void setSkills(List<String> skills) {
-        this.skills = skills;
+        return DictionaryNames.skills(skillIds);
     }
 
     public List<String> getCertifications() {
-        return certifications;
-    }
-
-    public void setCertifications(List<String> certifications) {
-        this.certifications = certifications;
+        return DictionaryNames.certifications(certificationIds);
     }
 
     public List<WorkExperienceDTO> getWorkHistory() {
@@ -175,8 +217,24 @@ public class MatronProfileDTO {
         this.availableFrom = availableFrom;
     }
 
+    public int[] getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(int[] skillIds) {
+        this.skillIds = skillIds;
+    }
+
+    public int[] getCertificationIds() {
+        return certificationIds;
+    }
+
+    public void setCertificationIds(int[] certificationIds) {
+        this.certificationIds = certificationIds;
+    }
+
     public static MatronProfileDTO fromEntity(MatronProfile matron) {
-        return new MatronProfileDTO(
+        MatronProfileDTO dto = new MatronProfileDTO(
                 matron.getId(),
                 matron.getUser().getId(),
                 matron.getUser().getName(),
@@ -186,8 +244,8 @@ public class MatronProfileDTO {
                 matron.getPricePerMonth(),
                 matron.getLocation(),
                 matron.getBio(),
-                matron.getSkills(),
-                matron.getCertifications(),
+                DictionaryNames.skillIds(matron.getSkills()),
+                DictionaryNames.certificationIds(matron.getCertifications()),
                 matron.getWorkHistory().stream()
                         .map(WorkExperienceDTO::fromEntity)
                         .collect(Collectors.toList()),
@@ -196,6 +254,14 @@ public class MatronProfileDTO {
                 matron.getIsAvailable(),
                 matron.getAvailableFrom()
         );
+        dto.setProvince(matron.getRegion().getProvince());
+        dto.setCity(matron.getRegion().getCity());
+        dto.setDistrict(matron.getRegion().getDistrict());
+        if (matron.getCoordinates() != null) {
+            dto.setLatitude(matron.getCoordinates().getLatitude());
+            dto.setLongitude(matron.getCoordinates().getLongitude());
+        }
+        return dto;
     }
 
     public static class WorkExperienceDTO {
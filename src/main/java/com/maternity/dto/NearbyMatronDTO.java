@@ -0,0 +1,34 @@
+package com.maternity.dto;
+
+public class NearbyMatronDTO {
+
+    private MatronProfileDTO matron;
+    // Great-circle distance from the search point, rounded to 0.1 km
+    private Double distanceKm;
+
+    // Constructors
+    public NearbyMatronDTO() {
+    }
+
+    public NearbyMatronDTO(MatronProfileDTO matron, Double distanceKm) {
+        this.matron = matron;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters and Setters
+    public MatronProfileDTO getMatron() {
+        return matron;
+    }
+
+    public void setMatron(MatronProfileDTO matron) {
+        this.matron = matron;
+    }
+
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
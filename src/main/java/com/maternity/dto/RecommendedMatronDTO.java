@@ -0,0 +1,34 @@
+package com.maternity.dto;
+
+public class RecommendedMatronDTO {
+
+    private MatronProfileDTO matron;
+    // Weighted match of skills, proximity, availability, rating and price, from 0 to 1
+    private Double score;
+
+    // Constructors
+    public RecommendedMatronDTO() {
+    }
+
+    public RecommendedMatronDTO(MatronProfileDTO matron, Double score) {
+        this.matron = matron;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public MatronProfileDTO getMatron() {
+        return matron;
+    }
+
+    public void setMatron(MatronProfileDTO matron) {
+        this.matron = matron;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,57 @@
+package com.maternity.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RegionFacetDTO {
+
+    // Null for the whole country
+    private String name;
+    private Integer matronCount;
+    private Integer availableCount;
+    // The next level down (provinces, cities or districts), by name
+    private List<RegionFacetDTO> children = new ArrayList<>();
+
+    // Constructors
+    public RegionFacetDTO() {
+    }
+
+    public RegionFacetDTO(String name, Integer matronCount, Integer availableCount) {
+        this.name = name;
+        this.matronCount = matronCount;
+        this.availableCount = availableCount;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getMatronCount() {
+        return matronCount;
+    }
+
+    public void setMatronCount(Integer matronCount) {
+        this.matronCount = matronCount;
+    }
+
+    public Integer getAvailableCount() {
+        return availableCount;
+    }
+
+    public void setAvailableCount(Integer availableCount) {
+        this.availableCount = availableCount;
+    }
+
+    public List<RegionFacetDTO> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<RegionFacetDTO> children) {
+        this.children = children;
+    }
+}
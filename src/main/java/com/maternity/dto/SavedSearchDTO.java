@@ -0,0 +1,126 @@
+package com.maternity.dto;
+
+import com.maternity.model.SavedSearch;
+import com.maternity.model.Skill;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SavedSearchDTO {
+
+    private Long id;
+    private String name;
+    private String province;
+    private String city;
+    private Double minPrice;
+    private Double maxPrice;
+    private List<String> skills;
+    private LocalDate availableBy;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public SavedSearchDTO() {
+    }
+
+    public SavedSearchDTO(Long id, String name, String province, String city, Double minPrice, Double maxPrice,
+                          List<String> skills, LocalDate availableBy, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.province = province;
+        this.city = city;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.skills = skills;
+        this.availableBy = availableBy;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getProvince() {
+        return province;
+    }
+
+    public void setProvince(String province) {
+        this.province = province;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public LocalDate getAvailableBy() {
+        return availableBy;
+    }
+
+    public void setAvailableBy(LocalDate availableBy) {
+        this.availableBy = availableBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public static SavedSearchDTO fromEntity(SavedSearch search) {
+        return new SavedSearchDTO(
+                search.getId(),
+                search.getName(),
+                search.getProvince(),
+                search.getCity(),
+                search.getMinPrice(),
+                search.getMaxPrice(),
+                search.getSkills().stream().map(Skill::getName).collect(Collectors.toList()),
+                search.getAvailableBy(),
+                search.getCreatedAt()
+        );
+    }
+}
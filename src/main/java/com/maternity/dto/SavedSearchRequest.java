@@ -0,0 +1,88 @@
+package com.maternity.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SavedSearchRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    private String name;
+
+    private String province;
+
+    private String city;
+
+    private Double minPrice;
+
+    private Double maxPrice;
+
+    // Names of skills matrons already have; null means none
+    @Size(max = 20, message = "At most 20 skills are allowed")
+    private List<@NotBlank(message = "Skill names must not be blank")
+            @Size(max = 100, message = "Skill names must be at most 100 characters") String> skills = new ArrayList<>();
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate availableBy;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getProvince() {
+        return province;
+    }
+
+    public void setProvince(String province) {
+        this.province = province;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public LocalDate getAvailableBy() {
+        return availableBy;
+    }
+
+    public void setAvailableBy(LocalDate availableBy) {
+        this.availableBy = availableBy;
+    }
+}
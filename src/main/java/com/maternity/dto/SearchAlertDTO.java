@@ -0,0 +1,77 @@
+package com.maternity.dto;
+
+import java.time.LocalDateTime;
+
+public class SearchAlertDTO {
+
+    private Long id;
+    private Long savedSearchId;
+    private String savedSearchName;
+    // From the catalog; null once the profile is gone
+    private MatronProfileDTO matron;
+    private LocalDateTime createdAt;
+    private Boolean read;
+
+    // Constructors
+    public SearchAlertDTO() {
+    }
+
+    public SearchAlertDTO(Long id, Long savedSearchId, String savedSearchName, MatronProfileDTO matron,
+                          LocalDateTime createdAt, Boolean read) {
+        this.id = id;
+        this.savedSearchId = savedSearchId;
+        this.savedSearchName = savedSearchName;
+        this.matron = matron;
+        this.createdAt = createdAt;
+        this.read = read;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public void setSavedSearchId(Long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public String getSavedSearchName() {
+        return savedSearchName;
+    }
+
+    public void setSavedSearchName(String savedSearchName) {
+        this.savedSearchName = savedSearchName;
+    }
+
+    public MatronProfileDTO getMatron() {
+        return matron;
+    }
+
+    public void setMatron(MatronProfileDTO matron) {
+        this.matron = matron;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Boolean getRead() {
+        return read;
+    }
+
+    public void setRead(Boolean read) {
+        this.read = read;
+    }
+}
@@ -0,0 +1,33 @@
+package com.maternity.dto;
+
+public class SuggestionDTO {
+
+    private String text;
+    private Integer matronCount;
+
+    // Constructors
+    public SuggestionDTO() {
+    }
+
+    public SuggestionDTO(String text, Integer matronCount) {
+        this.text = text;
+        this.matronCount = matronCount;
+    }
+
+    // Getters and Setters
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public Integer getMatronCount() {
+        return matronCount;
+    }
+
+    public void setMatronCount(Integer matronCount) {
+        this.matronCount = matronCount;
+    }
+}
@@ -32,6 +32,17 @@ public class WeChatUserInfo {
     public WeChatUserInfo() {
     }
 
+    public WeChatUserInfo(WeChatUserInfo other) {
+        this.openId = other.openId;
+        this.unionId = other.unionId;
+        this.nickname = other.nickname;
+        this.avatarUrl = other.avatarUrl;
+        this.sex = other.sex;
+        this.province = other.province;
+        this.city = other.city;
+        this.country = other.country;
+    }
+
     // Getters and Setters
     public String getOpenId() {
         return openId;
@@ -0,0 +1,25 @@
+package com.maternity.event;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA entity listener that reports writes of versioned rows (V10) to the {@link ChangeVersionTracker}.
+ *
+ * Hibernate creates its own instance of each listener class, so the tracker's state lives in
+ * the Spring singleton injected here rather than in the listener.
+ */
+public class ChangeVersionListener {
+
+    private final ChangeVersionTracker changeVersionTracker;
+
+    public ChangeVersionListener(ChangeVersionTracker changeVersionTracker) {
+        this.changeVersionTracker = changeVersionTracker;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void beforeWrite(Object entity) {
+        changeVersionTracker.writing();
+    }
+}
@@ -0,0 +1,114 @@
+package com.maternity.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps track of the transactions which may hold uncommitted change versions (V10).
+ *
+ * change_versions_seq hands out a version when a row is written, not when it commits, so a
+ * version can become visible after higher ones already have. A writer registers before its
+ * first versioned write with a floor just above the highest version known to be taken, and
+ * every version it takes afterwards is at least that floor. A delta sync wraps its queries in
+ * {@link #openRead()} and keeps its watermark below the lowest floor of any writer active
+ * during the read, so a version can never commit below a watermark already handed out.
+ * Versions become known when a sync reads them; writes do not read their version back, so a
+ * floor can be lower than needed, which only holds watermarks back further while that writer is active.
+ *
+ * Only writes made by this application are tracked; the embedded database has no others.
+ */
+@Component
+public class ChangeVersionTracker {
+
+    private long highestTaken = 0;
+    private final Set<Writer> writers = new HashSet<>();
+    private final Set<Read> reads = new HashSet<>();
+
+    private static final class Writer {
+        final long floor;
+
+        Writer(long floor) {
+            this.floor = floor;
+        }
+    }
+
+    /**
+     * Queries of one delta sync; see {@link #finish()}
+     */
+    public final class Read {
+        private long lowestFloor;
+
+        private Read(long lowestFloor) {
+            this.lowestFloor = lowestFloor;
+        }
+
+        /**
+         * @return the lowest version that a writer active at any time during the read may
+         *         have taken without having committed it before the read, or Long.MAX_VALUE
+         */
+        public long finish() {
+            synchronized (ChangeVersionTracker.this) {
+                reads.remove(this);
+                return Math.min(lowestFloor, lowestWriterFloor());
+            }
+        }
+    }
+
+    /**
+     * Register the current transaction as a writer of versioned rows, until it completes.
+     * JPA writes register through {@link ChangeVersionListener}; JDBC writes must call this first.
+     */
+    public void writing() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        Writer writer;
+        synchronized (this) {
+            writer = new Writer(highestTaken + 1);
+            writers.add(writer);
+        }
+        TransactionSynchronizationManager.bindResource(this, writer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeVersionTracker.this);
+                finished(writer);
+            }
+        });
+    }
+
+    /**
+     * Record a version seen in the database; versions taken from now on are higher
+     */
+    public synchronized void versionTaken(long version) {
+        highestTaken = Math.max(highestTaken, version);
+    }
+
+    public synchronized Read openRead() {
+        Read read = new Read(lowestWriterFloor());
+        reads.add(read);
+        return read;
+    }
+
+    private synchronized void finished(Writer writer) {
+        writers.remove(writer);
+        // A read that overlapped this writer may have run before its commit
+        for (Read read : reads) {
+            read.lowestFloor = Math.min(read.lowestFloor, writer.floor);
+        }
+    }
+
+    private long lowestWriterFloor() {
+        long lowest = Long.MAX_VALUE;
+        for (Writer writer : writers) {
+            lowest = Math.min(lowest, writer.floor);
+        }
+        return lowest;
+    }
+}
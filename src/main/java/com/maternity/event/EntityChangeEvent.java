@@ -0,0 +1,44 @@
+package com.maternity.event;
+
+/**
+ * Published after an entity is inserted, updated or deleted.
+ *
+ * Listen with @TransactionalEventListener to act only once the change is committed.
+ */
+public class EntityChangeEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Class<?> entityType;
+    private final Long entityId;
+    private final ChangeType changeType;
+
+    public EntityChangeEvent(Class<?> entityType, Long entityId, ChangeType changeType) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeType = changeType;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public boolean isFor(Class<?> type) {
+        return type.isAssignableFrom(entityType);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityChangeEvent{" + entityType.getSimpleName() + "#" + entityId + " " + changeType + "}";
+    }
+}
@@ -0,0 +1,54 @@
+package com.maternity.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * JPA entity listener that turns entity lifecycle callbacks into {@link EntityChangeEvent}s.
+ *
+ * Hibernate obtains this listener from the Spring context, so in-memory indexes can stay
+ * in sync with every write path without each service having to publish events itself.
+ */
+@Component
+public class EntityChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EntityChangePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onCreated(Object entity) {
+        publish(entity, EntityChangeEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        publish(entity, EntityChangeEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Object entity) {
+        publish(entity, EntityChangeEvent.ChangeType.DELETED);
+    }
+
+    private void publish(Object entity, EntityChangeEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new EntityChangeEvent(Hibernate.getClass(entity), getId(entity), changeType));
+    }
+
+    private Long getId(Object entity) {
+        try {
+            Method getId = entity.getClass().getMethod("getId");
+            return (Long) getId.invoke(entity);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Entity has no Long getId(): " + entity.getClass().getName(), e);
+        }
+    }
+}
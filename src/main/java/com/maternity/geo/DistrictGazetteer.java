@@ -0,0 +1,158 @@
+package com.maternity.geo;
+
+import com.maternity.model.GeoPoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Offline lookup of approximate coordinates for free-text locations and addresses, from the
+ * city and district centroids bundled in geo/district-centroids.csv.
+ *
+ * A text is placed at the centroid of the district it names within the city it names, or at
+ * the city centroid when no known district of that city appears. English and Chinese names
+ * both match, with or without "District", 区, 市 and similar suffixes.
+ */
+public final class DistrictGazetteer {
+
+    private static final String RESOURCE = "/geo/district-centroids.csv";
+
+    private static final List<Entry> ENTRIES = load();
+
+    // Key of an English or Chinese city name -> English city name
+    private static final Map<String, String> CITY_NAMES = new HashMap<>();
+    // English city name and key of an English or Chinese district name -> English district name
+    private static final Map<String, String> DISTRICT_NAMES = new HashMap<>();
+
+    static {
+        for (Entry entry : ENTRIES) {
+            if (entry.district == null) {
+                entry.cityKeys.forEach(key -> CITY_NAMES.put(key, entry.city));
+            } else {
+                entry.districtKeys.forEach(key -> DISTRICT_NAMES.put(entry.city + "/" + key, entry.district));
+            }
+        }
+    }
+
+    private DistrictGazetteer() {
+    }
+
+    /**
+     * @return the coordinates, or null if no known city or district appears in the text
+     */
+    public static GeoPoint locate(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String key = key(text);
+
+        Optional<String> city = ENTRIES.stream()
+                .filter(entry -> entry.district == null && entry.matchesCity(key))
+                .map(entry -> entry.city)
+                .findFirst();
+        List<Entry> districts = ENTRIES.stream()
+                .filter(entry -> entry.district != null && entry.matchesDistrict(key))
+                .filter(entry -> city.isEmpty() || entry.city.equals(city.get()))
+                .collect(Collectors.toList());
+
+        // Without a city, a district name is only trusted if no other city has one like it
+        if (districts.size() == 1 || (city.isPresent() && !districts.isEmpty())) {
+            return districts.get(0).point();
+        }
+        return city.flatMap(name -> ENTRIES.stream()
+                        .filter(entry -> entry.district == null && entry.city.equals(name))
+                        .findFirst())
+                .map(Entry::point)
+                .orElse(null);
+    }
+
+    /**
+     * @return the English name of a known city named in English or Chinese, such as "Beijing"
+     *         for "北京市" or "Beijing City"
+     */
+    public static Optional<String> cityName(String name) {
+        return Optional.ofNullable(name).map(text -> CITY_NAMES.get(key(text)));
+    }
+
+    /**
+     * @param city English city name, as returned by {@link #cityName}
+     * @return the English name of a known district of the city, such as "Chaoyang" for
+     *         "朝阳区" or "Chaoyang District"
+     */
+    public static Optional<String> districtName(String city, String name) {
+        return Optional.ofNullable(name).map(text -> DISTRICT_NAMES.get(city + "/" + key(text)));
+    }
+
+    /**
+     * Lower-cased letters and digits only, without administrative suffixes
+     */
+    static String key(String name) {
+        String key = name.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", "");
+        return key.replaceAll("(district|newarea|city|新区|区|县|市)$", "");
+    }
+
+    private static List<Entry> load() {
+        List<Entry> entries = new ArrayList<>();
+        try (InputStream in = DistrictGazetteer.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " is missing from the classpath");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                entries.add(new Entry(fields[0], fields[1], fields[2].isEmpty() ? null : fields[2],
+                        fields[3].isEmpty() ? null : fields[3],
+                        Double.parseDouble(fields[4]), Double.parseDouble(fields[5])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return entries;
+    }
+
+    private static final class Entry {
+
+        final String city;
+        final String district;
+        final List<String> cityKeys;
+        final List<String> districtKeys;
+        final double latitude;
+        final double longitude;
+
+        Entry(String cityEn, String cityZh, String districtEn, String districtZh, double latitude, double longitude) {
+            this.city = cityEn;
+            this.district = districtEn;
+            this.cityKeys = List.of(key(cityEn), key(cityZh));
+            this.districtKeys = districtEn == null ? List.of() : List.of(key(districtEn), key(districtZh));
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        boolean matchesCity(String text) {
+            return cityKeys.stream().anyMatch(text::contains);
+        }
+
+        boolean matchesDistrict(String text) {
+            return districtKeys.stream().anyMatch(text::contains);
+        }
+
+        GeoPoint point() {
+            return new GeoPoint(latitude, longitude);
+        }
+    }
+}
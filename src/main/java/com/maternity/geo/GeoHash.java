@@ -0,0 +1,100 @@
+package com.maternity.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash encoding: each character narrows a cell 32-fold, alternating longitude and latitude
+ * bits, so points sharing a prefix share the cell that prefix names.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 9;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean lngBit = true;
+        int bits = 0;
+        int value = 0;
+        while (hash.length() < precision) {
+            if (lngBit) {
+                double mid = (minLng + maxLng) / 2;
+                value = value << 1 | (longitude >= mid ? 1 : 0);
+                if (longitude >= mid) {
+                    minLng = mid;
+                } else {
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                value = value << 1 | (latitude >= mid ? 1 : 0);
+                if (latitude >= mid) {
+                    minLat = mid;
+                } else {
+                    maxLat = mid;
+                }
+            }
+            lngBit = !lngBit;
+            if (++bits == 5) {
+                hash.append(BASE32.charAt(value));
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static double cellHeightDegrees(int precision) {
+        return 180 / Math.pow(2, (5 * precision) / 2);
+    }
+
+    public static double cellWidthDegrees(int precision) {
+        return 360 / Math.pow(2, (5 * precision + 1) / 2);
+    }
+
+    /**
+     * @return the finest precision whose cells are at least radiusKm high and wide around the
+     *         latitude, so the 3x3 block of cells around a point covers the whole circle
+     */
+    public static int precisionFor(double radiusKm, double latitude) {
+        // Cells are narrowest at the circle's poleward edge
+        double edgeLatitude = Math.min(90, Math.abs(latitude) + radiusKm / KM_PER_DEGREE);
+        double cosLat = Math.max(0.01, Math.cos(Math.toRadians(edgeLatitude)));
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            if (cellHeightDegrees(precision) * KM_PER_DEGREE >= radiusKm
+                    && cellWidthDegrees(precision) * KM_PER_DEGREE * cosLat >= radiusKm) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * @return the cell containing the point and its (up to) eight neighbours
+     */
+    public static Set<String> cellsAround(double latitude, double longitude, int precision) {
+        double height = cellHeightDegrees(precision);
+        double width = cellWidthDegrees(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dy = -1; dy <= 1; dy++) {
+            double lat = latitude + dy * height;
+            if (lat < -90 || lat > 90) {
+                continue;
+            }
+            for (int dx = -1; dx <= 1; dx++) {
+                double lng = longitude + dx * width;
+                // Wrap across the antimeridian
+                lng = ((lng + 540) % 360) - 180;
+                cells.add(encode(lat, lng, precision));
+            }
+        }
+        return cells;
+    }
+}
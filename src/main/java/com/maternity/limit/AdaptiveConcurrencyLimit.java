@@ -0,0 +1,91 @@
+package com.maternity.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency using AIMD
+ * (additive increase, multiplicative decrease).
+ *
+ * While requests complete under the latency threshold and the limit is actually being used,
+ * the limit grows by 1/limit per request, so by about one for each limit's worth of requests
+ * rather than doubling within one round of them. When a request is slower than the threshold the limit
+ * is cut by the backoff ratio, at most once per cooldown window so a burst of slow requests
+ * does not collapse it to the minimum. Requests over the limit are rejected immediately
+ * instead of queueing on the database connection pool.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final long cooldownNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private volatile long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit,
+                                    long latencyThresholdMillis, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limits for " + name + ": min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdMillis * 1_000_000L;
+        this.backoffRatio = backoffRatio;
+        this.cooldownNanos = latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastDecreaseNanos = System.nanoTime() - cooldownNanos;
+    }
+
+    /**
+     * Try to start a request; returns false if the limit is reached
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Finish a request started with {@link #tryAcquire()} and feed its latency into the limit
+     */
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        onSample(latencyNanos, inFlightBefore);
+    }
+
+    synchronized void onSample(long latencyNanos, int inFlightAtCompletion) {
+        if (latencyNanos > latencyThresholdNanos) {
+            long now = System.nanoTime();
+            if (now - lastDecreaseNanos >= cooldownNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlightAtCompletion * 2 >= limit) {
+            // Only grow when at least half the limit is in use, otherwise latency says nothing about it
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
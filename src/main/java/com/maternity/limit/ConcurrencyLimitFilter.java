@@ -0,0 +1,149 @@
+package com.maternity.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maternity.exception.GlobalExceptionHandler.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sheds excess API load with 503 before it reaches Spring Security and the connection pool.
+ *
+ * Admin routes and public routes have separate {@link AdaptiveConcurrencyLimit}s, so a burst of
+ * public traffic cannot starve the admin console. Non-API paths (actuator, swagger) are not limited.
+ *
+ * Streaming exports hold a database connection for the whole download, and their duration says
+ * nothing about how loaded the server is, so they take a permit from a small fixed limit of their
+ * own instead of feeding the adaptive ones.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final String STREAM_ROUTE = "stream";
+
+    private final AdaptiveConcurrencyLimit adminLimit;
+    private final AdaptiveConcurrencyLimit publicLimit;
+    private final int streamLimit;
+    private final Semaphore streamPermits;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit adminLimit,
+                                  AdaptiveConcurrencyLimit publicLimit,
+                                  int streamLimit,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.adminLimit = adminLimit;
+        this.publicLimit = publicLimit;
+        this.streamLimit = streamLimit;
+        this.streamPermits = new Semaphore(streamLimit);
+        this.objectMapper = objectMapper;
+
+        for (AdaptiveConcurrencyLimit limit : new AdaptiveConcurrencyLimit[]{adminLimit, publicLimit}) {
+            Gauge.builder("http.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Current concurrency limit")
+                    .tag("route", limit.getName())
+                    .register(meterRegistry);
+            Gauge.builder("http.server.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("Requests currently admitted by the concurrency limit")
+                    .tag("route", limit.getName())
+                    .register(meterRegistry);
+            rejectedCounters.put(limit.getName(), Counter.builder("http.server.concurrency.rejected")
+                    .description("Requests rejected with 503 by the concurrency limit")
+                    .tag("route", limit.getName())
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("http.server.concurrency.limit", () -> streamLimit)
+                .description("Current concurrency limit")
+                .tag("route", STREAM_ROUTE)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", streamPermits, permits -> streamLimit - permits.availablePermits())
+                .description("Requests currently admitted by the concurrency limit")
+                .tag("route", STREAM_ROUTE)
+                .register(meterRegistry);
+        rejectedCounters.put(STREAM_ROUTE, Counter.builder("http.server.concurrency.rejected")
+                .description("Requests rejected with 503 by the concurrency limit")
+                .tag("route", STREAM_ROUTE)
+                .register(meterRegistry));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (request.getRequestURI().endsWith("/stream")) {
+            filterStream(request, response, filterChain);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit limit = request.getRequestURI().startsWith("/api/admin/") ? adminLimit : publicLimit;
+
+        if (!limit.tryAcquire()) {
+            rejectedCounters.get(limit.getName()).increment();
+            log.warn("Concurrency limit {} reached for {} route, rejecting {} {}",
+                    limit.getLimit(), limit.getName(), request.getMethod(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private void filterStream(HttpServletRequest request,
+                              HttpServletResponse response,
+                              FilterChain filterChain) throws ServletException, IOException {
+        if (!streamPermits.tryAcquire()) {
+            rejectedCounters.get(STREAM_ROUTE).increment();
+            log.warn("Concurrency limit {} reached for {} route, rejecting {} {}",
+                    streamLimit, STREAM_ROUTE, request.getMethod(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            streamPermits.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Server is busy, please retry shortly",
+                LocalDateTime.now()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,81 @@
+package com.maternity.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Measures how long the current thread holds database connections.
+ *
+ * Wraps the application DataSource so every connection records the time from getConnection
+ * to close. Tracking is only active between {@link #start()} and {@link #stop()}, which
+ * {@link SqlCountFilter} calls around each API request.
+ */
+public class ConnectionHoldTracker implements BeanPostProcessor {
+
+    private static final ThreadLocal<long[]> HELD_NANOS = new ThreadLocal<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+            return new TrackingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    public static void start() {
+        HELD_NANOS.set(new long[1]);
+    }
+
+    /**
+     * @return nanoseconds connections were held since {@link #start()}
+     */
+    public static long stop() {
+        long[] held = HELD_NANOS.get();
+        HELD_NANOS.remove();
+        return held != null ? held[0] : 0;
+    }
+
+    private static class TrackingDataSource extends DelegatingDataSource {
+
+        TrackingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        private static Connection track(Connection connection) {
+            long[] held = HELD_NANOS.get();
+            if (held == null) {
+                return connection;
+            }
+            long acquiredAt = System.nanoTime();
+            boolean[] closed = new boolean[1];
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && !closed[0]) {
+                            closed[0] = true;
+                            held[0] += System.nanoTime() - acquiredAt;
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
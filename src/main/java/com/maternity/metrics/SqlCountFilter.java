@@ -0,0 +1,118 @@
+package com.maternity.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the number of SQL statements each API request issues as {@code http.server.requests.sql},
+ * and how long it held database connections as {@code http.server.requests.connection.hold}.
+ *
+ * With metrics.sql-count-header.enabled=true (dev only) the count is also returned as an
+ * {@code X-SQL-Count} header. The header is written when the response body is first opened,
+ * so statements issued while serializing the body are in the metric but not the header.
+ */
+public class SqlCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+
+    public SqlCountFilter(MeterRegistry meterRegistry,
+                          boolean headerEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.start();
+        ConnectionHoldTracker.start();
+        SqlCountResponseWrapper wrapper = headerEnabled ? new SqlCountResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            if (wrapper != null) {
+                wrapper.writeHeader();
+            }
+            int count = SqlStatementCounter.stop();
+            long heldNanos = ConnectionHoldTracker.stop();
+            DistributionSummary.builder("http.server.requests.sql")
+                    .description("SQL statements issued per API request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(count);
+            Timer.builder("http.server.requests.connection.hold")
+                    .description("Time each API request held database connections")
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(heldNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static class SqlCountResponseWrapper extends HttpServletResponseWrapper {
+
+        private boolean headerWritten;
+
+        SqlCountResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, String.valueOf(SqlStatementCounter.current()));
+            }
+            headerWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+    }
+}
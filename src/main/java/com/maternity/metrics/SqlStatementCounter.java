@@ -0,0 +1,49 @@
+package com.maternity.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Counts SQL statements Hibernate prepares on the current thread.
+ *
+ * Counting is only active between {@link #start()} and {@link #stop()}, which
+ * {@link SqlCountFilter} calls around each API request; statements issued on other
+ * threads (startup, catalog refresh) are not counted.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put("hibernate.session_factory.statement_inspector", this);
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+}
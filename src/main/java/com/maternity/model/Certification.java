@@ -0,0 +1,35 @@
+package com.maternity.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "certification")
+@Table(name = "certifications")
+public class Certification extends DictionaryTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certification_seq")
+    @SequenceGenerator(name = "certification_seq", sequenceName = "certifications_seq", allocationSize = 50)
+    private Integer id;
+
+    // Constructors
+    public Certification() {
+    }
+
+    public Certification(String name) {
+        super(name);
+    }
+
+    // Getters and Setters
+    @Override
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,54 @@
+package com.maternity.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+
+import java.util.Locale;
+
+/**
+ * A dictionary entry referenced by id instead of repeating its text in every row.
+ *
+ * Names that differ only in case or spacing share one entry (normalizedName); name keeps
+ * the first spelling that was stored.
+ */
+@MappedSuperclass
+public abstract class DictionaryTerm {
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, unique = true)
+    private String normalizedName;
+
+    // Constructors
+    protected DictionaryTerm() {
+    }
+
+    protected DictionaryTerm(String name) {
+        setName(name);
+    }
+
+    /**
+     * Trim, collapse inner whitespace and lower-case. V4__skill_dictionary.sql normalizes
+     * the backfilled rows the same way.
+     */
+    public static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public abstract Integer getId();
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name.trim().replaceAll("\\s+", " ");
+        this.normalizedName = normalize(name);
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+}
@@ -0,0 +1,54 @@
+package com.maternity.model;
+
+import jakarta.persistence.Embeddable;
+
+/**
+ * Latitude and longitude in degrees (WGS84)
+ */
+@Embeddable
+public class GeoPoint {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    // Constructors
+    public GeoPoint() {
+    }
+
+    public GeoPoint(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    /**
+     * Great-circle (haversine) distance
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLng = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Getters and Setters
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+}
@@ -1,18 +1,30 @@
 package com.maternity.model;
 
+import com.maternity.event.ChangeVersionListener;
+import com.maternity.event.EntityChangePublisher;
+import com.maternity.geo.DistrictGazetteer;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "matronProfile")
+@EntityListeners({EntityChangePublisher.class, ChangeVersionListener.class})
 @Table(name = "matron_profiles")
 public class MatronProfile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matron_profile_seq")
+    @SequenceGenerator(name = "matron_profile_seq", sequenceName = "matron_profiles_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
@@ -31,18 +43,32 @@ public class MatronProfile {
     @Column(nullable = false)
     private String location;
 
+    // Derived from location whenever it is set
+    @Embedded
+    private Region region = new Region();
+
+    // Centroid of the location's district or city; null if the gazetteer does not know it
+    @Embedded
+    private GeoPoint coordinates;
+
     @Column(length = 1000)
     private String bio;
 
-    @ElementCollection
-    @CollectionTable(name = "matron_skills", joinColumns = @JoinColumn(name = "matron_id"))
-    @Column(name = "skill")
-    private List<String> skills = new ArrayList<>();
-
-    @ElementCollection
-    @CollectionTable(name = "matron_certifications", joinColumns = @JoinColumn(name = "matron_id"))
-    @Column(name = "certification")
-    private List<String> certifications = new ArrayList<>();
+    @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "matronProfile.skills")
+    @JoinTable(name = "matron_profile_skills",
+            joinColumns = @JoinColumn(name = "matron_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"))
+    @OrderBy("name")
+    private Set<Skill> skills = new LinkedHashSet<>();
+
+    @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "matronProfile.certifications")
+    @JoinTable(name = "matron_profile_certifications",
+            joinColumns = @JoinColumn(name = "matron_id"),
+            inverseJoinColumns = @JoinColumn(name = "certification_id"))
+    @OrderBy("name")
+    private Set<Certification> certifications = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "matronProfile", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<WorkExperience> workHistory = new ArrayList<>();
@@ -64,12 +90,15 @@ public class MatronProfile {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // change_version (V10) is left to the database and read only by MatronSyncService: mapped
+    // as generated, Hibernate would re-select it after every write and stop batching them
+
     // Constructors
     public MatronProfile() {
     }
 
     public MatronProfile(Long id, User user, Integer age, Integer yearsOfExperience, Double pricePerMonth,
-                        String location, String bio, List<String> skills, List<String> certifications,
+                        String location, String bio, Set<Skill> skills, Set<Certification> certifications,
                         List<WorkExperience> workHistory, Double rating, Integer reviewCount,
                         Boolean isAvailable, LocalDate availableFrom, LocalDateTime createdAt,
                         LocalDateTime updatedAt) {
@@ -78,7 +107,7 @@ public class MatronProfile {
         this.age = age;
         this.yearsOfExperience = yearsOfExperience;
         this.pricePerMonth = pricePerMonth;
-        this.location = location;
+        setLocation(location);
         this.bio = bio;
         this.skills = skills;
         this.certifications = certifications;
@@ -138,6 +167,16 @@ public class MatronProfile {
 
     public void setLocation(String location) {
         this.location = location;
+        this.region = Region.parse(location);
+        this.coordinates = DistrictGazetteer.locate(location);
+    }
+
+    public Region getRegion() {
+        return region;
+    }
+
+    public GeoPoint getCoordinates() {
+        return coordinates;
     }
 
     public String getBio() {
@@ -148,22 +187,30 @@ public class MatronProfile {
         this.bio = bio;
     }
 
-    public List<String> getSkills() {
+    public Set<Skill> getSkills() {
         return skills;
     }
 
-    public void setSkills(List<String> skills) {
+    public void setSkills(Set<Skill> skills) {
         this.skills = skills;
     }
 
-    public List<String> getCertifications() {
+    public List<String> getSkillNames() {
+        return skills.stream().map(Skill::getName).collect(Collectors.toList());
+    }
+
+    public Set<Certification> getCertifications() {
         return certifications;
     }
 
-    public void setCertifications(List<String> certifications) {
+    public void setCertifications(Set<Certification> certifications) {
         this.certifications = certifications;
     }
 
+    public List<String> getCertificationNames() {
+        return certifications.stream().map(Certification::getName).collect(Collectors.toList());
+    }
+
     public List<WorkExperience> getWorkHistory() {
         return workHistory;
     }
@@ -0,0 +1,53 @@
+package com.maternity.model;
+
+import com.maternity.event.ChangeVersionListener;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted matron profile, so clients syncing the catalog drop it from their copy
+ */
+@Entity
+@Table(name = "matron_profile_tombstones")
+@EntityListeners(ChangeVersionListener.class)
+public class MatronProfileTombstone {
+
+    @Id
+    private Long matronProfileId;
+
+    // change_version is left to the database, like MatronProfile's
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    // Constructors
+    public MatronProfileTombstone() {
+    }
+
+    public MatronProfileTombstone(Long matronProfileId) {
+        this.matronProfileId = matronProfileId;
+    }
+
+    // Getters and Setters
+    public Long getMatronProfileId() {
+        return matronProfileId;
+    }
+
+    public void setMatronProfileId(Long matronProfileId) {
+        this.matronProfileId = matronProfileId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+}
@@ -1,5 +1,7 @@
 package com.maternity.model;
 
+import com.maternity.event.EntityChangePublisher;
+import com.maternity.geo.DistrictGazetteer;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
@@ -7,10 +9,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "mother_profiles")
+@EntityListeners(EntityChangePublisher.class)
 public class MotherProfile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mother_profile_seq")
+    @SequenceGenerator(name = "mother_profile_seq", sequenceName = "mother_profiles_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
@@ -23,6 +27,10 @@ public class MotherProfile {
 
     private String address;
 
+    // Centroid of the address's district or city; null if the gazetteer does not know it
+    @Embedded
+    private GeoPoint coordinates;
+
     @Column(length = 1000)
     private String specialNeeds;
 
@@ -50,7 +58,7 @@ public class MotherProfile {
         this.user = user;
         this.dueDate = dueDate;
         this.babyBirthDate = babyBirthDate;
-        this.address = address;
+        setAddress(address);
         this.specialNeeds = specialNeeds;
         this.numberOfChildren = numberOfChildren;
         this.preferredMatronType = preferredMatronType;
@@ -97,6 +105,11 @@ public class MotherProfile {
 
     public void setAddress(String address) {
         this.address = address;
+        this.coordinates = DistrictGazetteer.locate(address);
+    }
+
+    public GeoPoint getCoordinates() {
+        return coordinates;
     }
 
     public String getSpecialNeeds() {
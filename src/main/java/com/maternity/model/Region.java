@@ -0,0 +1,165 @@
+package com.maternity.model;
+
+import com.maternity.geo.DistrictGazetteer;
+import jakarta.persistence.Embeddable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Province, city and district parsed from a free-text matron location.
+ *
+ * Understands "City, District", "Province, City, District" and Chinese addresses such as
+ * "浙江省杭州市西湖区" (anything after the district is ignored). Names are stored in one form
+ * per region, the English name, so "Beijing, Chaoyang District" and "北京市朝阳区" land in the
+ * same region: cities and districts through the {@link DistrictGazetteer}, provinces through
+ * a small table here. The province of a bare city comes from the same table; a city missing
+ * from it stands as its own province, as the four municipalities do. Names the gazetteer does
+ * not know are kept as written.
+ */
+@Embeddable
+public class Region {
+
+    private static final Pattern CHINESE_ADDRESS = Pattern.compile(
+            "^(.+?(?:省|自治区|特别行政区))?(.+?(?:市|自治州|地区|盟))?(.+?(?:区|县|旗|市))?.*$");
+
+    // English city name, lower-cased -> English province
+    private static final Map<String, String> PROVINCES = new HashMap<>();
+    // Province key, English or Chinese -> English province
+    private static final Map<String, String> PROVINCE_NAMES = new HashMap<>();
+
+    static {
+        province("Beijing", "北京", "Beijing");
+        province("Shanghai", "上海", "Shanghai");
+        province("Tianjin", "天津", "Tianjin");
+        province("Chongqing", "重庆", "Chongqing");
+        province("Guangdong", "广东", "Guangzhou", "Shenzhen", "Dongguan", "Foshan");
+        province("Zhejiang", "浙江", "Hangzhou", "Ningbo", "Wenzhou");
+        province("Jiangsu", "江苏", "Nanjing", "Suzhou", "Wuxi");
+        province("Sichuan", "四川", "Chengdu");
+        province("Hubei", "湖北", "Wuhan");
+        province("Shaanxi", "陕西", "Xi'an");
+        province("Hunan", "湖南", "Changsha");
+        province("Henan", "河南", "Zhengzhou");
+        province("Shandong", "山东", "Jinan", "Qingdao");
+        province("Fujian", "福建", "Xiamen", "Fuzhou");
+        province("Liaoning", "辽宁", "Shenyang", "Dalian");
+        province("Heilongjiang", "黑龙江", "Harbin");
+        province("Yunnan", "云南", "Kunming");
+        province("Anhui", "安徽", "Hefei");
+    }
+
+    private String province;
+
+    private String city;
+
+    private String district;
+
+    // Constructors
+    public Region() {
+    }
+
+    public Region(String province, String city, String district) {
+        this.province = province;
+        this.city = city;
+        this.district = district;
+    }
+
+    /**
+     * @return the parsed region, with every part null for a blank location
+     */
+    public static Region parse(String location) {
+        if (location == null || location.isBlank()) {
+            return new Region();
+        }
+        String text = location.trim();
+        String province = null;
+        String city = null;
+        String district = null;
+
+        List<String> parts = Arrays.stream(text.split("[,，]"))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toList());
+        if (parts.size() > 1) {
+            if (parts.size() > 2) {
+                province = parts.get(0);
+                parts = parts.subList(1, parts.size());
+            }
+            city = parts.get(0);
+            district = parts.get(1);
+        } else {
+            Matcher matcher = CHINESE_ADDRESS.matcher(text);
+            if (matcher.matches() && matcher.group(2) != null) {
+                province = matcher.group(1);
+                city = matcher.group(2);
+                district = matcher.group(3);
+            } else {
+                city = text;
+            }
+        }
+
+        Region region = of(province, city, district);
+        if (region.province == null) {
+            region.province = PROVINCES.getOrDefault(region.city.toLowerCase(Locale.ROOT), region.city);
+        }
+        return region;
+    }
+
+    /**
+     * @return the region with each given part in its stored form, for matching query
+     *         parameters against parsed locations; parts left null stay null
+     */
+    public static Region of(String province, String city, String district) {
+        String canonicalCity = city == null ? null : DistrictGazetteer.cityName(city).orElse(city);
+        String canonicalDistrict = district == null || canonicalCity == null ? district
+                : DistrictGazetteer.districtName(canonicalCity, district).orElse(district);
+        String canonicalProvince = province == null ? null
+                : PROVINCE_NAMES.getOrDefault(provinceKey(province), province);
+        return new Region(canonicalProvince, canonicalCity, canonicalDistrict);
+    }
+
+    private static void province(String province, String chineseName, String... cities) {
+        PROVINCE_NAMES.put(provinceKey(province), province);
+        PROVINCE_NAMES.put(provinceKey(chineseName), province);
+        for (String city : cities) {
+            PROVINCES.put(city.toLowerCase(Locale.ROOT), province);
+        }
+    }
+
+    private static String provinceKey(String province) {
+        String key = province.trim().toLowerCase(Locale.ROOT);
+        return key.replaceAll("(\\s+province|省|市|自治区|特别行政区)$", "").trim();
+    }
+
+    // Getters and Setters
+    public String getProvince() {
+        return province;
+    }
+
+    public void setProvince(String province) {
+        this.province = province;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public void setDistrict(String district) {
+        this.district = district;
+    }
+}
@@ -0,0 +1,145 @@
+package com.maternity.model;
+
+import com.maternity.event.EntityChangePublisher;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A mother's matron search criteria, kept so she is alerted when a matron starts matching
+ * them. Null criteria match any matron. Not updated in place: a changed search is deleted
+ * and saved again.
+ */
+@Entity
+@Table(name = "saved_searches")
+@EntityListeners(EntityChangePublisher.class)
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_search_seq")
+    @SequenceGenerator(name = "saved_search_seq", sequenceName = "saved_searches_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    private String province;
+
+    // Only with province
+    private String city;
+
+    private Double minPrice;
+
+    private Double maxPrice;
+
+    // Wanted skills, all of which a matron must have
+    @ManyToMany
+    @JoinTable(name = "saved_search_skills",
+            joinColumns = @JoinColumn(name = "saved_search_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"))
+    @OrderBy("name")
+    private Set<Skill> skills = new LinkedHashSet<>();
+
+    // The matron must be free on or before this day; null means free now
+    private LocalDate availableBy;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public SavedSearch() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getProvince() {
+        return province;
+    }
+
+    public void setProvince(String province) {
+        this.province = province;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Set<Skill> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(Set<Skill> skills) {
+        this.skills = skills;
+    }
+
+    public LocalDate getAvailableBy() {
+        return availableBy;
+    }
+
+    public void setAvailableBy(LocalDate availableBy) {
+        this.availableBy = availableBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,86 @@
+package com.maternity.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notification that a matron started matching a saved search, queued until the mother reads it
+ */
+@Entity
+@Table(name = "search_alerts")
+public class SearchAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "search_alert_seq")
+    @SequenceGenerator(name = "search_alert_seq", sequenceName = "search_alerts_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    private SavedSearch savedSearch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "matron_profile_id", nullable = false)
+    private MatronProfile matronProfile;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime readAt;
+
+    // Constructors
+    public SearchAlert() {
+    }
+
+    public SearchAlert(SavedSearch savedSearch, MatronProfile matronProfile) {
+        this.savedSearch = savedSearch;
+        this.matronProfile = matronProfile;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public SavedSearch getSavedSearch() {
+        return savedSearch;
+    }
+
+    public void setSavedSearch(SavedSearch savedSearch) {
+        this.savedSearch = savedSearch;
+    }
+
+    public MatronProfile getMatronProfile() {
+        return matronProfile;
+    }
+
+    public void setMatronProfile(MatronProfile matronProfile) {
+        this.matronProfile = matronProfile;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getReadAt() {
+        return readAt;
+    }
+
+    public void setReadAt(LocalDateTime readAt) {
+        this.readAt = readAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
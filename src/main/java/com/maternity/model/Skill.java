@@ -0,0 +1,35 @@
+package com.maternity.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skill")
+@Table(name = "skills")
+public class Skill extends DictionaryTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_seq")
+    @SequenceGenerator(name = "skill_seq", sequenceName = "skills_seq", allocationSize = 50)
+    private Integer id;
+
+    // Constructors
+    public Skill() {
+    }
+
+    public Skill(String name) {
+        super(name);
+    }
+
+    // Getters and Setters
+    @Override
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+}
@@ -1,17 +1,25 @@
 package com.maternity.model;
 
+import com.maternity.event.ChangeVersionListener;
+import com.maternity.event.EntityChangePublisher;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@EntityListeners({EntityChangePublisher.class, ChangeVersionListener.class})
 @Table(name = "users")
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -53,6 +61,9 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // change_version (V10) is left to the database and read only by MatronSyncService: mapped
+    // as generated, Hibernate would re-select it after every write and stop batching them
+
     // Constructors
     public User() {
     }
@@ -9,7 +9,8 @@ import java.time.LocalDate;
 public class WorkExperience {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_experience_seq")
+    @SequenceGenerator(name = "work_experience_seq", sequenceName = "work_experiences_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -0,0 +1,13 @@
+package com.maternity.repository;
+
+import com.maternity.model.Certification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CertificationRepository extends JpaRepository<Certification, Integer> {
+    List<Certification> findByNormalizedNameIn(Collection<String> normalizedNames);
+}
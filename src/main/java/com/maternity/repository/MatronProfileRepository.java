@@ -1,22 +1,62 @@
 package com.maternity.repository;
 
+import com.maternity.dto.AdminMatronProfileSummaryDTO;
 import com.maternity.model.MatronProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MatronProfileRepository extends JpaRepository<MatronProfile, Long> {
+    // Only single-row lookups are cacheable: an unbounded result would need every matched
+    // profile to fit in the matronProfile region, or each cache hit reloads the evicted rows
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<MatronProfile> findByUserId(Long userId);
     List<MatronProfile> findByIsAvailable(Boolean isAvailable);
 
     @Query("SELECT m FROM MatronProfile m WHERE m.location LIKE %:location%")
     List<MatronProfile> findByLocationContaining(@Param("location") String location);
 
+    @Query("SELECT m FROM MatronProfile m WHERE m.region.province = :province " +
+            "AND (:city IS NULL OR m.region.city = :city) " +
+            "AND (:district IS NULL OR m.region.district = :district) ORDER BY m.id")
+    List<MatronProfile> findByRegion(@Param("province") String province, @Param("city") String city,
+                                     @Param("district") String district);
+
     @Query("SELECT m FROM MatronProfile m WHERE m.pricePerMonth BETWEEN :minPrice AND :maxPrice")
     List<MatronProfile> findByPriceRange(@Param("minPrice") Double minPrice, @Param("maxPrice") Double maxPrice);
+
+    List<MatronProfile> findByUserIdIn(Collection<Long> userIds);
+
+    // change_version is not mapped (see MatronProfile); each row is the profile id, the
+    // profile's version and its user's version
+    @Query(value = "SELECT m.id, m.change_version AS profile_version, u.change_version AS user_version " +
+            "FROM matron_profiles m JOIN users u ON u.id = m.user_id " +
+            "WHERE m.change_version > :since ORDER BY m.change_version", nativeQuery = true)
+    List<Object[]> findChangeVersionsSince(@Param("since") long since, Pageable pageable);
+
+    // Name and avatar are on the user row
+    @Query(value = "SELECT m.id, m.change_version AS profile_version, u.change_version AS user_version " +
+            "FROM matron_profiles m JOIN users u ON u.id = m.user_id " +
+            "WHERE u.change_version > :since ORDER BY u.change_version", nativeQuery = true)
+    List<Object[]> findUserChangeVersionsSince(@Param("since") long since, Pageable pageable);
+
+    @Query("SELECT m FROM MatronProfile m JOIN FETCH m.user WHERE m.id IN :ids")
+    List<MatronProfile> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT new com.maternity.dto.AdminMatronProfileSummaryDTO(m.id, u.id, u.name, u.phone, m.age, " +
+            "m.yearsOfExperience, m.pricePerMonth, m.location, m.rating, m.reviewCount, m.isAvailable, " +
+            "m.availableFrom, m.createdAt) FROM MatronProfile m JOIN m.user u",
+            countQuery = "SELECT COUNT(m) FROM MatronProfile m")
+    Page<AdminMatronProfileSummaryDTO> findAdminSummaries(Pageable pageable);
 }
\ No newline at end of file
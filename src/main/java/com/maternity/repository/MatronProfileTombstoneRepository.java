@@ -0,0 +1,19 @@
+package com.maternity.repository;
+
+import com.maternity.model.MatronProfileTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MatronProfileTombstoneRepository extends JpaRepository<MatronProfileTombstone, Long> {
+
+    // Each row is the profile id and the tombstone's version
+    @Query(value = "SELECT t.matron_profile_id, t.change_version FROM matron_profile_tombstones t " +
+            "WHERE t.change_version > :since ORDER BY t.change_version", nativeQuery = true)
+    List<Object[]> findChangeVersionsSince(@Param("since") long since, Pageable pageable);
+}
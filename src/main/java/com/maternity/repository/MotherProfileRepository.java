@@ -7,12 +7,14 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MotherProfileRepository extends JpaRepository<MotherProfile, Long> {
     Optional<MotherProfile> findByUserId(Long userId);
+    List<MotherProfile> findByUserIdIn(Collection<Long> userIds);
 
     @Query("SELECT m FROM MotherProfile m WHERE m.dueDate IS NOT NULL AND m.dueDate > :today AND m.babyBirthDate IS NULL")
     List<MotherProfile> findExpectingMothers(@Param("today") LocalDate today);
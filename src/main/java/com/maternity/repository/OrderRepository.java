@@ -1,9 +1,13 @@
 package com.maternity.repository;
 
 import com.maternity.model.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,4 +18,18 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByMatronProfileIdAndStatus(Long matronProfileId, Order.OrderStatus status);
     List<Order> findByStatus(Order.OrderStatus status);
     long countByStatus(Order.OrderStatus status);
+
+    // Admin listings: mother, matron profile and matron user in the same query as the page
+    @Override
+    @EntityGraph(attributePaths = {"mother", "matronProfile", "matronProfile.user"})
+    Page<Order> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"mother", "matronProfile", "matronProfile.user"})
+    Page<Order> findByStatus(Order.OrderStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"mother", "matronProfile", "matronProfile.user"})
+    Page<Order> findByMotherId(Long motherId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"mother", "matronProfile", "matronProfile.user"})
+    List<Order> findByMotherIdIn(Collection<Long> motherIds, Pageable pageable);
 }
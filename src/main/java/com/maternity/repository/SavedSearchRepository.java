@@ -0,0 +1,22 @@
+package com.maternity.repository;
+
+import com.maternity.model.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    List<SavedSearch> findByUserIdOrderByCreatedAt(Long userId);
+    long countByUserId(Long userId);
+
+    @Query("SELECT DISTINCT s FROM SavedSearch s LEFT JOIN FETCH s.skills")
+    List<SavedSearch> findAllWithSkills();
+
+    @Query("SELECT s FROM SavedSearch s LEFT JOIN FETCH s.skills WHERE s.id = :id")
+    Optional<SavedSearch> findByIdWithSkills(@Param("id") Long id);
+}
@@ -0,0 +1,24 @@
+package com.maternity.repository;
+
+import com.maternity.model.SearchAlert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SearchAlertRepository extends JpaRepository<SearchAlert, Long> {
+
+    @Query("SELECT a FROM SearchAlert a JOIN FETCH a.savedSearch s WHERE s.user.id = :userId ORDER BY a.createdAt DESC, a.id DESC")
+    List<SearchAlert> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE SearchAlert a SET a.readAt = :readAt WHERE a.readAt IS NULL " +
+           "AND a.savedSearch.id IN (SELECT s.id FROM SavedSearch s WHERE s.user.id = :userId)")
+    int markAllRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+}
@@ -0,0 +1,13 @@
+package com.maternity.repository;
+
+import com.maternity.model.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+    List<Skill> findByNormalizedNameIn(Collection<String> normalizedNames);
+}
@@ -1,24 +1,56 @@
 package com.maternity.repository;
 
 import com.maternity.model.User;
+import com.maternity.search.UserSearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
     Optional<User> findByWechatOpenId(String wechatOpenId);
     Boolean existsByWechatOpenId(String wechatOpenId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByPhone(String phone);
     List<User> findByRole(User.UserRole role);
     Page<User> findByRole(User.UserRole role, Pageable pageable);
-    List<User> findByNameContainingIgnoreCase(String name);
-    List<User> findByPhoneContaining(String phone);
+    Page<User> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    Page<User> findByPhoneContaining(String phone, Pageable pageable);
     long countByRole(User.UserRole role);
+
+    @Query("SELECT new com.maternity.search.UserSearchDocument(u.id, u.name, u.phone, u.role) FROM User u")
+    List<UserSearchDocument> findAllSearchDocuments();
+    @Query("SELECT new com.maternity.search.UserSearchDocument(u.id, u.name, u.phone, u.role) FROM User u WHERE u.id = :id")
+    Optional<UserSearchDocument> findSearchDocumentById(@Param("id") Long id);
+
+    // Forward-only cursors for the admin streaming endpoints; consume inside a transaction and close.
+    // Rows are read fetch-size at a time and kept out of the second-level cache.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<User> streamByRoleOrderByIdAsc(User.UserRole role);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<User> streamByNameContainingIgnoreCaseOrderByIdAsc(String name);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<User> streamByPhoneContainingOrderByIdAsc(String phone);
 }
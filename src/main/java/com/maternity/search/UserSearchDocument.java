@@ -0,0 +1,37 @@
+package com.maternity.search;
+
+import com.maternity.model.User;
+
+/**
+ * The user columns {@link UserSearchIndex} needs, selected without loading the entity
+ */
+public class UserSearchDocument {
+
+    private final Long id;
+    private final String name;
+    private final String phone;
+    private final User.UserRole role;
+
+    public UserSearchDocument(Long id, String name, String phone, User.UserRole role) {
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public User.UserRole getRole() {
+        return role;
+    }
+}
@@ -0,0 +1,507 @@
+package com.maternity.search;
+
+import com.maternity.datasource.ReadWriteRoutingDataSource;
+import com.maternity.event.EntityChangeEvent;
+import com.maternity.model.User;
+import com.maternity.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index for admin user lookup by name or phone.
+ *
+ * Names are indexed by their character bigrams and skip-grams (two characters one apart), which
+ * works the same for Chinese and Latin names. A name matches when it contains at least half of
+ * the query's bigrams or half of its skip-grams, so a typo or a missing character still finds
+ * it, including a wrong middle character of a three-character name; results rank exact
+ * substring matches first, then by the share of grams matched. A single-character query has
+ * no grams and scans the names. Phones are indexed with their digits reversed, so a suffix
+ * such as the last four digits is a range scan.
+ *
+ * Postings are sorted arrays of int user ids, replaced on every change rather than modified,
+ * so searches read them without locking and a million users take tens of megabytes.
+ *
+ * Loaded once the application is ready and kept current from committed {@link EntityChangeEvent}s.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    private static final double MIN_GRAM_COVERAGE = 0.5;
+    private static final int MIN_PHONE_DIGITS = 3;
+    // Separates the two characters of a skip-gram key from those of a bigram
+    private static final char SKIP = '\u0000';
+    private static final int[] NO_IDS = new int[0];
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Map<String, int[]> postings = new ConcurrentHashMap<>();
+    // Reversed phone digits + '#' + user id, so users sharing a phone keep separate keys
+    private final NavigableMap<String, Long> reversedPhones = new ConcurrentSkipListMap<>();
+
+    private volatile boolean loaded = false;
+
+    public UserSearchIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Change events arrive after the writing transaction committed
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Rebuild the index from the database
+     */
+    public void reload() {
+        // From the primary, as changes are only applied on top of what is loaded here
+        List<UserSearchDocument> documents = ReadWriteRoutingDataSource.onPrimary(() ->
+                readTransaction.execute(status -> userRepository.findAllSearchDocuments()));
+
+        entries.clear();
+        reversedPhones.clear();
+        // Built in bulk: adding users one by one copies a posting for every id it gains
+        Map<String, IdsBuilder> built = new HashMap<>();
+        for (UserSearchDocument document : documents) {
+            Entry entry = new Entry(document);
+            addEntry(entry);
+            for (String gram : documentGrams(entry.name)) {
+                built.computeIfAbsent(gram, key -> new IdsBuilder()).add(userIndex(entry.id));
+            }
+        }
+        Map<String, int[]> loadedPostings = new ConcurrentHashMap<>(built.size());
+        built.forEach((gram, ids) -> loadedPostings.put(gram, ids.build()));
+        postings = loadedPostings;
+        loaded = true;
+
+        log.info("User search index loaded with {} users and {} name grams", entries.size(), postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        if (!loaded || !event.isFor(User.class)) {
+            return;
+        }
+        if (event.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+            remove(event.getEntityId());
+        } else {
+            refresh(event.getEntityId());
+        }
+    }
+
+    /**
+     * Re-index a single user from the database
+     */
+    public void refresh(Long userId) {
+        // From the primary: a replica may not have the change yet, and nothing would re-read it
+        Optional<UserSearchDocument> current = ReadWriteRoutingDataSource.onPrimary(() -> readTransaction.execute(status ->
+                userRepository.findSearchDocumentById(userId)));
+        remove(userId);
+        if (current != null) {
+            current.ifPresent(this::add);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Rank users matching the query. A query of digits (spaces and dashes ignored) is a phone
+     * suffix search, anything else a fuzzy name search.
+     *
+     * @param role only return users with this role, or null for all
+     * @return ids of the requested page, best match first
+     */
+    public Page<Long> search(String query, User.UserRole role, Pageable pageable) {
+        String digits = query.replaceAll("[\\s-]", "");
+        if (digits.length() >= MIN_PHONE_DIGITS && digits.chars().allMatch(Character::isDigit)) {
+            return searchPhoneSuffix(digits, role, pageable);
+        }
+        return searchName(query, role, pageable);
+    }
+
+    private Page<Long> searchName(String query, User.UserRole role, Pageable pageable) {
+        String normalized = normalize(query);
+        int[] codePoints = normalized.codePoints().toArray();
+        if (codePoints.length == 0) {
+            return Page.empty(pageable);
+        }
+        if (codePoints.length == 1) {
+            return scanNames(normalized, role, pageable);
+        }
+
+        Map<String, int[]> postings = this.postings;
+        List<Gram> bigrams = queryGrams(codePoints, 1);
+        List<Gram> skipGrams = queryGrams(codePoints, 2);
+        int minBigrams = (int) Math.ceil(bigrams.size() * MIN_GRAM_COVERAGE);
+        int minSkipGrams = (int) Math.ceil(skipGrams.size() * MIN_GRAM_COVERAGE);
+        List<int[]> candidatePostings = new ArrayList<>();
+        addCandidates(postings, bigrams, minBigrams, candidatePostings);
+        addCandidates(postings, skipGrams, minSkipGrams, candidatePostings);
+
+        TopHits hits = new TopHits(pageable);
+        for (int index : union(candidatePostings)) {
+            Entry entry = entries.get((long) index);
+            if (entry == null || (role != null && entry.role != role)) {
+                continue;
+            }
+            int matchedBigrams = countMatches(entry.name, bigrams);
+            int matchedSkipGrams = countMatches(entry.name, skipGrams);
+            if (matchedBigrams < minBigrams && (skipGrams.isEmpty() || matchedSkipGrams < minSkipGrams)) {
+                continue;
+            }
+            double score = (double) (matchedBigrams + matchedSkipGrams) / (bigrams.size() + skipGrams.size());
+            if (entry.name.contains(normalized)) {
+                score += entry.name.startsWith(normalized) ? 2 : 1;
+            }
+            hits.offer(entry, score);
+        }
+        return hits.toPage();
+    }
+
+    /**
+     * A name missing more than (size - minMatches) of the grams cannot match on them, so every
+     * such match contains one of the (size - minMatches + 1) rarest; collect candidates from those
+     */
+    private static void addCandidates(Map<String, int[]> postings, List<Gram> grams, int minMatches, List<int[]> candidates) {
+        if (grams.isEmpty()) {
+            return;
+        }
+        List<int[]> rarestFirst = new ArrayList<>(grams.size());
+        for (Gram gram : grams) {
+            rarestFirst.add(postings.getOrDefault(gram.key, NO_IDS));
+        }
+        rarestFirst.sort(Comparator.comparingInt(ids -> ids.length));
+        candidates.addAll(rarestFirst.subList(0, grams.size() - minMatches + 1));
+    }
+
+    /**
+     * Distinct ids of the postings, in ascending order
+     */
+    private static int[] union(List<int[]> postings) {
+        int total = 0;
+        for (int[] ids : postings) {
+            total += ids.length;
+        }
+        int[] all = new int[total];
+        int size = 0;
+        for (int[] ids : postings) {
+            System.arraycopy(ids, 0, all, size, ids.length);
+            size += ids.length;
+        }
+        Arrays.sort(all);
+        int distinct = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[distinct++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, distinct);
+    }
+
+    private static int countMatches(String name, List<Gram> grams) {
+        int matched = 0;
+        for (Gram gram : grams) {
+            if (gram.occursIn(name)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private Page<Long> scanNames(String character, User.UserRole role, Pageable pageable) {
+        TopHits hits = new TopHits(pageable);
+        for (Entry entry : entries.values()) {
+            if ((role == null || entry.role == role) && entry.name.contains(character)) {
+                hits.offer(entry, entry.name.startsWith(character) ? 3 : 2);
+            }
+        }
+        return hits.toPage();
+    }
+
+    private Page<Long> searchPhoneSuffix(String digits, User.UserRole role, Pageable pageable) {
+        String reversed = new StringBuilder(digits).reverse().toString();
+        TopHits hits = new TopHits(pageable);
+        for (Long id : reversedPhones.subMap(reversed, true, reversed + Character.MAX_VALUE, false).values()) {
+            Entry entry = entries.get(id);
+            if (entry == null || (role != null && entry.role != role)) {
+                continue;
+            }
+            // Whole number first, then other numbers ending in the digits
+            hits.offer(entry, entry.phoneKey.charAt(digits.length()) == '#' ? 1 : 0);
+        }
+        return hits.toPage();
+    }
+
+    private void add(UserSearchDocument document) {
+        Entry entry = new Entry(document);
+        addEntry(entry);
+        int index = userIndex(entry.id);
+        for (String gram : documentGrams(entry.name)) {
+            postings.compute(gram, (key, ids) -> withId(ids, index));
+        }
+    }
+
+    private void addEntry(Entry entry) {
+        entries.put(entry.id, entry);
+        if (entry.phoneKey != null) {
+            reversedPhones.put(entry.phoneKey, entry.id);
+        }
+    }
+
+    private void remove(Long userId) {
+        Entry entry = entries.remove(userId);
+        if (entry == null) {
+            return;
+        }
+        int index = userIndex(userId);
+        for (String gram : documentGrams(entry.name)) {
+            postings.computeIfPresent(gram, (key, ids) -> withoutId(ids, index));
+        }
+        if (entry.phoneKey != null) {
+            reversedPhones.remove(entry.phoneKey);
+        }
+    }
+
+    private static int userIndex(Long userId) {
+        return Math.toIntExact(userId);
+    }
+
+    private static int[] withId(int[] ids, int id) {
+        if (ids == null) {
+            return new int[]{id};
+        }
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        int insertAt = -position - 1;
+        int[] added = new int[ids.length + 1];
+        System.arraycopy(ids, 0, added, 0, insertAt);
+        added[insertAt] = id;
+        System.arraycopy(ids, insertAt, added, insertAt + 1, ids.length - insertAt);
+        return added;
+    }
+
+    /**
+     * @return the ids without id, or null to drop a posting left empty
+     */
+    private static int[] withoutId(int[] ids, int id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        int[] removed = new int[ids.length - 1];
+        System.arraycopy(ids, 0, removed, 0, position);
+        System.arraycopy(ids, position + 1, removed, position, ids.length - position - 1);
+        return removed;
+    }
+
+    /**
+     * Lower-case, fold full-width forms and collapse whitespace
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return folded.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Posting keys of the bigrams and skip-grams of a normalized name
+     */
+    private static Collection<String> documentGrams(String name) {
+        int[] codePoints = name.codePoints().toArray();
+        Map<String, Gram> grams = new LinkedHashMap<>();
+        addGrams(codePoints, 1, grams);
+        addGrams(codePoints, 2, grams);
+        return grams.keySet();
+    }
+
+    /**
+     * Distinct bigrams (gap 1) or skip-grams (gap 2) of a normalized query
+     */
+    private static List<Gram> queryGrams(int[] codePoints, int gap) {
+        Map<String, Gram> grams = new LinkedHashMap<>();
+        addGrams(codePoints, gap, grams);
+        return new ArrayList<>(grams.values());
+    }
+
+    private static void addGrams(int[] codePoints, int gap, Map<String, Gram> grams) {
+        for (int i = 0; i + gap < codePoints.length; i++) {
+            Gram gram = new Gram(codePoints[i], codePoints[i + gap], gap);
+            grams.putIfAbsent(gram.key, gram);
+        }
+    }
+
+    private static final class Gram {
+
+        final int first;
+        final int second;
+        final int gap;
+        final String key;
+
+        Gram(int first, int second, int gap) {
+            this.first = first;
+            this.second = second;
+            this.gap = gap;
+            StringBuilder key = new StringBuilder(5).appendCodePoint(first);
+            if (gap == 2) {
+                key.append(SKIP);
+            }
+            this.key = key.appendCodePoint(second).toString();
+        }
+
+        boolean occursIn(String name) {
+            if (gap == 1) {
+                return name.contains(key);
+            }
+            for (int i = name.indexOf(first); i >= 0; i = name.indexOf(first, i + 1)) {
+                int middle = i + Character.charCount(first);
+                if (middle >= name.length()) {
+                    return false;
+                }
+                int last = middle + Character.charCount(name.codePointAt(middle));
+                if (last < name.length() && name.codePointAt(last) == second) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Collects the ids of one posting during a reload
+     */
+    private static final class IdsBuilder {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] build() {
+            int[] sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    private static final class Entry {
+
+        final Long id;
+        final String name;
+        // Key in reversedPhones, or null without a phone; kept instead of the digits so
+        // the index holds each phone once
+        final String phoneKey;
+        final User.UserRole role;
+
+        Entry(UserSearchDocument document) {
+            this.id = document.getId();
+            this.name = normalize(document.getName());
+            String phoneDigits = document.getPhone() != null ? document.getPhone().replaceAll("\\D", "") : "";
+            this.phoneKey = phoneDigits.isEmpty() ? null
+                    : new StringBuilder(phoneDigits).reverse().append('#').append(id).toString();
+            this.role = document.getRole();
+        }
+    }
+
+    /**
+     * Keeps only the hits up to the end of the requested page, ordered by score, then
+     * shorter name, then id
+     */
+    private static final class TopHits {
+
+        private static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble((Hit hit) -> hit.score).reversed()
+                .thenComparingInt(hit -> hit.entry.name.length())
+                .thenComparing(hit -> hit.entry.id);
+
+        private final Pageable pageable;
+        private final int limit;
+        private final PriorityQueue<Hit> worstFirst;
+        private long total;
+
+        TopHits(Pageable pageable) {
+            this.pageable = pageable;
+            this.limit = (int) Math.min(Integer.MAX_VALUE - 1, pageable.getOffset() + pageable.getPageSize());
+            this.worstFirst = new PriorityQueue<>(BEST_FIRST.reversed());
+        }
+
+        void offer(Entry entry, double score) {
+            total++;
+            worstFirst.offer(new Hit(entry, score));
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
+        }
+
+        Page<Long> toPage() {
+            List<Hit> top = new ArrayList<>(worstFirst);
+            top.sort(BEST_FIRST);
+            List<Long> ids = top.stream()
+                    .skip(pageable.getOffset())
+                    .map(hit -> hit.entry.id)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(ids, pageable, total);
+        }
+    }
+
+    private static final class Hit {
+
+        final Entry entry;
+        final double score;
+
+        Hit(Entry entry, double score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.maternity.service;
 
 import com.maternity.dto.AdminCreateMatronProfileRequest;
+import com.maternity.dto.AdminMatronProfileDTO;
+import com.maternity.dto.AdminMatronProfileSummaryDTO;
 import com.maternity.model.MatronProfile;
+import com.maternity.model.MatronProfileTombstone;
 import com.maternity.model.User;
 import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.MatronProfileTombstoneRepository;
 import com.maternity.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,24 +19,30 @@ public class AdminMatronProfileService {
 
     private final MatronProfileRepository matronProfileRepository;
     private final UserRepository userRepository;
+    private final MatronProfileTombstoneRepository matronProfileTombstoneRepository;
 
     public AdminMatronProfileService(MatronProfileRepository matronProfileRepository,
-                                    UserRepository userRepository) {
+                                    UserRepository userRepository,
+                                    MatronProfileTombstoneRepository matronProfileTombstoneRepository) {
         this.matronProfileRepository = matronProfileRepository;
         this.userRepository = userRepository;
+        this.matronProfileTombstoneRepository = matronProfileTombstoneRepository;
     }
 
-    public Page<MatronProfile> getAllMatronProfiles(Pageable pageable) {
-        return matronProfileRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<AdminMatronProfileSummaryDTO> getAllMatronProfiles(Pageable pageable) {
+        return matronProfileRepository.findAdminSummaries(pageable);
     }
 
-    public MatronProfile getMatronProfileById(Long id) {
+    @Transactional(readOnly = true)
+    public AdminMatronProfileDTO getMatronProfileById(Long id) {
         return matronProfileRepository.findById(id)
+            .map(AdminMatronProfileDTO::new)
             .orElseThrow(() -> new RuntimeException("Matron profile not found with id: " + id));
     }
 
     @Transactional
-    public MatronProfile createMatronProfile(AdminCreateMatronProfileRequest request) {
+    public AdminMatronProfileDTO createMatronProfile(AdminCreateMatronProfileRequest request) {
         // Verify user exists and is a MATRON
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new RuntimeException("User not found with id: " + request.getUserId()));
@@ -55,11 +65,11 @@ public class AdminMatronProfileService {
         profile.setBio(request.getBio());
         profile.setIsAvailable(request.getAvailable() != null ? request.getAvailable() : true);
 
-        return matronProfileRepository.save(profile);
+        return new AdminMatronProfileDTO(matronProfileRepository.save(profile));
     }
 
     @Transactional
-    public MatronProfile updateMatronProfile(Long id, AdminCreateMatronProfileRequest request) {
+    public AdminMatronProfileDTO updateMatronProfile(Long id, AdminCreateMatronProfileRequest request) {
         MatronProfile profile = matronProfileRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Matron profile not found with id: " + id));
 
@@ -83,7 +93,7 @@ public class AdminMatronProfileService {
             profile.setIsAvailable(request.getAvailable());
         }
 
-        return matronProfileRepository.save(profile);
+        return new AdminMatronProfileDTO(matronProfileRepository.save(profile));
     }
 
     @Transactional
@@ -91,6 +101,7 @@ public class AdminMatronProfileService {
         if (!matronProfileRepository.existsById(id)) {
             throw new RuntimeException("Matron profile not found with id: " + id);
         }
+        matronProfileTombstoneRepository.save(new MatronProfileTombstone(id));
         matronProfileRepository.deleteById(id);
     }
 }
@@ -12,6 +12,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 public class AdminMotherService {
 
@@ -24,11 +28,17 @@ public class AdminMotherService {
         this.motherProfileRepository = motherProfileRepository;
     }
 
+    @Transactional(readOnly = true)
     public Page<AdminUserDTO> getAllMothers(Pageable pageable) {
-        return userRepository.findByRole(User.UserRole.MOTHER, pageable)
-            .map(this::convertToDTO);
+        Page<User> mothers = userRepository.findByRole(User.UserRole.MOTHER, pageable);
+        // One query for the page's profiles instead of one per mother
+        Map<Long, MotherProfile> profiles = mothers.isEmpty() ? Map.of()
+            : motherProfileRepository.findByUserIdIn(mothers.map(User::getId).getContent()).stream()
+                .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity()));
+        return mothers.map(mother -> convertToDTO(mother, profiles.get(mother.getId())));
     }
 
+    @Transactional(readOnly = true)
     public AdminUserDTO getMotherById(Long id) {
         User mother = userRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Mother not found with id: " + id));
@@ -39,16 +49,20 @@ public class AdminMotherService {
     }
 
     private AdminUserDTO convertToDTO(User user) {
+        MotherProfile profile = user.getRole() == User.UserRole.MOTHER
+            ? motherProfileRepository.findByUserId(user.getId()).orElse(null) : null;
+        return convertToDTO(user, profile);
+    }
+
+    private AdminUserDTO convertToDTO(User user, MotherProfile profile) {
         AdminUserDTO dto = new AdminUserDTO(user);
 
-        // Load mother profile data if user is a MOTHER
-        if (user.getRole() == User.UserRole.MOTHER) {
-            motherProfileRepository.findByUserId(user.getId()).ifPresent(profile -> {
-                dto.setDueDate(profile.getDueDate() != null ? profile.getDueDate().atStartOfDay() : null);
-                dto.setBabyBirthDate(profile.getBabyBirthDate() != null ? profile.getBabyBirthDate().atStartOfDay() : null);
-                dto.setAddress(profile.getAddress());
-                dto.setSpecialNeeds(profile.getSpecialNeeds());
-            });
+        // Mother profile data if user is a MOTHER
+        if (user.getRole() == User.UserRole.MOTHER && profile != null) {
+            dto.setDueDate(profile.getDueDate() != null ? profile.getDueDate().atStartOfDay() : null);
+            dto.setBabyBirthDate(profile.getBabyBirthDate() != null ? profile.getBabyBirthDate().atStartOfDay() : null);
+            dto.setAddress(profile.getAddress());
+            dto.setSpecialNeeds(profile.getSpecialNeeds());
         }
 
         return dto;
@@ -1,5 +1,6 @@
 package com.maternity.service;
 
+import com.maternity.datasource.AnalyticsQuery;
 import com.maternity.dto.AdminCreateOrderRequest;
 import com.maternity.dto.AdminOrderDTO;
 import com.maternity.model.MatronProfile;
@@ -9,11 +10,18 @@ import com.maternity.repository.MatronProfileRepository;
 import com.maternity.repository.OrderRepository;
 import com.maternity.repository.UserRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,42 +30,83 @@ public class AdminOrderService {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final MatronProfileRepository matronProfileRepository;
+    private final PlatformTransactionManager transactionManager;
 
     public AdminOrderService(OrderRepository orderRepository,
                             UserRepository userRepository,
-                            MatronProfileRepository matronProfileRepository) {
+                            MatronProfileRepository matronProfileRepository,
+                            PlatformTransactionManager transactionManager) {
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
         this.matronProfileRepository = matronProfileRepository;
+        this.transactionManager = transactionManager;
     }
 
+    @Transactional(readOnly = true)
+    @AnalyticsQuery
     public List<AdminOrderDTO> getAllOrders() {
         return orderRepository.findAll().stream()
             .map(AdminOrderDTO::new)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<AdminOrderDTO> getAllOrdersPaginated(Pageable pageable) {
         return orderRepository.findAll(pageable)
             .map(AdminOrderDTO::new);
     }
 
+    @Transactional(readOnly = true)
     public AdminOrderDTO getOrderById(Long orderId) {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new RuntimeException("Order not found with id: " + orderId));
         return new AdminOrderDTO(order);
     }
 
-    public List<AdminOrderDTO> getOrdersByStatus(Order.OrderStatus status) {
-        return orderRepository.findByStatus(status).stream()
-            .map(AdminOrderDTO::new)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AdminOrderDTO> getOrdersByStatus(Order.OrderStatus status, Pageable pageable) {
+        return orderRepository.findByStatus(status, pageable)
+            .map(AdminOrderDTO::new);
     }
 
-    public List<AdminOrderDTO> getOrdersByMotherId(Long motherId) {
-        return orderRepository.findByMotherId(motherId).stream()
-            .map(AdminOrderDTO::new)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AdminOrderDTO> getOrdersByMotherId(Long motherId, Pageable pageable) {
+        return orderRepository.findByMotherId(motherId, pageable)
+            .map(AdminOrderDTO::new);
+    }
+
+    /**
+     * Orders for the global admin search: the order with the given id first, then the most
+     * recent orders of the given mothers
+     *
+     * @param orderId       order id typed into the search box, or null
+     * @param timeoutMillis time left for the search; queries time out after it, rounded up to
+     *                      whole seconds as JDBC query timeouts are
+     */
+    public List<AdminOrderDTO> findOrdersForSearch(Long orderId, Collection<Long> motherIds, int limit,
+                                                   long timeoutMillis) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        // Hibernate sets what is left of the transaction timeout on every statement as its query
+        // timeout, rounded down to whole seconds, and refuses to run one once that is zero; the
+        // extra second keeps a sub-second deadline from failing the first query
+        transaction.setTimeout((int) TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999) + 1);
+        return transaction.execute(status -> findOrdersForSearch(orderId, motherIds, limit));
+    }
+
+    private List<AdminOrderDTO> findOrdersForSearch(Long orderId, Collection<Long> motherIds, int limit) {
+        List<AdminOrderDTO> orders = new ArrayList<>();
+        if (orderId != null) {
+            orderRepository.findById(orderId).ifPresent(order -> orders.add(new AdminOrderDTO(order)));
+        }
+        if (!motherIds.isEmpty() && orders.size() < limit) {
+            orderRepository.findByMotherIdIn(motherIds, PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"))).stream()
+                .filter(order -> !order.getId().equals(orderId))
+                .limit(limit - orders.size())
+                .map(AdminOrderDTO::new)
+                .forEach(orders::add);
+        }
+        return orders;
     }
 
     @Transactional
@@ -87,10 +136,12 @@ public class AdminOrderService {
         orderRepository.deleteById(orderId);
     }
 
+    @AnalyticsQuery
     public long getTotalOrdersCount() {
         return orderRepository.count();
     }
 
+    @AnalyticsQuery
     public long getOrdersCountByStatus(Order.OrderStatus status) {
         return orderRepository.countByStatus(status);
     }
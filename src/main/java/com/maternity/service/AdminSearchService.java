@@ -0,0 +1,218 @@
+package com.maternity.service;
+
+import com.maternity.catalog.MatronCatalog;
+import com.maternity.dto.AdminOrderDTO;
+import com.maternity.dto.AdminSearchResponse;
+import com.maternity.dto.AdminUserDTO;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.model.User;
+import com.maternity.search.UserSearchIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Global admin search: one query runs against users, matron profiles and orders in parallel.
+ *
+ * All sections share one deadline. A section that has not answered by then, or that failed,
+ * is left empty and listed in {@link AdminSearchResponse#getIncompleteSections()}, so the
+ * admin still sees whatever the other sections found.
+ *
+ * Sections run on a bounded pool of their own, so searches cannot take over the executor used by
+ * {@code @Async} methods, and a pile-up of searches is refused instead of queueing past the
+ * deadline. Future cancellation does not stop a running task, so the orders query is also given
+ * what is left of the deadline as its query timeout and gives its connection back on its own.
+ */
+@Service
+public class AdminSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminSearchService.class);
+
+    private final AdminUserService adminUserService;
+    private final AdminOrderService adminOrderService;
+    private final UserSearchIndex userSearchIndex;
+    private final MatronCatalog matronCatalog;
+    private final long timeoutMillis;
+    private final int threads;
+    private final int queueSize;
+    private final MeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    public AdminSearchService(AdminUserService adminUserService,
+                              AdminOrderService adminOrderService,
+                              UserSearchIndex userSearchIndex,
+                              MatronCatalog matronCatalog,
+                              @Value("${admin.search.timeout-ms:500}") long timeoutMillis,
+                              @Value("${admin.search.threads:6}") int threads,
+                              @Value("${admin.search.queue-size:12}") int queueSize,
+                              MeterRegistry meterRegistry) {
+        this.adminUserService = adminUserService;
+        this.adminOrderService = adminOrderService;
+        this.userSearchIndex = userSearchIndex;
+        this.matronCatalog = matronCatalog;
+        this.timeoutMillis = timeoutMillis;
+        this.threads = threads;
+        this.queueSize = queueSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger count = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "admin-search-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public AdminSearchResponse search(String query, int limit) {
+        String text = query.trim();
+        AdminSearchResponse response = new AdminSearchResponse(text);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        List<Section<?>> sections = List.of(
+                new Section<>("users", () -> searchUsers(text, limit), response::setUsers),
+                new Section<>("matrons", () -> searchMatrons(text, limit), response::setMatrons),
+                new Section<>("orders", () -> searchOrders(text, limit, deadline), response::setOrders));
+
+        sections.forEach(section -> section.start(executor));
+        for (Section<?> section : sections) {
+            if (!section.await(deadline)) {
+                response.getIncompleteSections().add(section.name);
+                Counter.builder("admin.search.incomplete")
+                        .description("Global admin search sections left out of a response")
+                        .tag("section", section.name)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+        return response;
+    }
+
+    private List<AdminUserDTO> searchUsers(String query, int limit) {
+        return adminUserService.fuzzySearchUsers(query, null, PageRequest.of(0, limit)).getContent();
+    }
+
+    /**
+     * Matrons whose name or phone matches, ranked by the user index, then matrons in a
+     * matching location
+     */
+    private List<MatronProfileDTO> searchMatrons(String query, int limit) {
+        List<MatronProfileDTO> matrons = new ArrayList<>();
+        if (!matronCatalog.isLoaded()) {
+            return matrons;
+        }
+        Set<Long> found = new HashSet<>();
+        if (userSearchIndex.isLoaded()) {
+            for (Long userId : userSearchIndex.search(query, User.UserRole.MATRON, PageRequest.of(0, limit))) {
+                matronCatalog.findByUserId(userId).ifPresent(matron -> {
+                    matrons.add(matron);
+                    found.add(matron.getId());
+                });
+            }
+        }
+        if (matrons.size() < limit) {
+            String location = query.toLowerCase(Locale.ROOT);
+            matronCatalog.stream()
+                    .filter(matron -> matron.getLocation() != null
+                            && matron.getLocation().toLowerCase(Locale.ROOT).contains(location))
+                    .filter(matron -> !found.contains(matron.getId()))
+                    .limit(limit - matrons.size())
+                    .forEach(matrons::add);
+        }
+        return matrons;
+    }
+
+    /**
+     * The order with the typed id, then recent orders of mothers matching the query
+     */
+    private List<AdminOrderDTO> searchOrders(String query, int limit, long deadline) {
+        Long orderId = null;
+        if (query.matches("\\d{1,18}")) {
+            orderId = Long.valueOf(query);
+        }
+        List<Long> motherIds = userSearchIndex.isLoaded()
+                ? userSearchIndex.search(query, User.UserRole.MOTHER, PageRequest.of(0, limit)).getContent()
+                : List.of();
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new IllegalStateException("Admin search deadline passed before the orders query");
+        }
+        return adminOrderService.findOrdersForSearch(orderId, motherIds, limit, remainingMillis);
+    }
+
+    private static final class Section<T> {
+
+        private final String name;
+        private final Supplier<T> search;
+        private final Consumer<T> result;
+        private CompletableFuture<T> future;
+
+        Section(String name, Supplier<T> search, Consumer<T> result) {
+            this.name = name;
+            this.search = search;
+            this.result = result;
+        }
+
+        void start(ExecutorService executor) {
+            try {
+                future = CompletableFuture.supplyAsync(search, executor);
+            } catch (RejectedExecutionException e) {
+                future = CompletableFuture.failedFuture(new IllegalStateException("Admin search pool is full"));
+            }
+        }
+
+        /**
+         * @return true if the section finished before the deadline and its result was applied
+         */
+        boolean await(long deadline) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                result.accept(future.get(remaining, TimeUnit.NANOSECONDS));
+                return true;
+            } catch (TimeoutException e) {
+                // Only drops the result; a running section ends on its own
+                future.cancel(false);
+                log.warn("Admin search section {} missed the deadline", name);
+                return false;
+            } catch (ExecutionException e) {
+                log.warn("Admin search section {} failed: {}", name, e.getCause().getMessage());
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(false);
+                return false;
+            }
+        }
+    }
+}
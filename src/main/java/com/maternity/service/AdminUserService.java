@@ -1,23 +1,41 @@
 package com.maternity.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maternity.datasource.AnalyticsQuery;
 import com.maternity.dto.AdminCreateMatronProfileRequest;
 import com.maternity.dto.AdminCreateUserRequest;
+import com.maternity.dto.AdminMatronProfileDTO;
+import com.maternity.dto.AdminMatronProfileSummaryDTO;
 import com.maternity.dto.AdminUpdateUserRequest;
 import com.maternity.dto.AdminUserDTO;
 import com.maternity.dto.CreateMatronRequest;
 import com.maternity.model.MatronProfile;
+import com.maternity.model.MatronProfileTombstone;
 import com.maternity.model.MotherProfile;
 import com.maternity.model.User;
 import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.MatronProfileTombstoneRepository;
 import com.maternity.repository.MotherProfileRepository;
 import com.maternity.repository.UserRepository;
+import com.maternity.search.UserSearchIndex;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class AdminUserService {
@@ -25,34 +43,49 @@ public class AdminUserService {
     private final UserRepository userRepository;
     private final MatronProfileRepository matronProfileRepository;
     private final MotherProfileRepository motherProfileRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final UserSearchIndex userSearchIndex;
+    private final MatronProfileTombstoneRepository matronProfileTombstoneRepository;
+
+    private static final int STREAM_CHUNK_SIZE = 500;
 
     public AdminUserService(UserRepository userRepository,
                            MatronProfileRepository matronProfileRepository,
-                           MotherProfileRepository motherProfileRepository) {
+                           MotherProfileRepository motherProfileRepository,
+                           EntityManager entityManager,
+                           ObjectMapper objectMapper,
+                           UserSearchIndex userSearchIndex,
+                           MatronProfileTombstoneRepository matronProfileTombstoneRepository) {
         this.userRepository = userRepository;
         this.matronProfileRepository = matronProfileRepository;
         this.motherProfileRepository = motherProfileRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.userSearchIndex = userSearchIndex;
+        this.matronProfileTombstoneRepository = matronProfileTombstoneRepository;
     }
 
+    @Transactional(readOnly = true)
+    @AnalyticsQuery
     public List<AdminUserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(userRepository.findAll());
     }
 
+    @Transactional(readOnly = true)
     public Page<AdminUserDTO> getAllUsersPaginated(Pageable pageable) {
-        return userRepository.findAll(pageable)
-            .map(this::convertToDTO);
+        return convertToDTOs(userRepository.findAll(pageable));
     }
 
+    @Transactional(readOnly = true)
     public Page<AdminUserDTO> getAllUsersPaginated(User.UserRole role, Pageable pageable) {
         if (role == null) {
             return getAllUsersPaginated(pageable);
         }
-        return userRepository.findByRole(role, pageable)
-            .map(this::convertToDTO);
+        return convertToDTOs(userRepository.findByRole(role, pageable));
     }
 
+    @Transactional(readOnly = true)
     public AdminUserDTO getUserById(Long userId) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -60,55 +93,144 @@ public class AdminUserService {
     }
 
     private AdminUserDTO convertToDTO(User user) {
+        MotherProfile motherProfile = user.getRole() == User.UserRole.MOTHER
+            ? motherProfileRepository.findByUserId(user.getId()).orElse(null) : null;
+        MatronProfile matronProfile = user.getRole() == User.UserRole.MATRON
+            ? matronProfileRepository.findByUserId(user.getId()).orElse(null) : null;
+        return convertToDTO(user, motherProfile, matronProfile);
+    }
+
+    /**
+     * Convert a page of users, loading their mother and matron profiles with one query each
+     */
+    private Page<AdminUserDTO> convertToDTOs(Page<User> users) {
+        return new PageImpl<>(convertToDTOs(users.getContent()), users.getPageable(), users.getTotalElements());
+    }
+
+    private List<AdminUserDTO> convertToDTOs(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = users.stream().map(User::getId).collect(Collectors.toList());
+        Map<Long, MotherProfile> motherProfiles = motherProfileRepository.findByUserIdIn(userIds).stream()
+            .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity()));
+        Map<Long, MatronProfile> matronProfiles = matronProfileRepository.findByUserIdIn(userIds).stream()
+            .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity()));
+        return users.stream()
+            .map(user -> convertToDTO(user, motherProfiles.get(user.getId()), matronProfiles.get(user.getId())))
+            .collect(Collectors.toList());
+    }
+
+    private AdminUserDTO convertToDTO(User user, MotherProfile motherProfile, MatronProfile matronProfile) {
         AdminUserDTO dto = new AdminUserDTO(user);
 
-        // Load mother profile data if user is a MOTHER
-        if (user.getRole() == User.UserRole.MOTHER) {
-            motherProfileRepository.findByUserId(user.getId()).ifPresent(profile -> {
-                dto.setDueDate(profile.getDueDate() != null ? profile.getDueDate().atStartOfDay() : null);
-                dto.setBabyBirthDate(profile.getBabyBirthDate() != null ? profile.getBabyBirthDate().atStartOfDay() : null);
-                dto.setAddress(profile.getAddress());
-                dto.setSpecialNeeds(profile.getSpecialNeeds());
-            });
+        // Mother profile data if user is a MOTHER
+        if (user.getRole() == User.UserRole.MOTHER && motherProfile != null) {
+            dto.setDueDate(motherProfile.getDueDate() != null ? motherProfile.getDueDate().atStartOfDay() : null);
+            dto.setBabyBirthDate(motherProfile.getBabyBirthDate() != null ? motherProfile.getBabyBirthDate().atStartOfDay() : null);
+            dto.setAddress(motherProfile.getAddress());
+            dto.setSpecialNeeds(motherProfile.getSpecialNeeds());
         }
 
-        // Load matron profile data if user is a MATRON
-        if (user.getRole() == User.UserRole.MATRON) {
-            matronProfileRepository.findByUserId(user.getId()).ifPresent(profile -> {
-                dto.setExperienceYears(profile.getYearsOfExperience());
-                dto.setServiceArea(profile.getLocation());
-                dto.setPriceRange(profile.getPricePerMonth() != null ? String.valueOf(profile.getPricePerMonth()) : null);
-                dto.setBio(profile.getBio());
-            });
+        // Matron profile data if user is a MATRON
+        if (user.getRole() == User.UserRole.MATRON && matronProfile != null) {
+            dto.setExperienceYears(matronProfile.getYearsOfExperience());
+            dto.setServiceArea(matronProfile.getLocation());
+            dto.setPriceRange(matronProfile.getPricePerMonth() != null ? String.valueOf(matronProfile.getPricePerMonth()) : null);
+            dto.setBio(matronProfile.getBio());
         }
 
         return dto;
     }
 
+    @Transactional(readOnly = true)
     public List<AdminUserDTO> getUsersByRole(User.UserRole role) {
-        return userRepository.findByRole(role).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(userRepository.findByRole(role));
     }
 
-    public List<AdminUserDTO> getMothers() {
-        return getUsersByRole(User.UserRole.MOTHER);
+    @Transactional(readOnly = true)
+    public Page<AdminUserDTO> getMothers(Pageable pageable) {
+        return convertToDTOs(userRepository.findByRole(User.UserRole.MOTHER, pageable));
     }
 
-    public List<AdminUserDTO> getMatrons() {
-        return getUsersByRole(User.UserRole.MATRON);
+    @Transactional(readOnly = true)
+    public Page<AdminUserDTO> getMatrons(Pageable pageable) {
+        return convertToDTOs(userRepository.findByRole(User.UserRole.MATRON, pageable));
     }
 
-    public List<AdminUserDTO> searchUsersByName(String name) {
-        return userRepository.findByNameContainingIgnoreCase(name).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AdminUserDTO> searchUsersByName(String name, Pageable pageable) {
+        return convertToDTOs(userRepository.findByNameContainingIgnoreCase(name, pageable));
     }
 
-    public List<AdminUserDTO> searchUsersByPhone(String phone) {
-        return userRepository.findByPhoneContaining(phone).stream()
-            .map(this::convertToDTO)
+    @Transactional(readOnly = true)
+    public Page<AdminUserDTO> searchUsersByPhone(String phone, Pageable pageable) {
+        return convertToDTOs(userRepository.findByPhoneContaining(phone, pageable));
+    }
+
+    /**
+     * Typo-tolerant name search, or phone suffix search for digit queries, ranked by the
+     * in-memory index. Falls back to a substring search until the index has loaded.
+     */
+    @Transactional(readOnly = true)
+    public Page<AdminUserDTO> fuzzySearchUsers(String query, User.UserRole role, Pageable pageable) {
+        if (!userSearchIndex.isLoaded()) {
+            return searchUsersByName(query, pageable);
+        }
+        Page<Long> ids = userSearchIndex.search(query, role, pageable);
+        Map<Long, User> users = userRepository.findAllById(ids.getContent()).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<User> ranked = ids.getContent().stream()
+            .map(users::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
+        return new PageImpl<>(convertToDTOs(ranked), pageable, ids.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamUsersByRole(User.UserRole role, OutputStream out) throws IOException {
+        try (Stream<User> users = userRepository.streamByRoleOrderByIdAsc(role)) {
+            writeJsonArray(users, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamUsersByName(String name, OutputStream out) throws IOException {
+        try (Stream<User> users = userRepository.streamByNameContainingIgnoreCaseOrderByIdAsc(name)) {
+            writeJsonArray(users, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamUsersByPhone(String phone, OutputStream out) throws IOException {
+        try (Stream<User> users = userRepository.streamByPhoneContainingOrderByIdAsc(phone)) {
+            writeJsonArray(users, out);
+        }
+    }
+
+    /**
+     * Write users as a JSON array straight from the cursor. Each chunk's profiles are loaded
+     * in one query, written and flushed, then detached, so memory stays flat however many
+     * users match. An error after the first flush leaves the client with a truncated array.
+     */
+    private void writeJsonArray(Stream<User> users, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            List<User> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                    for (AdminUserDTO dto : convertToDTOs(chunk)) {
+                        generator.writeObject(dto);
+                    }
+                    generator.flush();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+        }
     }
 
     @Transactional
@@ -120,30 +242,39 @@ public class AdminUserService {
         if (user.getRole() == User.UserRole.MOTHER) {
             motherProfileRepository.findByUserId(userId).ifPresent(motherProfileRepository::delete);
         } else if (user.getRole() == User.UserRole.MATRON) {
-            matronProfileRepository.findByUserId(userId).ifPresent(matronProfileRepository::delete);
+            matronProfileRepository.findByUserId(userId).ifPresent(profile -> {
+                matronProfileTombstoneRepository.save(new MatronProfileTombstone(profile.getId()));
+                matronProfileRepository.delete(profile);
+            });
         }
 
         userRepository.deleteById(userId);
     }
 
+    @AnalyticsQuery
     public long getTotalUsersCount() {
         return userRepository.count();
     }
 
+    @AnalyticsQuery
     public long getMothersCount() {
         return userRepository.countByRole(User.UserRole.MOTHER);
     }
 
+    @AnalyticsQuery
     public long getMatronsCount() {
         return userRepository.countByRole(User.UserRole.MATRON);
     }
 
-    public List<MatronProfile> getAllMatronProfiles() {
-        return matronProfileRepository.findAll();
+    @Transactional(readOnly = true)
+    public Page<AdminMatronProfileSummaryDTO> getAllMatronProfiles(Pageable pageable) {
+        return matronProfileRepository.findAdminSummaries(pageable);
     }
 
-    public MatronProfile getMatronProfileById(Long profileId) {
+    @Transactional(readOnly = true)
+    public AdminMatronProfileDTO getMatronProfileById(Long profileId) {
         return matronProfileRepository.findById(profileId)
+            .map(AdminMatronProfileDTO::new)
             .orElseThrow(() -> new RuntimeException("Matron profile not found with id: " + profileId));
     }
 
@@ -272,7 +403,7 @@ public class AdminUserService {
     }
 
     @Transactional
-    public MatronProfile createMatronProfile(AdminCreateMatronProfileRequest request) {
+    public AdminMatronProfileDTO createMatronProfile(AdminCreateMatronProfileRequest request) {
         // Verify user exists and is a MATRON
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new RuntimeException("User not found with id: " + request.getUserId()));
@@ -295,11 +426,11 @@ public class AdminUserService {
         profile.setBio(request.getBio());
         profile.setIsAvailable(request.getAvailable() != null ? request.getAvailable() : true);
 
-        return matronProfileRepository.save(profile);
+        return new AdminMatronProfileDTO(matronProfileRepository.save(profile));
     }
 
     @Transactional
-    public MatronProfile createMatron(CreateMatronRequest request) {
+    public AdminMatronProfileDTO createMatron(CreateMatronRequest request) {
         // Check if email already exists
         if (request.getEmail() != null && userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already exists: " + request.getEmail());
@@ -331,6 +462,6 @@ public class AdminUserService {
         profile.setBio(request.getBio());
         profile.setIsAvailable(request.getAvailable() != null ? request.getAvailable() : true);
 
-        return matronProfileRepository.save(profile);
+        return new AdminMatronProfileDTO(matronProfileRepository.save(profile));
     }
 }
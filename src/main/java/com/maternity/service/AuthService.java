@@ -88,9 +88,10 @@ public class AuthService {
                     return createUserFromWeChat(weChatUserInfo, request.getRole());
                 });
 
-        // Step 3: Update user info from WeChat (in case nickname or avatar changed)
-        updateUserFromWeChat(user, weChatUserInfo);
-        user = userRepository.save(user);
+        // Step 3: Update user info from WeChat, only writing the row if nickname, avatar or unionId changed
+        if (updateUserFromWeChat(user, weChatUserInfo)) {
+            user = userRepository.save(user);
+        }
 
         // Step 4: Generate JWT token using WeChat OpenID as identifier
         String token = jwtTokenProvider.generateToken(user.getWechatOpenId());
@@ -123,19 +124,29 @@ public class AuthService {
         return userRepository.save(user);
     }
 
-    private void updateUserFromWeChat(User user, WeChatUserInfo weChatUserInfo) {
+    private boolean updateUserFromWeChat(User user, WeChatUserInfo weChatUserInfo) {
+        boolean changed = false;
+
         // Update nickname and avatar if changed
-        if (weChatUserInfo.getNickname() != null) {
+        if (weChatUserInfo.getNickname() != null
+                && !weChatUserInfo.getNickname().equals(user.getWechatNickname())) {
             user.setWechatNickname(weChatUserInfo.getNickname());
             user.setName(weChatUserInfo.getNickname());
+            changed = true;
         }
-        if (weChatUserInfo.getAvatarUrl() != null) {
+        if (weChatUserInfo.getAvatarUrl() != null
+                && !weChatUserInfo.getAvatarUrl().equals(user.getWechatAvatarUrl())) {
             user.setWechatAvatarUrl(weChatUserInfo.getAvatarUrl());
             user.setAvatar(weChatUserInfo.getAvatarUrl());
+            changed = true;
         }
-        if (weChatUserInfo.getUnionId() != null) {
+        if (weChatUserInfo.getUnionId() != null
+                && !weChatUserInfo.getUnionId().equals(user.getWechatUnionId())) {
             user.setWechatUnionId(weChatUserInfo.getUnionId());
+            changed = true;
         }
+
+        return changed;
     }
 
     /**
@@ -152,7 +163,8 @@ public class AuthService {
         // Send code
         String code = verificationCodeService.sendCode(request.getCountryCode(), request.getPhoneNumber());
 
-        log.info("✅ Verification code sent successfully: {}", code);
+        log.info("✅ Verification code sent successfully");
+        log.debug("Verification code for {} {}: {}", request.getCountryCode(), request.getPhoneNumber(), code);
         return new PhoneSendCodeResponse(true, "Verification code sent successfully", 300);
     }
 
@@ -161,8 +173,7 @@ public class AuthService {
      */
     @Transactional
     public AuthResponse verifyPhoneAndLogin(PhoneVerifyRequest request) {
-        log.info("📱 Verifying phone {} {} with code {}",
-                 request.getCountryCode(), request.getPhoneNumber(), request.getVerificationCode());
+        log.info("📱 Verifying phone {} {}", request.getCountryCode(), request.getPhoneNumber());
 
         // Verify code
         boolean isValid = verificationCodeService.verifyCode(
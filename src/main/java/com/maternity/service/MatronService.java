@@ -1,9 +1,22 @@
 package com.maternity.service;
 
+import com.maternity.catalog.MatronGeoIndex;
+import com.maternity.catalog.MatronLeaderboards;
+import com.maternity.catalog.MatronSkillFilter;
+import com.maternity.catalog.MatronTypeahead;
+import com.maternity.catalog.RegionTree;
+import com.maternity.dto.LeaderboardEntryDTO;
 import com.maternity.dto.MatronProfileDTO;
+import com.maternity.dto.NearbyMatronDTO;
+import com.maternity.dto.RegionFacetDTO;
+import com.maternity.dto.SuggestionDTO;
 import com.maternity.exception.ResourceNotFoundException;
+import com.maternity.model.GeoPoint;
 import com.maternity.model.MatronProfile;
+import com.maternity.model.MotherProfile;
+import com.maternity.model.Region;
 import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.MotherProfileRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +27,83 @@ import java.util.stream.Collectors;
 public class MatronService {
 
     private final MatronProfileRepository matronProfileRepository;
+    private final MatronTypeahead matronTypeahead;
+    private final MatronSkillFilter matronSkillFilter;
+    private final RegionTree regionTree;
+    private final MatronGeoIndex matronGeoIndex;
+    private final MatronLeaderboards matronLeaderboards;
+    private final MotherProfileRepository motherProfileRepository;
 
-    public MatronService(MatronProfileRepository matronProfileRepository) {
+    public MatronService(MatronProfileRepository matronProfileRepository, MatronTypeahead matronTypeahead,
+                         MatronSkillFilter matronSkillFilter, RegionTree regionTree,
+                         MatronGeoIndex matronGeoIndex, MatronLeaderboards matronLeaderboards,
+                         MotherProfileRepository motherProfileRepository) {
         this.matronProfileRepository = matronProfileRepository;
+        this.matronTypeahead = matronTypeahead;
+        this.matronSkillFilter = matronSkillFilter;
+        this.regionTree = regionTree;
+        this.matronGeoIndex = matronGeoIndex;
+        this.matronLeaderboards = matronLeaderboards;
+        this.motherProfileRepository = motherProfileRepository;
+    }
+
+    /**
+     * Matrons near the given coordinates, or near the place named by near
+     */
+    public List<NearbyMatronDTO> findNearby(Double latitude, Double longitude, String near, double radiusKm,
+                                            Double minPrice, Double maxPrice, Boolean available, int limit) {
+        try {
+            GeoPoint point = MatronGeoIndex.searchPoint(latitude, longitude, near);
+            return matronGeoIndex.nearby(point.getLatitude(), point.getLongitude(), radiusKm,
+                    minPrice, maxPrice, available, limit);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * Matrons near a mother's address
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyMatronDTO> findNearbyForMother(Long userId, double radiusKm, Double minPrice,
+                                                     Double maxPrice, Boolean available, int limit) {
+        MotherProfile profile = motherProfileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Mother profile not found"));
+        if (profile.getCoordinates() == null) {
+            throw new RuntimeException("The address on the mother profile does not name a known city or district");
+        }
+        return findNearby(profile.getCoordinates().getLatitude(), profile.getCoordinates().getLongitude(), null,
+                radiusKm, minPrice, maxPrice, available, limit);
+    }
+
+    public List<LeaderboardEntryDTO> getTopMatrons(String by, String province, String city, int limit) {
+        MatronLeaderboards.Ranking ranking;
+        try {
+            ranking = MatronLeaderboards.Ranking.fromName(by);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("by must be rating, experience or value");
+        }
+        return matronLeaderboards.top(ranking, province, city, limit);
+    }
+
+    public RegionFacetDTO getRegionFacets(String province, String city) {
+        return regionTree.facets(province, city)
+                .orElseThrow(() -> new ResourceNotFoundException("No matrons in region: "
+                        + (province != null ? province : "") + (city != null ? " / " + city : "")));
+    }
+
+    public List<MatronProfileDTO> filterBySkills(List<String> skills, List<String> certifications) {
+        return matronSkillFilter.filter(skills, certifications);
+    }
+
+    public List<SuggestionDTO> suggest(String field, String prefix, int limit) {
+        MatronTypeahead.Field typeaheadField;
+        try {
+            typeaheadField = MatronTypeahead.Field.fromName(field);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("field must be location or skill");
+        }
+        return matronTypeahead.suggest(typeaheadField, prefix, Math.max(1, Math.min(limit, MatronTypeahead.MAX_SUGGESTIONS)));
     }
 
     @Transactional(readOnly = true)
@@ -47,6 +134,14 @@ public class MatronService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<MatronProfileDTO> filterByRegion(String province, String city, String district) {
+        Region region = Region.of(province, city, district);
+        return matronProfileRepository.findByRegion(region.getProvince(), region.getCity(), region.getDistrict()).stream()
+                .map(MatronProfileDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<MatronProfileDTO> filterByPriceRange(Double minPrice, Double maxPrice) {
         return matronProfileRepository.findByPriceRange(minPrice, maxPrice).stream()
@@ -0,0 +1,121 @@
+package com.maternity.service;
+
+import com.maternity.dto.MatronChangesDTO;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.event.ChangeVersionTracker;
+import com.maternity.model.MatronProfile;
+import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.MatronProfileTombstoneRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Catalog changes since a client's last sync, by the change versions V10 keeps on matron
+ * profiles, their users and the tombstones of deleted profiles.
+ *
+ * Versions are taken when a row is written, not when it commits, so the watermark is held
+ * below any version a concurrent writer may still commit (see {@link ChangeVersionTracker});
+ * changes above it are served again on the next sync.
+ */
+@Service
+public class MatronSyncService {
+
+    public static final int MAX_CHANGES = 1000;
+
+    private final MatronProfileRepository matronProfileRepository;
+    private final MatronProfileTombstoneRepository tombstoneRepository;
+    private final ChangeVersionTracker changeVersionTracker;
+
+    public MatronSyncService(MatronProfileRepository matronProfileRepository,
+                             MatronProfileTombstoneRepository tombstoneRepository,
+                             ChangeVersionTracker changeVersionTracker) {
+        this.matronProfileRepository = matronProfileRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeVersionTracker = changeVersionTracker;
+    }
+
+    /**
+     * Runs on the primary: a lagging replica would miss commits the tracker counts as done.
+     *
+     * @param since watermark of the previous sync, 0 for everything
+     * @throws IllegalArgumentException if since is negative
+     */
+    @Transactional
+    public MatronChangesDTO getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        int max = Math.max(1, Math.min(limit, MAX_CHANGES));
+        Pageable page = PageRequest.of(0, max);
+
+        ChangeVersionTracker.Read read = changeVersionTracker.openRead();
+        List<Object[]> profiles = matronProfileRepository.findChangeVersionsSince(since, page);
+        List<Object[]> userChanges = matronProfileRepository.findUserChangeVersionsSince(since, page);
+        // A client syncing from scratch has nothing to delete
+        List<Object[]> tombstones = since == 0
+                ? List.of() : tombstoneRepository.findChangeVersionsSince(since, page);
+        long uncommitted = read.finish();
+
+        // Each source is read in version order, so it is complete up to its last version unless
+        // it filled the page; the response covers everything up to the lowest such cut-off
+        long cutOff = Long.MAX_VALUE;
+        if (profiles.size() == max) {
+            cutOff = column(profiles.get(max - 1), 1);
+        }
+        if (userChanges.size() == max) {
+            cutOff = Math.min(cutOff, column(userChanges.get(max - 1), 2));
+        }
+        if (tombstones.size() == max) {
+            cutOff = Math.min(cutOff, column(tombstones.get(max - 1), 1));
+        }
+        // Nothing at or above a version that may still commit; the client asks again later
+        long bound = Math.min(cutOff, uncommitted - 1);
+        boolean hasMore = cutOff != Long.MAX_VALUE && cutOff == bound;
+
+        long highest = since;
+        long seen = since;
+        Map<Long, Long> updated = new HashMap<>();
+        for (List<Object[]> source : List.of(profiles, userChanges)) {
+            for (Object[] row : source) {
+                long version = Math.max(column(row, 1), column(row, 2));
+                seen = Math.max(seen, version);
+                if (version <= bound) {
+                    updated.merge(column(row, 0), version, Math::max);
+                    highest = Math.max(highest, version);
+                }
+            }
+        }
+        List<Long> deleted = new ArrayList<>();
+        for (Object[] row : tombstones) {
+            long version = column(row, 1);
+            seen = Math.max(seen, version);
+            if (version <= bound) {
+                deleted.add(column(row, 0));
+                highest = Math.max(highest, version);
+            }
+        }
+        changeVersionTracker.versionTaken(seen);
+
+        List<MatronProfile> matrons = updated.isEmpty()
+                ? List.of() : matronProfileRepository.findWithUserByIdIn(updated.keySet());
+        return new MatronChangesDTO(hasMore ? cutOff : highest,
+                matrons.stream()
+                        .sorted(Comparator.comparingLong(matron -> updated.get(matron.getId())))
+                        .map(MatronProfileDTO::fromEntity)
+                        .collect(Collectors.toList()),
+                deleted, hasMore);
+    }
+
+    private static long column(Object[] row, int index) {
+        return ((Number) row[index]).longValue();
+    }
+}
@@ -0,0 +1,258 @@
+package com.maternity.service;
+
+import com.maternity.catalog.MatronCatalogListener;
+import com.maternity.catalog.MatronRecommender;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.dto.RecommendedMatronDTO;
+import com.maternity.event.EntityChangeEvent;
+import com.maternity.exception.ResourceNotFoundException;
+import com.maternity.model.GeoPoint;
+import com.maternity.model.MotherProfile;
+import com.maternity.repository.MotherProfileRepository;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Order(1)
+public class RecommendationService implements MatronCatalogListener {
+
+    private static final int CACHE_MAX_ENTRIES = 10000;
+
+    private final MatronRecommender matronRecommender;
+    private final MotherProfileRepository motherProfileRepository;
+
+    // Full recommendation lists by user id and budget, least recently used evicted first.
+    // Dropped when the mother's profile changes, when a matron in the list changes, and at
+    // midnight, as the day a mother needs a matron from may move with it. Whether a changed
+    // matron would now enter a list is checked when the list is next read
+    private final Map<String, CachedRecommendations> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedRecommendations> eldest) {
+            if (size() > CACHE_MAX_ENTRIES) {
+                unindex(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+    // Keys of the cached lists by the matrons in them and by mother profile, so a change drops
+    // its lists without scanning the cache; guarded by the cache's monitor
+    private final Map<Long, Set<String>> keysByMatron = new HashMap<>();
+    private final Map<Long, Set<String>> keysByMotherProfile = new HashMap<>();
+
+    private static class CachedRecommendations {
+        final Long motherProfileId;
+        final String preferences;
+        final GeoPoint home;
+        final LocalDate needFrom;
+        final Double budget;
+        final LocalDate computedOn;
+        final long skillsVersion;
+        // Recommender version the list is known to be current at
+        final long version;
+        final List<RecommendedMatronDTO> matrons;
+        final Set<Long> matronIds;
+
+        CachedRecommendations(Long motherProfileId, String preferences, GeoPoint home, LocalDate needFrom, Double budget,
+                              LocalDate computedOn, long skillsVersion, long version, List<RecommendedMatronDTO> matrons) {
+            this.motherProfileId = motherProfileId;
+            this.preferences = preferences;
+            this.home = home;
+            this.needFrom = needFrom;
+            this.budget = budget;
+            this.computedOn = computedOn;
+            this.skillsVersion = skillsVersion;
+            this.version = version;
+            this.matrons = matrons;
+            this.matronIds = matrons.stream().map(recommended -> recommended.getMatron().getId()).collect(Collectors.toSet());
+        }
+
+        CachedRecommendations checkedAt(long version) {
+            return new CachedRecommendations(motherProfileId, preferences, home, needFrom, budget, computedOn,
+                    skillsVersion, version, matrons);
+        }
+
+        /**
+         * Whether a matron scoring this could displace the last one; ties count, so a rounded
+         * score never keeps a list that might have changed
+         */
+        boolean admits(double score) {
+            return matrons.size() < MatronRecommender.MAX_RESULTS
+                    || score >= matrons.get(matrons.size() - 1).getScore();
+        }
+    }
+
+    public RecommendationService(MatronRecommender matronRecommender,
+                                 MotherProfileRepository motherProfileRepository) {
+        this.matronRecommender = matronRecommender;
+        this.motherProfileRepository = motherProfileRepository;
+    }
+
+    /**
+     * Matrons best matching a mother's special needs, preferences, address and due date
+     *
+     * @param budget monthly budget, or null to favour cheaper matrons
+     */
+    public List<RecommendedMatronDTO> recommendForMother(Long userId, Double budget, int limit) {
+        if (budget != null && budget <= 0) {
+            throw new RuntimeException("budget must be positive");
+        }
+
+        String key = userId + ":" + budget;
+        LocalDate today = LocalDate.now();
+        CachedRecommendations cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null && cached.computedOn.equals(today)
+                && cached.skillsVersion == matronRecommender.getSkillsVersion()) {
+            cached = revalidate(key, cached);
+        } else {
+            cached = null;
+        }
+        if (cached == null) {
+            MotherProfile profile = motherProfileRepository.findByUserId(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Mother profile not found"));
+            // Read before the scan: a matron changing during it is checked on the next read
+            long version = matronRecommender.getVersion();
+            String preferences = preferences(profile);
+            LocalDate needFrom = needFrom(profile, today);
+            cached = new CachedRecommendations(profile.getId(), preferences, profile.getCoordinates(), needFrom, budget,
+                    today, matronRecommender.getSkillsVersion(), version, matronRecommender.recommend(
+                    preferences, profile.getCoordinates(), needFrom, budget, MatronRecommender.MAX_RESULTS));
+            synchronized (cache) {
+                CachedRecommendations replaced = cache.put(key, cached);
+                if (replaced != null) {
+                    unindex(key, replaced);
+                }
+                index(key, cached);
+            }
+        }
+
+        List<RecommendedMatronDTO> matrons = cached.matrons;
+        return matrons.subList(0, Math.min(matrons.size(), Math.max(1, limit)));
+    }
+
+    /**
+     * The cached list, if none of the matrons changed since it was last checked is in it or
+     * would now enter it; otherwise null
+     */
+    private CachedRecommendations revalidate(String key, CachedRecommendations cached) {
+        long version = matronRecommender.getVersion();
+        if (cached.version == version) {
+            return cached;
+        }
+        Optional<Set<Long>> changed = matronRecommender.changedSince(cached.version);
+        if (changed.isEmpty() || changed.get().stream().anyMatch(matronId -> cached.matronIds.contains(matronId)
+                || wouldEnter(cached, matronId))) {
+            return null;
+        }
+        CachedRecommendations checked = cached.checkedAt(version);
+        synchronized (cache) {
+            cache.replace(key, cached, checked);
+        }
+        return checked;
+    }
+
+    private boolean wouldEnter(CachedRecommendations cached, Long matronId) {
+        OptionalDouble score = matronRecommender.score(cached.preferences, cached.home, cached.needFrom,
+                cached.budget, matronId);
+        return score.isPresent() && cached.admits(score.getAsDouble());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        if (event.isFor(MotherProfile.class)) {
+            synchronized (cache) {
+                removeAll(keysByMotherProfile.get(event.getEntityId()));
+            }
+        }
+    }
+
+    @Override
+    public void onCatalogLoaded(Collection<MatronProfileDTO> matrons) {
+        synchronized (cache) {
+            cache.clear();
+            keysByMatron.clear();
+            keysByMotherProfile.clear();
+        }
+    }
+
+    @Override
+    public void onMatronUpdated(MatronProfileDTO previous, MatronProfileDTO current) {
+        synchronized (cache) {
+            removeAll(keysByMatron.get(current.getId()));
+        }
+    }
+
+    @Override
+    public void onMatronRemoved(MatronProfileDTO previous) {
+        synchronized (cache) {
+            removeAll(keysByMatron.get(previous.getId()));
+        }
+    }
+
+    /**
+     * Called holding the cache's monitor
+     */
+    private void removeAll(Set<String> keys) {
+        if (keys == null) {
+            return;
+        }
+        for (String key : new ArrayList<>(keys)) {
+            CachedRecommendations removed = cache.remove(key);
+            if (removed != null) {
+                unindex(key, removed);
+            }
+        }
+    }
+
+    private void index(String key, CachedRecommendations entry) {
+        entry.matronIds.forEach(matronId -> keysByMatron.computeIfAbsent(matronId, id -> new HashSet<>()).add(key));
+        keysByMotherProfile.computeIfAbsent(entry.motherProfileId, id -> new HashSet<>()).add(key);
+    }
+
+    private void unindex(String key, CachedRecommendations entry) {
+        entry.matronIds.forEach(matronId -> removeKey(keysByMatron, matronId, key));
+        removeKey(keysByMotherProfile, entry.motherProfileId, key);
+    }
+
+    private static void removeKey(Map<Long, Set<String>> index, Long id, String key) {
+        Set<String> keys = index.get(id);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                index.remove(id);
+            }
+        }
+    }
+
+    private static String preferences(MotherProfile profile) {
+        return (profile.getSpecialNeeds() != null ? profile.getSpecialNeeds() : "") + " "
+                + (profile.getPreferredMatronType() != null ? profile.getPreferredMatronType() : "");
+    }
+
+    /**
+     * The due date while still expecting, otherwise today
+     */
+    private static LocalDate needFrom(MotherProfile profile, LocalDate today) {
+        if (profile.getBabyBirthDate() == null && profile.getDueDate() != null && profile.getDueDate().isAfter(today)) {
+            return profile.getDueDate();
+        }
+        return today;
+    }
+}
@@ -0,0 +1,117 @@
+package com.maternity.service;
+
+import com.maternity.catalog.MatronCatalog;
+import com.maternity.dto.SavedSearchDTO;
+import com.maternity.dto.SavedSearchRequest;
+import com.maternity.dto.SearchAlertDTO;
+import com.maternity.exception.ResourceNotFoundException;
+import com.maternity.model.Region;
+import com.maternity.model.SavedSearch;
+import com.maternity.model.User;
+import com.maternity.repository.SavedSearchRepository;
+import com.maternity.repository.SearchAlertRepository;
+import com.maternity.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class SavedSearchService {
+
+    private static final int MAX_SEARCHES_PER_USER = 20;
+    private static final int MAX_ALERTS = 100;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SearchAlertRepository searchAlertRepository;
+    private final UserRepository userRepository;
+    private final SkillDictionaryService skillDictionaryService;
+    private final MatronCatalog matronCatalog;
+
+    public SavedSearchService(SavedSearchRepository savedSearchRepository, SearchAlertRepository searchAlertRepository,
+                              UserRepository userRepository, SkillDictionaryService skillDictionaryService,
+                              MatronCatalog matronCatalog) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.searchAlertRepository = searchAlertRepository;
+        this.userRepository = userRepository;
+        this.skillDictionaryService = skillDictionaryService;
+        this.matronCatalog = matronCatalog;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchDTO> getSavedSearches(Long userId) {
+        return savedSearchRepository.findByUserIdOrderByCreatedAt(userId).stream()
+                .map(SavedSearchDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Save a search; alerts follow for matrons that start matching it from now on
+     */
+    @Transactional
+    public SavedSearchDTO createSavedSearch(Long userId, SavedSearchRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (user.getRole() != User.UserRole.MOTHER) {
+            throw new RuntimeException("User is not a mother");
+        }
+        if (request.getCity() != null && request.getProvince() == null) {
+            throw new RuntimeException("city requires province");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new RuntimeException("minPrice must not exceed maxPrice");
+        }
+        if (savedSearchRepository.countByUserId(userId) >= MAX_SEARCHES_PER_USER) {
+            throw new RuntimeException("At most " + MAX_SEARCHES_PER_USER + " saved searches are allowed");
+        }
+
+        SavedSearch search = new SavedSearch();
+        search.setUser(user);
+        search.setName(request.getName());
+        // Stored the way matron locations are, so either script matches
+        Region region = Region.of(request.getProvince(), request.getCity(), null);
+        search.setProvince(region.getProvince());
+        search.setCity(region.getCity());
+        search.setMinPrice(request.getMinPrice());
+        search.setMaxPrice(request.getMaxPrice());
+        // Only skills in the dictionary: searches must not grow it, and unknown names are rejected
+        search.setSkills(skillDictionaryService.findSkills(
+                request.getSkills() != null ? request.getSkills() : List.of()));
+        search.setAvailableBy(request.getAvailableBy());
+        return SavedSearchDTO.fromEntity(savedSearchRepository.save(search));
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long userId, Long searchId) {
+        SavedSearch search = savedSearchRepository.findById(searchId)
+                .filter(found -> found.getUser().getId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found"));
+        savedSearchRepository.delete(search);
+    }
+
+    /**
+     * Newest alerts first
+     */
+    @Transactional(readOnly = true)
+    public List<SearchAlertDTO> getAlerts(Long userId, int limit) {
+        return searchAlertRepository.findByUserId(userId, PageRequest.of(0, Math.max(1, Math.min(limit, MAX_ALERTS))))
+                .stream()
+                .map(alert -> new SearchAlertDTO(
+                        alert.getId(),
+                        alert.getSavedSearch().getId(),
+                        alert.getSavedSearch().getName(),
+                        matronCatalog.getById(alert.getMatronProfile().getId()).orElse(null),
+                        alert.getCreatedAt(),
+                        alert.getReadAt() != null))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void markAlertsRead(Long userId) {
+        searchAlertRepository.markAllRead(userId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,133 @@
+package com.maternity.service;
+
+import com.maternity.model.Certification;
+import com.maternity.model.DictionaryTerm;
+import com.maternity.model.Skill;
+import com.maternity.repository.CertificationRepository;
+import com.maternity.repository.SkillRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Turns free-text skill and certification names into dictionary entries, creating the
+ * entries that do not exist yet.
+ */
+@Service
+public class SkillDictionaryService {
+
+    private final SkillRepository skillRepository;
+    private final CertificationRepository certificationRepository;
+    private final TransactionTemplate insertTransaction;
+
+    public SkillDictionaryService(SkillRepository skillRepository, CertificationRepository certificationRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.skillRepository = skillRepository;
+        this.certificationRepository = certificationRepository;
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        // A unique key violation would otherwise mark the caller's transaction rollback-only
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return one entry per distinct name, in the order the names were given; blank names are skipped
+     */
+    @Transactional
+    public Set<Skill> resolveSkills(Collection<String> names) {
+        return resolve(names, skillRepository::findByNormalizedNameIn, Skill::new, skillRepository);
+    }
+
+    /**
+     * Existing skills only, for criteria that should not grow the dictionary
+     *
+     * @return one entry per distinct name, in the order the names were given; blank names are skipped
+     * @throws RuntimeException naming the skills that are not in the dictionary
+     */
+    @Transactional(readOnly = true)
+    public Set<Skill> findSkills(Collection<String> names) {
+        Map<String, String> wanted = byNormalizedName(names);
+        if (wanted.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
+        Map<String, Skill> existing = skillRepository.findByNormalizedNameIn(wanted.keySet()).stream()
+                .collect(Collectors.toMap(DictionaryTerm::getNormalizedName, Function.identity()));
+        List<String> unknown = wanted.entrySet().stream()
+                .filter(entry -> !existing.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        if (!unknown.isEmpty()) {
+            throw new RuntimeException("Unknown skills: " + String.join(", ", unknown));
+        }
+        Set<Skill> skills = new LinkedHashSet<>();
+        wanted.keySet().forEach(normalized -> skills.add(existing.get(normalized)));
+        return skills;
+    }
+
+    @Transactional
+    public Set<Certification> resolveCertifications(Collection<String> names) {
+        return resolve(names, certificationRepository::findByNormalizedNameIn, Certification::new,
+                certificationRepository);
+    }
+
+    private <T extends DictionaryTerm> Set<T> resolve(Collection<String> names,
+                                                      Function<Collection<String>, List<T>> findByNormalizedNames,
+                                                      Function<String, T> create,
+                                                      JpaRepository<T, Integer> repository) {
+        Map<String, String> wanted = byNormalizedName(names);
+        if (wanted.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
+        Map<String, T> existing = findByNormalizedNames.apply(wanted.keySet()).stream()
+                .collect(Collectors.toMap(DictionaryTerm::getNormalizedName, Function.identity()));
+        Set<T> terms = new LinkedHashSet<>();
+        wanted.forEach((normalized, name) -> terms.add(existing.computeIfAbsent(normalized,
+                key -> insert(name, normalized, findByNormalizedNames, create, repository))));
+        return terms;
+    }
+
+    /**
+     * Store a new entry in its own transaction, or read the one another transaction stored
+     * under the same normalized name since it was looked up
+     */
+    private <T extends DictionaryTerm> T insert(String name, String normalized,
+                                                Function<Collection<String>, List<T>> findByNormalizedNames,
+                                                Function<String, T> create,
+                                                JpaRepository<T, Integer> repository) {
+        try {
+            insertTransaction.executeWithoutResult(status -> repository.saveAndFlush(create.apply(name)));
+        } catch (DataIntegrityViolationException e) {
+            // Lost the race on the normalized name's unique key; the winner's entry is read below
+        }
+        return findByNormalizedNames.apply(List.of(normalized)).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Dictionary entry not found after insert: " + name));
+    }
+
+    /**
+     * Normalized name -> first spelling given, without blank names
+     */
+    private static Map<String, String> byNormalizedName(Collection<String> names) {
+        Map<String, String> wanted = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                wanted.putIfAbsent(DictionaryTerm.normalize(name), name);
+            }
+        }
+        return wanted;
+    }
+}
@@ -29,15 +29,18 @@ public class UserProfileService {
     private final MotherProfileRepository motherProfileRepository;
     private final MatronProfileRepository matronProfileRepository;
     private final ObjectMapper objectMapper;
+    private final SkillDictionaryService skillDictionaryService;
 
     public UserProfileService(UserRepository userRepository,
                              MotherProfileRepository motherProfileRepository,
                              MatronProfileRepository matronProfileRepository,
-                             ObjectMapper objectMapper) {
+                             ObjectMapper objectMapper,
+                             SkillDictionaryService skillDictionaryService) {
         this.userRepository = userRepository;
         this.motherProfileRepository = motherProfileRepository;
         this.matronProfileRepository = matronProfileRepository;
         this.objectMapper = objectMapper;
+        this.skillDictionaryService = skillDictionaryService;
     }
 
     @Transactional
@@ -107,7 +110,7 @@ public class UserProfileService {
             profile.setYearsOfExperience(request.getExperienceYears());
         }
         if (request.getCertificates() != null && !request.getCertificates().isEmpty()) {
-            profile.setCertifications(request.getCertificates());
+            profile.setCertifications(skillDictionaryService.resolveCertifications(request.getCertificates()));
         }
         if (request.getServiceArea() != null) {
             profile.setLocation(request.getServiceArea());
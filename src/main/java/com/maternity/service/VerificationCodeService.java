@@ -39,7 +39,7 @@ public class VerificationCodeService {
     /**
      * Generate a 6-digit verification code
      */
-    private String generateCode() {
+    protected String generateCode() {
         Random random = new Random();
         int code = 100000 + random.nextInt(900000);
         return String.valueOf(code);
@@ -82,12 +82,11 @@ public class VerificationCodeService {
         codeStore.put(key, new CodeEntry(code, expiresAt));
         rateLimitStore.put(key, LocalDateTime.now());
 
-        log.info("📱 Verification code generated for {}: {} (expires at: {})",
-                 key, code, expiresAt);
+        log.info("📱 Verification code generated for {} (expires at: {})", key, expiresAt);
 
         // In production, send SMS here
-        // For development, we'll just log it
-        log.info("🔔 SMS would be sent to {} {} with code: {}", countryCode, phoneNumber, code);
+        // For development, we'll just log it; never at INFO, where production logs would hold live codes
+        log.debug("🔔 SMS would be sent to {} {} with code: {}", countryCode, phoneNumber, code);
 
         return code;
     }
@@ -9,6 +9,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Service
 public class WeChatAuthService {
 
@@ -25,6 +29,33 @@ public class WeChatAuthService {
     private static final String ACCESS_TOKEN_URL = "https://api.weixin.qq.com/sns/oauth2/access_token";
     private static final String USER_INFO_URL = "https://api.weixin.qq.com/sns/userinfo";
 
+    private static final int USER_INFO_CACHE_MAX_ENTRIES = 10000;
+
+    // Cache WeChat user info by openId so repeat logins can skip the userinfo call; entries
+    // expire after the TTL, and the least recently used one goes first when the cache is full.
+    // Expired entries are dropped when read, and swept out on a write at most once a minute
+    private final Map<String, CachedUserInfo> userInfoCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedUserInfo> eldest) {
+            return size() > USER_INFO_CACHE_MAX_ENTRIES;
+        }
+    };
+
+    @Value("${wechat.user-info-cache-ttl-minutes:30}")
+    private long userInfoCacheTtlMinutes;
+
+    private LocalDateTime nextUserInfoSweep = LocalDateTime.MIN;
+
+    private static class CachedUserInfo {
+        WeChatUserInfo userInfo;
+        LocalDateTime expiresAt;
+
+        CachedUserInfo(WeChatUserInfo userInfo, LocalDateTime expiresAt) {
+            this.userInfo = userInfo;
+            this.expiresAt = expiresAt;
+        }
+    }
+
     public WeChatAuthService(WebClient.Builder webClientBuilder) {
         this.webClient = webClientBuilder.build();
     }
@@ -104,15 +135,60 @@ public class WeChatAuthService {
             throw new RuntimeException("Failed to get access token from WeChat");
         }
 
-        // Step 2: Get user info using access token
-        WeChatUserInfo userInfo = getUserInfo(tokenResponse.getAccessToken(), tokenResponse.getOpenId());
+        // Step 2: Reuse cached user info if still fresh, otherwise fetch it with the access token
+        WeChatUserInfo userInfo = getCachedUserInfo(tokenResponse.getOpenId());
+        if (userInfo == null) {
+            userInfo = getUserInfo(tokenResponse.getAccessToken(), tokenResponse.getOpenId());
+            cacheUserInfo(tokenResponse.getOpenId(), userInfo);
+        } else {
+            log.debug("Using cached WeChat user info for openId: {}", tokenResponse.getOpenId());
+        }
 
-        // Set unionId from token response if not already set
+        // Set unionId from token response if not already set, on a copy so the cached entry stays as fetched
         if (userInfo.getUnionId() == null && tokenResponse.getUnionId() != null) {
+            userInfo = new WeChatUserInfo(userInfo);
             userInfo.setUnionId(tokenResponse.getUnionId());
         }
 
         log.info("WeChat authentication successful for openId: {}", userInfo.getOpenId());
         return userInfo;
     }
+
+    /**
+     * Get cached user info for an openId, or null if absent or expired
+     */
+    private WeChatUserInfo getCachedUserInfo(String openId) {
+        if (openId == null) {
+            return null;
+        }
+
+        synchronized (userInfoCache) {
+            CachedUserInfo entry = userInfoCache.get(openId);
+            if (entry == null) {
+                return null;
+            }
+
+            if (LocalDateTime.now().isAfter(entry.expiresAt)) {
+                userInfoCache.remove(openId);
+                return null;
+            }
+
+            return entry.userInfo;
+        }
+    }
+
+    private void cacheUserInfo(String openId, WeChatUserInfo userInfo) {
+        if (openId == null || userInfoCacheTtlMinutes <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (userInfoCache) {
+            if (now.isAfter(nextUserInfoSweep)) {
+                userInfoCache.values().removeIf(entry -> now.isAfter(entry.expiresAt));
+                nextUserInfoSweep = now.plusMinutes(1);
+            }
+            userInfoCache.put(openId, new CachedUserInfo(userInfo, now.plusMinutes(userInfoCacheTtlMinutes)));
+        }
+    }
 }
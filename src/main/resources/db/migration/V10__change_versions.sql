@@ -0,0 +1,29 @@
+-- Catalog change versions for delta sync (GET /api/matrons/changes).
+-- Every insert or update of a matron profile, or of a user (a matron's name and avatar live
+-- there), takes the next value of one sequence, so versions increase across both tables.
+-- Deleted profiles leave a tombstone numbered from the same sequence.
+
+create sequence if not exists change_versions_seq start with 1 increment by 1;
+
+alter table matron_profiles add column change_version bigint
+    default next value for change_versions_seq on update next value for change_versions_seq;
+alter table users add column change_version bigint
+    default next value for change_versions_seq on update next value for change_versions_seq;
+
+update matron_profiles set change_version = next value for change_versions_seq;
+update users set change_version = next value for change_versions_seq;
+
+alter table matron_profiles alter column change_version set not null;
+alter table users alter column change_version set not null;
+
+create table matron_profile_tombstones (
+    matron_profile_id bigint not null,
+    change_version bigint default next value for change_versions_seq not null,
+    deleted_at timestamp(6) not null,
+    primary key (matron_profile_id)
+);
+
+-- MatronSyncService: changes since a version
+create index idx_matron_profiles_change_version on matron_profiles (change_version);
+create index idx_users_change_version on users (change_version);
+create index idx_matron_profile_tombstones_change_version on matron_profile_tombstones (change_version);
@@ -0,0 +1,9 @@
+-- Admin paging lists orders and users newest first (ORDER BY created_at DESC). H2 does not
+-- scan an index backwards, so the ascending V3 indexes left both listings sorting the whole
+-- table for every page (see RepositoryIndexUsageTest).
+
+drop index idx_orders_created_at;
+create index idx_orders_created_at on orders (created_at desc);
+
+drop index idx_users_created_at;
+create index idx_users_created_at on users (created_at desc);
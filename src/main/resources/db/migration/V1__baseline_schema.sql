@@ -0,0 +1,131 @@
+-- Baseline schema, as generated by Hibernate for the entity model (H2).
+-- Production databases created earlier by ddl-auto=update are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and pick up from V2.
+
+create sequence admins_seq start with 1 increment by 50;
+create sequence users_seq start with 1 increment by 50;
+create sequence matron_profiles_seq start with 1 increment by 50;
+create sequence mother_profiles_seq start with 1 increment by 50;
+create sequence work_experiences_seq start with 1 increment by 50;
+create sequence orders_seq start with 1 increment by 50;
+create sequence reviews_seq start with 1 increment by 50;
+
+create table admins (
+    id bigint not null,
+    username varchar(255) not null unique,
+    password varchar(255) not null,
+    email varchar(255) unique,
+    name varchar(255) not null,
+    role varchar(255) not null check (role in ('ADMIN','SUPER_ADMIN')),
+    enabled boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    last_login_at timestamp(6),
+    primary key (id)
+);
+
+create table users (
+    id bigint not null,
+    name varchar(255) not null,
+    email varchar(255) unique,
+    password varchar(255),
+    phone varchar(255),
+    avatar varchar(255),
+    wechat_open_id varchar(255) unique,
+    wechat_union_id varchar(255),
+    wechat_nickname varchar(255),
+    wechat_avatar_url varchar(255),
+    profile_completed boolean not null,
+    role varchar(255) not null check (role in ('MOTHER','MATRON')),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table matron_profiles (
+    id bigint not null,
+    user_id bigint not null unique,
+    age integer not null,
+    years_of_experience integer not null,
+    price_per_month float(53) not null,
+    location varchar(255) not null,
+    bio varchar(1000),
+    rating float(53) not null,
+    review_count integer not null,
+    is_available boolean not null,
+    available_from date,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table matron_skills (
+    matron_id bigint not null,
+    skill varchar(255)
+);
+
+create table matron_certifications (
+    matron_id bigint not null,
+    certification varchar(255)
+);
+
+create table work_experiences (
+    id bigint not null,
+    matron_profile_id bigint not null,
+    client_name varchar(255) not null,
+    start_date date not null,
+    end_date date not null,
+    description varchar(500),
+    primary key (id)
+);
+
+create table mother_profiles (
+    id bigint not null,
+    user_id bigint not null unique,
+    due_date date,
+    baby_birth_date date,
+    address varchar(255),
+    special_needs varchar(1000),
+    number_of_children integer,
+    preferred_matron_type varchar(500),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table orders (
+    id bigint not null,
+    mother_id bigint not null,
+    matron_profile_id bigint not null,
+    start_date date not null,
+    end_date date not null,
+    total_price float(53) not null,
+    status varchar(255) not null check (status in ('PENDING','CONFIRMED','IN_PROGRESS','COMPLETED','CANCELLED')),
+    address varchar(255),
+    notes varchar(1000),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    confirmed_at timestamp(6),
+    completed_at timestamp(6),
+    primary key (id)
+);
+
+create table reviews (
+    id bigint not null,
+    matron_profile_id bigint not null,
+    user_id bigint not null,
+    rating float(53) not null,
+    comment varchar(1000) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+alter table matron_profiles add constraint fk_matron_profiles_user foreign key (user_id) references users;
+alter table matron_skills add constraint fk_matron_skills_matron foreign key (matron_id) references matron_profiles;
+alter table matron_certifications add constraint fk_matron_certifications_matron foreign key (matron_id) references matron_profiles;
+alter table work_experiences add constraint fk_work_experiences_matron foreign key (matron_profile_id) references matron_profiles;
+alter table mother_profiles add constraint fk_mother_profiles_user foreign key (user_id) references users;
+alter table orders add constraint fk_orders_mother foreign key (mother_id) references users;
+alter table orders add constraint fk_orders_matron foreign key (matron_profile_id) references matron_profiles;
+alter table reviews add constraint fk_reviews_matron foreign key (matron_profile_id) references matron_profiles;
+alter table reviews add constraint fk_reviews_user foreign key (user_id) references users;
@@ -0,0 +1,11 @@
+-- Id sequences for pooled allocation (allocationSize 50).
+-- Already created by V1 on new databases; baselined production databases that predate
+-- sequence ids get them here. IdSequenceAligner moves them past existing ids on startup.
+
+create sequence if not exists admins_seq start with 1 increment by 50;
+create sequence if not exists users_seq start with 1 increment by 50;
+create sequence if not exists matron_profiles_seq start with 1 increment by 50;
+create sequence if not exists mother_profiles_seq start with 1 increment by 50;
+create sequence if not exists work_experiences_seq start with 1 increment by 50;
+create sequence if not exists orders_seq start with 1 increment by 50;
+create sequence if not exists reviews_seq start with 1 increment by 50;
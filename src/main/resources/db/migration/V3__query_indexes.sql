@@ -0,0 +1,30 @@
+-- Secondary indexes, one per repository query predicate (see RepositoryIndexUsageTest).
+-- Foreign key columns already get an index from H2 when the constraint is created (V1), which
+-- covers ReviewRepository.findByMatronProfileId / findByUserId, OrderRepository.findByMotherId /
+-- findByMatronProfileId and the skill, certification and work experience collection loads.
+-- Not indexable: LIKE '%...%' searches on matron_profiles.location, users.name and users.phone
+-- (served by the in-memory catalog), and findMothersWithBabies (baby_birth_date IS NOT NULL
+-- matches most rows, a scan is cheaper).
+
+-- OrderRepository: findByMotherIdAndStatus
+create index idx_orders_mother_status on orders (mother_id, status);
+-- OrderRepository: findByMatronProfileIdAndStatus
+create index idx_orders_matron_status on orders (matron_profile_id, status);
+-- OrderRepository: findByStatus, countByStatus
+create index idx_orders_status on orders (status);
+-- Admin order paging (ORDER BY created_at DESC)
+create index idx_orders_created_at on orders (created_at);
+
+-- UserRepository: findByRole (paged by created_at), countByRole
+create index idx_users_role_created_at on users (role, created_at);
+-- UserRepository: findByPhone (login, phone verification)
+create index idx_users_phone on users (phone);
+-- Admin user paging (ORDER BY created_at DESC)
+create index idx_users_created_at on users (created_at);
+
+-- MatronProfileRepository: findByIsAvailable, findByPriceRange
+create index idx_matron_profiles_available on matron_profiles (is_available);
+create index idx_matron_profiles_price on matron_profiles (price_per_month);
+
+-- MotherProfileRepository: findExpectingMothers
+create index idx_mother_profiles_due_date on mother_profiles (due_date);
@@ -0,0 +1,71 @@
+-- Skill and certification dictionaries. Each distinct name is stored once and matron profiles
+-- reference it by id. Names that differ only in case or spacing ("Newborn Care", "newborn  care")
+-- become one entry; normalized_name matches DictionaryTerm.normalize.
+
+create sequence if not exists skills_seq start with 1 increment by 50;
+create sequence if not exists certifications_seq start with 1 increment by 50;
+
+create table skills (
+    id integer not null,
+    name varchar(255) not null,
+    normalized_name varchar(255) not null,
+    primary key (id)
+);
+
+create table certifications (
+    id integer not null,
+    name varchar(255) not null,
+    normalized_name varchar(255) not null,
+    primary key (id)
+);
+
+alter table skills add constraint uk_skills_normalized_name unique (normalized_name);
+alter table certifications add constraint uk_certifications_normalized_name unique (normalized_name);
+
+create table matron_profile_skills (
+    matron_id bigint not null,
+    skill_id integer not null,
+    primary key (matron_id, skill_id)
+);
+
+create table matron_profile_certifications (
+    matron_id bigint not null,
+    certification_id integer not null,
+    primary key (matron_id, certification_id)
+);
+
+alter table matron_profile_skills add constraint fk_matron_profile_skills_matron foreign key (matron_id) references matron_profiles;
+alter table matron_profile_skills add constraint fk_matron_profile_skills_skill foreign key (skill_id) references skills;
+alter table matron_profile_certifications add constraint fk_matron_profile_certifications_matron foreign key (matron_id) references matron_profiles;
+alter table matron_profile_certifications add constraint fk_matron_profile_certifications_certification foreign key (certification_id) references certifications;
+
+-- Backfill from the free-text tables. Each entry keeps the alphabetically first spelling
+-- (capitalized before lower case); IdSequenceAligner moves the sequences past these ids.
+insert into skills (id, name, normalized_name)
+select row_number() over (order by normalized_name), name, normalized_name
+from (select lower(regexp_replace(trim(skill), '\s+', ' ')) as normalized_name,
+             min(regexp_replace(trim(skill), '\s+', ' ')) as name
+      from matron_skills
+      where skill is not null and trim(skill) <> ''
+      group by lower(regexp_replace(trim(skill), '\s+', ' '))) distinct_skills;
+
+insert into certifications (id, name, normalized_name)
+select row_number() over (order by normalized_name), name, normalized_name
+from (select lower(regexp_replace(trim(certification), '\s+', ' ')) as normalized_name,
+             min(regexp_replace(trim(certification), '\s+', ' ')) as name
+      from matron_certifications
+      where certification is not null and trim(certification) <> ''
+      group by lower(regexp_replace(trim(certification), '\s+', ' '))) distinct_certifications;
+
+insert into matron_profile_skills (matron_id, skill_id)
+select distinct ms.matron_id, s.id
+from matron_skills ms
+join skills s on s.normalized_name = lower(regexp_replace(trim(ms.skill), '\s+', ' '));
+
+insert into matron_profile_certifications (matron_id, certification_id)
+select distinct mc.matron_id, c.id
+from matron_certifications mc
+join certifications c on c.normalized_name = lower(regexp_replace(trim(mc.certification), '\s+', ' '));
+
+drop table matron_skills;
+drop table matron_certifications;
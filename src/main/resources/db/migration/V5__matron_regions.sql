@@ -0,0 +1,9 @@
+-- Province, city and district parsed from matron_profiles.location (see Region). Existing rows
+-- are filled in by MatronRegionBackfillMigration (V6), which reuses the Java parser.
+
+alter table matron_profiles add column province varchar(255);
+alter table matron_profiles add column city varchar(255);
+alter table matron_profiles add column district varchar(255);
+
+-- MatronProfileRepository: findByRegion (province, optionally city and district)
+create index idx_matron_profiles_region on matron_profiles (province, city, district);
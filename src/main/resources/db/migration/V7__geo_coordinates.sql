@@ -0,0 +1,9 @@
+-- Approximate coordinates of matron locations and mother addresses (see DistrictGazetteer).
+-- Existing rows are filled in by GeoCoordinatesBackfillMigration (V8). Radius searches run on
+-- the in-memory geohash index, so the columns are not indexed.
+
+alter table matron_profiles add column latitude double precision;
+alter table matron_profiles add column longitude double precision;
+
+alter table mother_profiles add column latitude double precision;
+alter table mother_profiles add column longitude double precision;
@@ -0,0 +1,40 @@
+-- Saved matron searches of mothers, and the alerts queued when a matron starts matching one.
+-- Searches go with their user, and alerts with their search or matron profile, when those
+-- are deleted. Lookups by user go through the foreign key indexes (see RepositoryIndexUsageTest).
+
+create sequence if not exists saved_searches_seq start with 1 increment by 50;
+create sequence if not exists search_alerts_seq start with 1 increment by 50;
+
+create table saved_searches (
+    id bigint not null,
+    user_id bigint not null,
+    name varchar(100) not null,
+    province varchar(255),
+    city varchar(255),
+    min_price float(53),
+    max_price float(53),
+    available_by date,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table saved_search_skills (
+    saved_search_id bigint not null,
+    skill_id integer not null,
+    primary key (saved_search_id, skill_id)
+);
+
+create table search_alerts (
+    id bigint not null,
+    saved_search_id bigint not null,
+    matron_profile_id bigint not null,
+    created_at timestamp(6) not null,
+    read_at timestamp(6),
+    primary key (id)
+);
+
+alter table saved_searches add constraint fk_saved_searches_user foreign key (user_id) references users on delete cascade;
+alter table saved_search_skills add constraint fk_saved_search_skills_search foreign key (saved_search_id) references saved_searches on delete cascade;
+alter table saved_search_skills add constraint fk_saved_search_skills_skill foreign key (skill_id) references skills;
+alter table search_alerts add constraint fk_search_alerts_search foreign key (saved_search_id) references saved_searches on delete cascade;
+alter table search_alerts add constraint fk_search_alerts_matron foreign key (matron_profile_id) references matron_profiles on delete cascade;
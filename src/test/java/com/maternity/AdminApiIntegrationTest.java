@@ -3,18 +3,24 @@ package com.maternity;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.maternity.dto.AdminLoginRequest;
 import com.maternity.dto.AuthResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+@Import(IsolatedSecondLevelCacheConfig.class)
 @SpringBootTest
 @AutoConfigureMockMvc
 public class AdminApiIntegrationTest {
@@ -25,6 +31,9 @@ public class AdminApiIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private String adminToken;
 
     @BeforeEach
@@ -113,7 +122,7 @@ public class AdminApiIntegrationTest {
         mockMvc.perform(get("/api/admin/users/mothers")
                 .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray());
     }
 
     @Test
@@ -121,7 +130,70 @@ public class AdminApiIntegrationTest {
         mockMvc.perform(get("/api/admin/users/matrons")
                 .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray());
+    }
+
+    @Test
+    public void testFuzzySearchUsers() throws Exception {
+        mockMvc.perform(get("/api/admin/users/search/fuzzy")
+                .param("q", "zhang wie")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Zhang Wei"));
+
+        mockMvc.perform(get("/api/admin/users/search/fuzzy")
+                .param("q", "9003")
+                .param("role", "MATRON")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].phone").value("13900139003"));
+
+        // A wrong middle character leaves no bigram of a three-character name, only its skip-gram
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"王小明\", \"email\": \"wang.xiaoming@test.com\", " +
+                                "\"password\": \"password\", \"role\": \"MOTHER\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/users/search/fuzzy")
+                .param("q", "王晓明")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("王小明"));
+    }
+
+    @Test
+    public void testGlobalSearch() throws Exception {
+        mockMvc.perform(get("/api/admin/search")
+                .param("q", "Zhang Wei")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partial").value(false))
+                .andExpect(jsonPath("$.users[0].name").value("Zhang Wei"))
+                .andExpect(jsonPath("$.matrons[0].name").value("Zhang Wei"));
+
+        mockMvc.perform(get("/api/admin/search")
+                .param("q", "1")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id").value(1));
+    }
+
+    @Test
+    public void testStreamMatrons() throws Exception {
+        MvcResult stats = mockMvc.perform(get("/api/admin/users/stats")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        int totalMatrons = objectMapper.readTree(stats.getResponse().getContentAsString())
+                .get("totalMatrons").asInt();
+
+        mockMvc.perform(get("/api/admin/users/matrons/stream")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(totalMatrons))
+                .andExpect(jsonPath("$[0].role").value("MATRON"));
     }
 
     @Test
@@ -152,7 +224,33 @@ public class AdminApiIntegrationTest {
                 .header("Authorization", "Bearer " + adminToken)
                 .param("name", "Demo"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray());
+    }
+
+    @Test
+    public void testSqlCountHeaderAndServiceMetrics() throws Exception {
+        mockMvc.perform(get("/api/admin/users/1")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-SQL-Count"));
+
+        assertNotNull(meterRegistry.find("service.method").tag("class", "AdminUserService").timer());
+        assertNotNull(meterRegistry.find("http.server.requests.sql").summary());
+        assertTrue(meterRegistry.find("http.server.requests.connection.hold").timer().count() > 0);
+    }
+
+    @Test
+    public void testSecondLevelCacheHitsAreCountedPerRegion() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/admin/users/1")
+                    .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk());
+        }
+
+        FunctionCounter userHits = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", "user").tag("result", "hit").functionCounter();
+        assertNotNull(userHits);
+        assertTrue(userHits.count() > 0);
     }
 
     @Test
@@ -161,11 +259,39 @@ public class AdminApiIntegrationTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    public void testMetricsNeedAdminOnApplicationPort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testGetAllMatronProfiles() throws Exception {
         mockMvc.perform(get("/api/admin/users/matron-profiles")
                 .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray());
+
+        // Listings carry the summary projection only; collections stay on the detail endpoint
+        mockMvc.perform(get("/api/admin/matron-profiles")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").exists())
+                .andExpect(jsonPath("$.content[0].skills").doesNotExist());
+
+        // Serialized after the transaction ends, so lazy collections must already be in the DTO
+        mockMvc.perform(get("/api/admin/matron-profiles/1")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").exists())
+                .andExpect(jsonPath("$.skills").isArray())
+                .andExpect(jsonPath("$.user").doesNotExist());
     }
 }
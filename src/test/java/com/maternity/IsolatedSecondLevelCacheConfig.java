@@ -0,0 +1,34 @@
+package com.maternity;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URISyntaxException;
+
+/**
+ * Gives each test application context a second-level cache manager of its own. The JCache
+ * provider keeps one manager per configuration URI and class loader, so contexts on different
+ * in-memory databases would otherwise share cached rows and read each other's entities by id.
+ */
+@TestConfiguration
+public class IsolatedSecondLevelCacheConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer isolatedSecondLevelCache() {
+        return properties -> {
+            ClassLoader parent = IsolatedSecondLevelCacheConfig.class.getClassLoader();
+            CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+            try {
+                // The provider looks managers up by class loader, so a new loader gets a new manager
+                properties.put("hibernate.javax.cache.cache_manager", provider.getCacheManager(
+                        parent.getResource("ehcache.xml").toURI(), new ClassLoader(parent) { }));
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,640 @@
+package com.maternity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maternity.catalog.ReactiveCatalogServer;
+import com.maternity.catalog.SavedSearchPercolator;
+import com.maternity.dto.AdminLoginRequest;
+import com.maternity.dto.AuthResponse;
+import com.maternity.model.MatronProfile;
+import com.maternity.model.Skill;
+import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.SkillRepository;
+import com.maternity.service.SkillDictionaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Import(IsolatedSecondLevelCacheConfig.class)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalogtest",
+        "catalog.reactive.enabled=true",
+        "catalog.reactive.port=0"
+})
+@AutoConfigureMockMvc
+public class ReactiveMatronCatalogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReactiveCatalogServer reactiveCatalogServer;
+
+    @Autowired
+    private MatronProfileRepository matronProfileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SavedSearchPercolator savedSearchPercolator;
+
+    @Autowired
+    private SkillDictionaryService skillDictionaryService;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void setup() {
+        webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveCatalogServer.getPort())
+                .build();
+    }
+
+    @Test
+    public void testReactiveRoutesMatchServletJson() throws Exception {
+        for (String path : new String[]{"/api/matrons", "/api/matrons/1", "/api/matrons/available",
+                "/api/matrons/search?location=Beijing", "/api/matrons/filter/price?minPrice=12000&maxPrice=14000",
+                "/api/matrons/suggest?q=bei", "/api/matrons/suggest?q=care&field=skill",
+                "/api/matrons/filter/skills?skills=newborn care,Baby Massage&certifications=CERTIFIED MATERNITY NURSE",
+                "/api/matrons/filter/region?province=Beijing", "/api/matrons/regions",
+                "/api/matrons/regions?province=Beijing&city=Beijing",
+                "/api/matrons/nearby?near=Beijing&radiusKm=30", "/api/matrons/nearby?lat=22.54&lng=114.05&radiusKm=50",
+                "/api/matrons/top", "/api/matrons/top?by=value&province=Beijing", "/api/matrons/changes"}) {
+            String servletJson = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            byte[] reactiveJson = webTestClient.get().uri(path)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().returnResult().getResponseBody();
+
+            assertEquals(objectMapper.readTree(servletJson), objectMapper.readTree(reactiveJson), path);
+        }
+    }
+
+    @Test
+    public void testFilterBySkills() {
+        // Names match across case and spacing; every listed skill and certification is required
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/matrons/filter/skills")
+                        .queryParam("skills", "NEWBORN  care")
+                        .queryParam("certifications", "Certified Maternity Nurse,pediatric first aid")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("Zhang Wei")
+                .jsonPath("$[0].skillIds").doesNotExist();
+
+        webTestClient.get().uri("/api/matrons/filter/skills?skills=Newborn Care,Underwater Basket Weaving")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    public void testRegionFacets() {
+        // "Beijing, Chaoyang District" -> Beijing / Beijing / Chaoyang; districts sort by name
+        webTestClient.get().uri("/api/matrons/regions?province=Beijing&city=Beijing")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Beijing")
+                .jsonPath("$.children[0].name").isEqualTo("Chaoyang")
+                .jsonPath("$.children[0].matronCount").isEqualTo(1)
+                .jsonPath("$.children[0].availableCount").isEqualTo(1);
+
+        webTestClient.get().uri("/api/matrons/filter/region?province=Guangdong&city=Shenzhen&district=Nanshan")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("Chen Xiu");
+
+        // Chinese names find the same regions as English ones
+        webTestClient.get().uri("/api/matrons/filter/region?province={province}&city={city}&district={district}",
+                        "广东省", "深圳市", "南山区")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("Chen Xiu");
+
+        webTestClient.get().uri("/api/matrons/regions?province=Atlantis")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testNearbyMatrons() throws Exception {
+        // Zhang Wei is placed at the Chaoyang District centroid, about 3.7 km from central Beijing
+        webTestClient.get().uri("/api/matrons/nearby?lat=39.9042&lng=116.4074&radiusKm=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].matron.name").isEqualTo("Zhang Wei")
+                .jsonPath("$[0].distanceKm").isEqualTo(3.7);
+
+        webTestClient.get().uri("/api/matrons/nearby?lat=39.9042&lng=116.4074&radiusKm=5&maxPrice=10000")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(0);
+
+        webTestClient.get().uri("/api/matrons/nearby?near=Atlantis")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        // The demo mother's address "123 Main St, Beijing" resolves to the Beijing centroid
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"mother@test.com\", \"password\": \"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readValue(login.getResponse().getContentAsString(), AuthResponse.class).getToken();
+
+        mockMvc.perform(get("/api/users/profile/mother/nearby-matrons?radiusKm=5")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].matron.name").value("Zhang Wei"));
+    }
+
+    @Test
+    public void testTopMatrons() {
+        // Li Ming's 4.9 over 78 reviews stays ahead of 4.8 over 45 once both are pulled towards the prior
+        webTestClient.get().uri("/api/matrons/top?by=rating&limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].rank").isEqualTo(1)
+                .jsonPath("$[0].matron.name").isEqualTo("Li Ming")
+                .jsonPath("$[0].score").isEqualTo(4.855);
+
+        webTestClient.get().uri("/api/matrons/top?by=experience&province=Guangdong&city=Shenzhen")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].matron.name").isEqualTo("Chen Xiu")
+                .jsonPath("$[0].score").isEqualTo(12.0);
+
+        // A city alone names no region, rather than falling back to the national board
+        webTestClient.get().uri("/api/matrons/top?by=experience&city=Shenzhen")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+
+        webTestClient.get().uri("/api/matrons/top?by=popularity")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testDeltaSync() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/admin/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AdminLoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String adminToken = objectMapper.readValue(login.getResponse().getContentAsString(), AuthResponse.class).getToken();
+
+        JsonNode full = objectMapper.readTree(mockMvc.perform(get("/api/matrons/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated.length()").value(4))
+                .andExpect(jsonPath("$.deleted.length()").value(0))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString());
+        long watermark = full.get("watermark").asLong();
+
+        // Paging one change at a time reaches every profile and the same watermark
+        Set<Long> paged = new HashSet<>();
+        long since = 0;
+        JsonNode page;
+        do {
+            page = objectMapper.readTree(mockMvc.perform(get("/api/matrons/changes?limit=1&since=" + since))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("updated").forEach(matron -> paged.add(matron.get("id").asLong()));
+            since = page.get("watermark").asLong();
+        } while (page.get("hasMore").asBoolean());
+        assertEquals(Set.of(1L, 2L, 3L, 4L), paged);
+        assertEquals(watermark, since);
+
+        MvcResult registered = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Zhou Lan\", \"email\": \"zhou@test.com\", \"password\": \"password\", " +
+                                "\"role\": \"MATRON\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        long userId = objectMapper.readTree(registered.getResponse().getContentAsString()).at("/user/id").asLong();
+        MvcResult created = mockMvc.perform(post("/api/admin/matron-profiles")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": " + userId + ", \"age\": 38, \"yearsOfExperience\": 6, \"monthlyRate\": 11000, " +
+                                "\"location\": \"Beijing, Dongcheng\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        long profileId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(put("/api/admin/matron-profiles/1")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": 3, \"bio\": \"Twins welcome\"}"))
+                .andExpect(status().isOk());
+
+        JsonNode changes = objectMapper.readTree(mockMvc.perform(get("/api/matrons/changes?since=" + watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated.length()").value(2))
+                .andExpect(jsonPath("$.updated[0].id").value(profileId))
+                .andExpect(jsonPath("$.updated[1].id").value(1))
+                .andExpect(jsonPath("$.deleted.length()").value(0))
+                .andReturn().getResponse().getContentAsString());
+        watermark = changes.get("watermark").asLong();
+
+        mockMvc.perform(delete("/api/admin/matron-profiles/" + profileId)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNoContent());
+
+        webTestClient.get().uri("/api/matrons/changes?since=" + watermark)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.updated.length()").isEqualTo(0)
+                .jsonPath("$.deleted[0]").isEqualTo(profileId);
+
+        mockMvc.perform(get("/api/matrons/changes?since=-1"))
+                .andExpect(status().isBadRequest());
+        webTestClient.get().uri("/api/matrons/changes?since=-1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testDeltaSyncWaitsForOverlappingTransactions() throws Exception {
+        long watermark = objectMapper.readTree(mockMvc.perform(get("/api/matrons/changes"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("watermark").asLong();
+
+        // The slow transaction takes its version first but commits after the fast one
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong slowVersion = new AtomicLong();
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            MatronProfile profile = matronProfileRepository.findById(3L).orElseThrow();
+            profile.setBio("Written first, committed last");
+            matronProfileRepository.saveAndFlush(profile);
+            slowVersion.set(changeVersion(3L));
+            written.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+
+        long fastVersion = transaction.execute(status -> {
+            MatronProfile profile = matronProfileRepository.findById(4L).orElseThrow();
+            profile.setBio("Written last, committed first");
+            matronProfileRepository.saveAndFlush(profile);
+            return changeVersion(4L);
+        });
+        assertTrue(fastVersion > slowVersion.get());
+
+        JsonNode during;
+        try {
+            during = objectMapper.readTree(mockMvc.perform(get("/api/matrons/changes?since=" + watermark))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasMore").value(false))
+                    .andReturn().getResponse().getContentAsString());
+        } finally {
+            release.countDown();
+        }
+        slow.get(10, TimeUnit.SECONDS);
+        assertTrue(during.get("watermark").asLong() < slowVersion.get());
+
+        // Everything held back is served on the next sync, including the fast change seen before
+        JsonNode after = objectMapper.readTree(mockMvc.perform(get("/api/matrons/changes?since=" + during.get("watermark").asLong()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        Set<Long> updated = new HashSet<>();
+        after.get("updated").forEach(matron -> updated.add(matron.get("id").asLong()));
+        assertTrue(updated.containsAll(Set.of(3L, 4L)));
+        assertTrue(after.get("watermark").asLong() >= fastVersion);
+    }
+
+    @Test
+    public void testConcurrentSkillsShareOneDictionaryEntry() throws Exception {
+        // The first transaction stores the skill but commits only after the second looked it up
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            Skill skill = skillRepository.saveAndFlush(new Skill("Triplet  care"));
+            written.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return skill.getId();
+        }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Integer> second;
+        try {
+            second = CompletableFuture.supplyAsync(() -> transaction.execute(status ->
+                    skillDictionaryService.resolveSkills(List.of("triplet care")).iterator().next().getId()));
+            Thread.sleep(200);
+        } finally {
+            release.countDown();
+        }
+        assertEquals(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRecommendationsFollowMotherProfile() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"liu@test.com\", \"password\": \"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readValue(login.getResponse().getContentAsString(), AuthResponse.class).getToken();
+
+        mockMvc.perform(get("/api/users/profile/mother/recommended-matrons")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4));
+
+        // Moving to Shenzhen and asking for traditional methods must not be answered from the cache
+        mockMvc.perform(put("/api/users/profile/mother")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"address\": \"Shenzhen, Nanshan\", \"specialNeeds\": \"Traditional methods\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/profile/mother/recommended-matrons?limit=1")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].matron.name").value("Chen Xiu"));
+
+        // A change to a recommended matron drops the cached list she is in
+        MvcResult adminLogin = mockMvc.perform(post("/api/admin/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AdminLoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String adminToken = objectMapper.readValue(adminLogin.getResponse().getContentAsString(), AuthResponse.class).getToken();
+        mockMvc.perform(put("/api/admin/matron-profiles/4")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": 6, \"bio\": \"Confinement meals a speciality\"}"))
+                .andExpect(status().isOk());
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                mockMvc.perform(get("/api/users/profile/mother/recommended-matrons?limit=1")
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].matron.bio").value("Confinement meals a speciality")));
+
+        // A new matron is not in any cached list, but enters it when the list is next read
+        MvcResult registered = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Qian Hui\", \"email\": \"qian@test.com\", \"password\": \"password\", " +
+                                "\"role\": \"MATRON\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        long matronUserId = objectMapper.readTree(registered.getResponse().getContentAsString()).at("/user/id").asLong();
+        MvcResult created = mockMvc.perform(post("/api/admin/matron-profiles")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": " + matronUserId + ", \"age\": 40, \"yearsOfExperience\": 3, " +
+                                "\"monthlyRate\": 9000, \"location\": \"Shenzhen, Futian\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        long profileId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                mockMvc.perform(get("/api/users/profile/mother/recommended-matrons")
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(jsonPath("$.length()").value(5)));
+
+        mockMvc.perform(delete("/api/admin/matron-profiles/" + profileId)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNoContent());
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                mockMvc.perform(get("/api/users/profile/mother/recommended-matrons")
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(jsonPath("$.length()").value(4)));
+
+        mockMvc.perform(get("/api/users/profile/mother/recommended-matrons?budget=-1")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testSavedSearchAlerts() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"liu@test.com\", \"password\": \"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readValue(login.getResponse().getContentAsString(), AuthResponse.class).getToken();
+        MvcResult adminLogin = mockMvc.perform(post("/api/admin/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AdminLoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String adminToken = objectMapper.readValue(adminLogin.getResponse().getContentAsString(), AuthResponse.class).getToken();
+
+        MvcResult created = mockMvc.perform(post("/api/users/saved-searches")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Shenzhen\", \"province\": \"Guangdong\", \"city\": \"Shenzhen\", " +
+                                "\"maxPrice\": 15000, \"skills\": [\"hygiene  care\"]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.skills[0]").value("Hygiene Care"))
+                .andReturn();
+        long searchId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        // Searches only use skills in the dictionary, and never add to it
+        mockMvc.perform(post("/api/users/saved-searches")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Unknown\", \"skills\": [\"Juggling\"]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/users/saved-searches")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Too long\", \"skills\": [\"" + "x".repeat(300) + "\"]}"))
+                .andExpect(status().isBadRequest());
+
+        // Chen Xiu already matches: no alert until she drops out of the price range and comes back
+        for (int monthlyRate : new int[]{16000, 14000}) {
+            mockMvc.perform(put("/api/admin/matron-profiles/4")
+                            .header("Authorization", "Bearer " + adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"userId\": 7, \"monthlyRate\": " + monthlyRate + "}"))
+                    .andExpect(status().isOk());
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                    mockMvc.perform(get("/api/matrons/4"))
+                            .andExpect(jsonPath("$.pricePerMonth").value(monthlyRate)));
+        }
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                mockMvc.perform(get("/api/users/saved-searches/alerts")
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(1))
+                        .andExpect(jsonPath("$[0].savedSearchName").value("Shenzhen"))
+                        .andExpect(jsonPath("$[0].matron.name").value("Chen Xiu"))
+                        .andExpect(jsonPath("$[0].read").value(false)));
+
+        mockMvc.perform(put("/api/users/saved-searches/alerts/read")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/users/saved-searches/alerts")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$[0].read").value(true));
+
+        mockMvc.perform(delete("/api/users/saved-searches/" + searchId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/users/saved-searches/alerts")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        // Wang Fang starts matching a search for a matron free today on her availableFrom day,
+        // without any profile write
+        created = mockMvc.perform(post("/api/users/saved-searches")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Free now\", \"skills\": null}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        searchId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        LocalDate availableFrom = LocalDate.parse(objectMapper.readTree(mockMvc.perform(get("/api/matrons/3"))
+                .andReturn().getResponse().getContentAsString()).get("availableFrom").asText());
+        savedSearchPercolator.sweepAvailability(availableFrom.minusDays(1));
+        savedSearchPercolator.sweepAvailability(availableFrom);
+
+        mockMvc.perform(get("/api/users/saved-searches/alerts")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].matron.name").value("Wang Fang"));
+        mockMvc.perform(delete("/api/users/saved-searches/" + searchId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    public void testReactiveMatronNotFound() {
+        webTestClient.get().uri("/api/matrons/999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    public void testCatalogFollowsProfileUpdates() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/admin/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AdminLoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String adminToken = objectMapper.readValue(login.getResponse().getContentAsString(), AuthResponse.class).getToken();
+
+        mockMvc.perform(put("/api/admin/matron-profiles/2")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": 4, \"location\": \"Hangzhou, Xihu District\"}"))
+                .andExpect(status().isOk());
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            byte[] body = webTestClient.get().uri("/api/matrons/2")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().returnResult().getResponseBody();
+            JsonNode matron = objectMapper.readTree(body);
+            assertEquals("Hangzhou, Xihu District", matron.get("location").asText());
+        });
+    }
+
+    @Test
+    public void testSuggestionsFollowProfileUpdates() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/admin/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AdminLoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String adminToken = objectMapper.readValue(login.getResponse().getContentAsString(), AuthResponse.class).getToken();
+
+        mockMvc.perform(put("/api/admin/matron-profiles/3")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": 5, \"location\": \"杭州市西湖区\"}"))
+                .andExpect(status().isOk());
+
+        // Hanzi, full pinyin of a later word and pinyin initials all reach the new location
+        for (String prefix : new String[]{"杭州", "西湖", "xihu", "hzs"}) {
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                    webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/matrons/suggest").queryParam("q", prefix).build())
+                            .exchange()
+                            .expectStatus().isOk()
+                            .expectBody()
+                            .jsonPath("$[0].text").isEqualTo("杭州市西湖区")
+                            .jsonPath("$[0].matronCount").isEqualTo(1));
+        }
+
+        webTestClient.get().uri("/api/matrons/suggest?q=beijing, hai")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(0);
+    }
+
+    // Not mapped on the entity; read in the writing transaction, which sees its own version
+    private long changeVersion(Long profileId) {
+        return jdbcTemplate.queryForObject("SELECT change_version FROM matron_profiles WHERE id = ?",
+                Long.class, profileId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.maternity;
+
+import com.maternity.catalog.MatronCatalog;
+import com.maternity.datasource.ReplicaMonitor;
+import com.maternity.dto.MatronProfileDTO;
+import com.maternity.model.MatronProfile;
+import com.maternity.model.User;
+import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.UserRepository;
+import com.maternity.search.UserSearchIndex;
+import com.maternity.service.AdminUserService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Read/write routing against two in-memory H2 databases. The replica gets the same schema
+ * but different rows, so each query shows which database answered it.
+ */
+@Import(IsolatedSecondLevelCacheConfig.class)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "datasource.routing.enabled=true",
+        "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.lag-query=SELECT lag_seconds FROM replica_lag",
+        "datasource.replica.max-lag-seconds=5",
+        "datasource.replica.check-interval-ms=3600000",
+        "catalog.reactive.enabled=false"
+})
+public class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    private static final String COUNT_REPLICA_USER = "SELECT COUNT(*) FROM users WHERE email = 'replica-only@example.com'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReplicaMonitor replicaMonitor;
+
+    @Autowired
+    private AdminUserService adminUserService;
+
+    @Autowired
+    private MatronProfileRepository matronProfileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MatronCatalog matronCatalog;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeAll
+    public static void createReplica() throws SQLException {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE replica_lag (lag_seconds INT)");
+            statement.execute("INSERT INTO replica_lag VALUES (0)");
+            statement.execute("INSERT INTO users (id, name, email, profile_completed, role, created_at, updated_at) " +
+                    "VALUES (900001, 'Replica Only', 'replica-only@example.com', TRUE, 'MOTHER', NOW(), NOW())");
+        }
+    }
+
+    @AfterEach
+    public void resetLag() {
+        setReplicaLag(0);
+        replicaMonitor.check();
+    }
+
+    @Test
+    public void testReadOnlyTransactionsUseReplica() {
+        assertEquals(1, countInTransaction(true));
+        assertEquals(0, countInTransaction(false));
+        assertEquals(0, jdbcTemplate.queryForObject(COUNT_REPLICA_USER, Long.class));
+    }
+
+    @Test
+    public void testLaggingReplicaFallsBackToPrimary() {
+        setReplicaLag(60);
+        replicaMonitor.check();
+
+        assertFalse(replicaMonitor.isAvailable());
+        assertEquals(0, countInTransaction(true));
+
+        setReplicaLag(0);
+        replicaMonitor.check();
+
+        assertTrue(replicaMonitor.isAvailable());
+        assertEquals(1, countInTransaction(true));
+    }
+
+    @Test
+    public void testAnalyticsQueriesUseAnalyticsPool() {
+        // The analytics pool defaults to the replica database, which holds a single user
+        assertEquals(1, adminUserService.getTotalUsersCount());
+        assertTrue(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) > 1);
+    }
+
+    @Test
+    public void testIndexesRereadChangesFromPrimary() {
+        // The replica holds no matron profiles and only one user, so a refresh that read there
+        // would drop the changed rows from the catalog and the user index
+        transactionTemplate.executeWithoutResult(status -> {
+            MatronProfile profile = matronProfileRepository.findById(1L).orElseThrow();
+            profile.setBio("Read back from the primary");
+            User user = userRepository.findById(profile.getUser().getId()).orElseThrow();
+            user.setName("Primary Reader");
+        });
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            MatronProfileDTO matron = matronCatalog.getById(1L).orElseThrow();
+            assertEquals("Read back from the primary", matron.getBio());
+            assertEquals("Primary Reader", matron.getName());
+        });
+        assertEquals(List.of(matronCatalog.getById(1L).orElseThrow().getUserId()),
+                userSearchIndex.search("Primary Reader", null, PageRequest.of(0, 10)).getContent());
+    }
+
+    private long countInTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject(COUNT_REPLICA_USER, Long.class));
+    }
+
+    private static void setReplicaLag(int seconds) {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE replica_lag SET lag_seconds = " + seconds);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.maternity;
+
+import com.maternity.model.Order;
+import com.maternity.model.User;
+import com.maternity.repository.AdminRepository;
+import com.maternity.repository.MatronProfileRepository;
+import com.maternity.repository.MatronProfileTombstoneRepository;
+import com.maternity.repository.MotherProfileRepository;
+import com.maternity.repository.OrderRepository;
+import com.maternity.repository.ReviewRepository;
+import com.maternity.repository.SavedSearchRepository;
+import com.maternity.repository.SearchAlertRepository;
+import com.maternity.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs EXPLAIN on the SQL each repository query method issues and checks that the
+ * expected index drives it: primary keys (PRIMARY_KEY_*), unique constraint indexes
+ * (CONSTRAINT_*INDEX*), the indexes H2 creates for foreign keys (FK_*) and the migration
+ * indexes (IDX_*).
+ */
+@Import(IsolatedSecondLevelCacheConfig.class)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indextest",
+        "catalog.reactive.enabled=false"
+})
+public class RepositoryIndexUsageTest {
+
+    // H2 names unique constraint indexes CONSTRAINT_INDEX_n, or CONSTRAINT_n_INDEX_m once an
+    // ALTER TABLE (V5) has rebuilt the table
+    private static final String UNIQUE_INDEX = "CONSTRAINT_\\w*INDEX";
+
+    // Primary key lookups and joins (PRIMARY_KEY_n)
+    private static final String PRIMARY_KEY = "PRIMARY_KEY_";
+
+    // Unindexable filters (LIKE '%...%') read in primary key order instead of sorting every row
+    private static final String PRIMARY_KEY_SORTED = "PRIMARY_KEY_[\\s\\S]*INDEX SORTED";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CaptureSqlConfig {
+
+        @Bean
+        @org.springframework.core.annotation.Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer captureSql() {
+            return properties -> {
+                StatementInspector delegate = (StatementInspector) properties.get("hibernate.session_factory.statement_inspector");
+                properties.put("hibernate.session_factory.statement_inspector", (StatementInspector) sql -> {
+                    STATEMENTS.add(sql);
+                    return delegate != null ? delegate.inspect(sql) : sql;
+                });
+            };
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MatronProfileRepository matronProfileRepository;
+
+    @Autowired
+    private MatronProfileTombstoneRepository matronProfileTombstoneRepository;
+
+    @Autowired
+    private MotherProfileRepository motherProfileRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    private SearchAlertRepository searchAlertRepository;
+
+    @Test
+    public void testRepositoryQueriesUseIndexes() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        Map<String, String> expectedIndexes = new LinkedHashMap<>();
+
+        expect(queries, expectedIndexes, "AdminRepository.findByUsername", UNIQUE_INDEX,
+                () -> adminRepository.findByUsername("admin"));
+        expect(queries, expectedIndexes, "AdminRepository.findByEmail", UNIQUE_INDEX,
+                () -> adminRepository.findByEmail("admin@maternity.com"));
+
+        expect(queries, expectedIndexes, "UserRepository.findByEmail", UNIQUE_INDEX,
+                () -> userRepository.findByEmail("mother@test.com"));
+        expect(queries, expectedIndexes, "UserRepository.findByWechatOpenId", UNIQUE_INDEX,
+                () -> userRepository.findByWechatOpenId("openid"));
+        expect(queries, expectedIndexes, "UserRepository.findByPhone", "IDX_USERS_PHONE",
+                () -> userRepository.findByPhone("13800138000"));
+        expect(queries, expectedIndexes, "UserRepository.findByRole", "IDX_USERS_ROLE_CREATED_AT",
+                () -> userRepository.findByRole(User.UserRole.MATRON));
+        expect(queries, expectedIndexes, "UserRepository.findByRole(Pageable)", "IDX_USERS_ROLE_CREATED_AT",
+                () -> userRepository.findByRole(User.UserRole.MATRON,
+                        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        expect(queries, expectedIndexes, "UserRepository.findAll(Pageable)", "IDX_USERS_CREATED_AT",
+                () -> userRepository.findAll(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        expect(queries, expectedIndexes, "UserRepository.countByRole", "IDX_USERS_ROLE_CREATED_AT",
+                () -> userRepository.countByRole(User.UserRole.MOTHER));
+        expect(queries, expectedIndexes, "UserRepository.streamByRoleOrderByIdAsc", "IDX_USERS_ROLE_CREATED_AT",
+                () -> consume(userRepository.streamByRoleOrderByIdAsc(User.UserRole.MOTHER)));
+        expect(queries, expectedIndexes, "UserRepository.streamByNameContainingIgnoreCaseOrderByIdAsc", PRIMARY_KEY_SORTED,
+                () -> consume(userRepository.streamByNameContainingIgnoreCaseOrderByIdAsc("zhang")));
+        expect(queries, expectedIndexes, "UserRepository.streamByPhoneContainingOrderByIdAsc", PRIMARY_KEY_SORTED,
+                () -> consume(userRepository.streamByPhoneContainingOrderByIdAsc("138")));
+        // Loads every user into the search index, so a scan is the plan
+        expect(queries, expectedIndexes, "UserRepository.findAllSearchDocuments", "USERS\\.TABLESCAN",
+                () -> userRepository.findAllSearchDocuments());
+        expect(queries, expectedIndexes, "UserRepository.findSearchDocumentById", PRIMARY_KEY,
+                () -> userRepository.findSearchDocumentById(1L));
+
+        expect(queries, expectedIndexes, "MatronProfileRepository.findByUserId", UNIQUE_INDEX,
+                () -> matronProfileRepository.findByUserId(3L));
+        expect(queries, expectedIndexes, "MatronProfileRepository.findByIsAvailable", "IDX_MATRON_PROFILES_AVAILABLE",
+                () -> matronProfileRepository.findByIsAvailable(true));
+        expect(queries, expectedIndexes, "MatronProfileRepository.findByRegion", "IDX_MATRON_PROFILES_REGION",
+                () -> matronProfileRepository.findByRegion("Beijing", "Beijing", null));
+        expect(queries, expectedIndexes, "MatronProfileRepository.findByPriceRange", "IDX_MATRON_PROFILES_PRICE",
+                () -> matronProfileRepository.findByPriceRange(12000.0, 13000.0));
+        expect(queries, expectedIndexes, "MatronProfileRepository.findByUserIdIn", UNIQUE_INDEX,
+                () -> matronProfileRepository.findByUserIdIn(List.of(3L, 4L)));
+        // Pages the whole table; the user of each row is joined by primary key
+        expect(queries, expectedIndexes, "MatronProfileRepository.findAdminSummaries", PRIMARY_KEY,
+                () -> matronProfileRepository.findAdminSummaries(
+                        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"))));
+        expect(queries, expectedIndexes, "MatronProfileRepository.findChangeVersionsSince", "IDX_MATRON_PROFILES_CHANGE_VERSION",
+                () -> matronProfileRepository.findChangeVersionsSince(0L, PageRequest.of(0, 500)));
+        expect(queries, expectedIndexes, "MatronProfileRepository.findUserChangeVersionsSince", "IDX_USERS_CHANGE_VERSION",
+                () -> matronProfileRepository.findUserChangeVersionsSince(0L, PageRequest.of(0, 500)));
+        expect(queries, expectedIndexes, "MatronProfileRepository.findWithUserByIdIn", "PRIMARY_KEY",
+                () -> matronProfileRepository.findWithUserByIdIn(List.of(1L, 2L)));
+        expect(queries, expectedIndexes, "MatronProfileTombstoneRepository.findChangeVersionsSince",
+                "IDX_MATRON_PROFILE_TOMBSTONES_CHANGE_VERSION",
+                () -> matronProfileTombstoneRepository.findChangeVersionsSince(0L, PageRequest.of(0, 500)));
+
+        expect(queries, expectedIndexes, "MotherProfileRepository.findByUserId", UNIQUE_INDEX,
+                () -> motherProfileRepository.findByUserId(1L));
+        expect(queries, expectedIndexes, "MotherProfileRepository.findExpectingMothers", "IDX_MOTHER_PROFILES_DUE_DATE",
+                () -> motherProfileRepository.findExpectingMothers(LocalDate.now()));
+        expect(queries, expectedIndexes, "MotherProfileRepository.findByUserIdIn", UNIQUE_INDEX,
+                () -> motherProfileRepository.findByUserIdIn(List.of(1L, 2L)));
+
+        expect(queries, expectedIndexes, "OrderRepository.findByMotherId", "FK_ORDERS_MOTHER",
+                () -> orderRepository.findByMotherId(1L));
+        expect(queries, expectedIndexes, "OrderRepository.findByMotherIdAndStatus", "IDX_ORDERS_MOTHER_STATUS",
+                () -> orderRepository.findByMotherIdAndStatus(1L, Order.OrderStatus.CONFIRMED));
+        expect(queries, expectedIndexes, "OrderRepository.findByMatronProfileId", "FK_ORDERS_MATRON",
+                () -> orderRepository.findByMatronProfileId(1L));
+        expect(queries, expectedIndexes, "OrderRepository.findByMatronProfileIdAndStatus", "IDX_ORDERS_MATRON_STATUS",
+                () -> orderRepository.findByMatronProfileIdAndStatus(1L, Order.OrderStatus.CONFIRMED));
+        expect(queries, expectedIndexes, "OrderRepository.findByStatus", "IDX_ORDERS_STATUS",
+                () -> orderRepository.findByStatus(Order.OrderStatus.PENDING));
+        expect(queries, expectedIndexes, "OrderRepository.countByStatus", "IDX_ORDERS_STATUS",
+                () -> orderRepository.countByStatus(Order.OrderStatus.PENDING));
+        expect(queries, expectedIndexes, "OrderRepository.findAll(Pageable)", "IDX_ORDERS_CREATED_AT",
+                () -> orderRepository.findAll(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        expect(queries, expectedIndexes, "OrderRepository.findByStatus(Pageable)", "IDX_ORDERS_STATUS",
+                () -> orderRepository.findByStatus(Order.OrderStatus.PENDING,
+                        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        expect(queries, expectedIndexes, "OrderRepository.findByMotherId(Pageable)", "FK_ORDERS_MOTHER",
+                () -> orderRepository.findByMotherId(1L,
+                        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        expect(queries, expectedIndexes, "OrderRepository.findByMotherIdIn", "FK_ORDERS_MOTHER",
+                () -> orderRepository.findByMotherIdIn(List.of(1L, 2L),
+                        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        expect(queries, expectedIndexes, "ReviewRepository.findByMatronProfileId", "FK_REVIEWS_MATRON",
+                () -> reviewRepository.findByMatronProfileId(1L));
+        expect(queries, expectedIndexes, "ReviewRepository.findByUserId", "FK_REVIEWS_USER",
+                () -> reviewRepository.findByUserId(1L));
+
+        expect(queries, expectedIndexes, "SavedSearchRepository.findByUserIdOrderByCreatedAt", "FK_SAVED_SEARCHES_USER",
+                () -> savedSearchRepository.findByUserIdOrderByCreatedAt(1L));
+        expect(queries, expectedIndexes, "SavedSearchRepository.findAllWithSkills", PRIMARY_KEY,
+                () -> savedSearchRepository.findAllWithSkills());
+        expect(queries, expectedIndexes, "SavedSearchRepository.findByIdWithSkills", PRIMARY_KEY,
+                () -> savedSearchRepository.findByIdWithSkills(1L));
+        expect(queries, expectedIndexes, "SearchAlertRepository.findByUserId", "FK_SEARCH_ALERTS_SEARCH",
+                () -> searchAlertRepository.findByUserId(1L, PageRequest.of(0, 20)));
+
+        List<String> failures = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            String sql = captureFirstSelect(name, query);
+            String plan = explain(sql);
+            if (!Pattern.compile(expectedIndexes.get(name)).matcher(plan.toUpperCase()).find()) {
+                failures.add(name + " does not use " + expectedIndexes.get(name) + ":\n" + plan);
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            fail(String.join("\n\n", failures));
+        }
+    }
+
+    private static void expect(Map<String, Runnable> queries, Map<String, String> expectedIndexes,
+                               String name, String index, Runnable query) {
+        queries.put(name, query);
+        expectedIndexes.put(name, index);
+    }
+
+    // Streams run their query on the first row pulled
+    private static void consume(Stream<?> stream) {
+        try (stream) {
+            stream.findFirst();
+        }
+    }
+
+    private String captureFirstSelect(String name, Runnable query) {
+        STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> query.run());
+        String sql = STATEMENTS.stream()
+                .filter(statement -> statement.trim().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElse(null);
+        assertTrue(sql != null, "No SELECT captured for " + name);
+        return sql;
+    }
+
+    /**
+     * EXPLAIN with every parameter bound to NULL: H2 picks the plan at prepare time,
+     * so the bound values do not change it.
+     */
+    private String explain(String sql) {
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        List<String> plan = jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+            for (int i = 1; i <= parameters; i++) {
+                ps.setNull(i, java.sql.Types.NULL);
+            }
+        }, (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", plan);
+    }
+}
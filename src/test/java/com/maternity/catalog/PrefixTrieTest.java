@@ -0,0 +1,68 @@
+package com.maternity.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PrefixTrieTest {
+
+    private static final int MAX_RANKED = 3;
+
+    @Test
+    public void testRankedListsFollowCountChanges() {
+        Map<String, Integer> counts = new HashMap<>();
+        Comparator<String> ranking = Comparator.comparing((String term) -> counts.get(term)).reversed()
+                .thenComparing(Comparator.naturalOrder());
+        PrefixTrie trie = new PrefixTrie(MAX_RANKED, ranking);
+        // Each term is stored under itself and its last two characters, so terms share keys and subtrees
+        List<String> terms = List.of("a", "ab", "abc", "abd", "b", "bab", "bc", "cab", "cabd", "dab");
+        Random random = new Random(7);
+
+        for (int step = 0; step < 5000; step++) {
+            String term = terms.get(random.nextInt(terms.size()));
+            int before = counts.getOrDefault(term, 0);
+            int after = Math.max(0, before + random.nextInt(5) - 2);
+            if (after == before) {
+                continue;
+            }
+            if (after == 0) {
+                keys(term).forEach(key -> trie.remove(key, term));
+                counts.remove(term);
+            } else {
+                counts.put(term, after);
+                if (before == 0) {
+                    keys(term).forEach(key -> trie.add(key, term));
+                } else if (after > before) {
+                    keys(term).forEach(key -> trie.promote(key, term));
+                } else {
+                    keys(term).forEach(key -> trie.demote(key, term));
+                }
+            }
+
+            for (String prefix : List.of("", "a", "ab", "b", "ca", "d", "x")) {
+                List<String> expected = counts.keySet().stream()
+                        .filter(stored -> keys(stored).stream().anyMatch(key -> key.startsWith(prefix)))
+                        .sorted(ranking)
+                        .limit(MAX_RANKED)
+                        .collect(Collectors.toList());
+                assertEquals(expected, trie.termsWithPrefix(prefix), "prefix '" + prefix + "' at step " + step);
+            }
+        }
+    }
+
+    private static List<String> keys(String term) {
+        List<String> keys = new ArrayList<>(List.of(term));
+        if (term.length() > 2) {
+            keys.add(term.substring(term.length() - 2));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,82 @@
+package com.maternity.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = 1_000_000L;
+    private static final long SLOW = 100_000_000L;
+
+    @Test
+    public void testGrowsByAboutOnePerLimitOfFastRequests() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 10, 1, 100, 50, 0.9);
+
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(FAST, 10);
+        }
+        assertEquals(10, limit.getLimit());
+        limit.onSample(FAST, 10);
+        assertEquals(11, limit.getLimit());
+    }
+
+    @Test
+    public void testDoesNotGrowWhileMostlyIdle() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 10, 1, 100, 50, 0.9);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, 4);
+        }
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    public void testBacksOffOncePerCooldown() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 10, 1, 100, 50, 0.9);
+
+        limit.onSample(SLOW, 10);
+        assertEquals(9, limit.getLimit());
+        limit.onSample(SLOW, 10);
+        limit.onSample(SLOW, 10);
+        assertEquals(9, limit.getLimit());
+
+        // The cooldown is the latency threshold
+        Thread.sleep(60);
+        limit.onSample(SLOW, 10);
+        assertEquals(8, limit.getLimit());
+    }
+
+    @Test
+    public void testStaysWithinMinAndMax() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 3, 2, 4, 10, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, 4);
+        }
+        assertEquals(4, limit.getLimit());
+
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(20);
+            limit.onSample(SLOW, 4);
+        }
+        assertEquals(2, limit.getLimit());
+
+        assertEquals(4, new AdaptiveConcurrencyLimit("test", 50, 2, 4, 10, 0.5).getLimit());
+        assertEquals(2, new AdaptiveConcurrencyLimit("test", 0, 2, 4, 10, 0.5).getLimit());
+    }
+
+    @Test
+    public void testRejectsOverTheLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 2, 1, 10, 50, 0.9);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        limit.release(FAST);
+        assertEquals(1, limit.getInFlight());
+        assertTrue(limit.tryAcquire());
+    }
+}
@@ -0,0 +1,47 @@
+package com.maternity.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new AdaptiveConcurrencyLimit("admin", 5, 1, 10, 3000, 0.9),
+            new AdaptiveConcurrencyLimit("public", 5, 1, 10, 1000, 0.9),
+            1,
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            new SimpleMeterRegistry());
+
+    @Test
+    public void testStreamsHaveTheirOwnFixedLimit() throws Exception {
+        List<Integer> nested = new ArrayList<>();
+        // While one export is streaming, a second is rejected but other admin requests still pass
+        FilterChain streaming = (request, response) -> {
+            nested.add(filter("/api/admin/users/mothers/stream", (inner, innerResponse) -> { }));
+            nested.add(filter("/api/admin/users", (inner, innerResponse) -> { }));
+        };
+
+        assertEquals(200, filter("/api/admin/users/matrons/stream", streaming));
+        assertEquals(List.of(503, 200), nested);
+        assertEquals(200, filter("/api/admin/users/mothers/stream", (request, response) -> { }));
+    }
+
+    private int filter(String uri, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,40 @@
+package com.maternity.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RegionTest {
+
+    @Test
+    public void testEnglishAndChineseLocationsShareOneRegion() {
+        for (String location : new String[]{"Beijing, Chaoyang District", "北京市朝阳区", "北京, 朝阳"}) {
+            Region region = Region.parse(location);
+            assertEquals("Beijing", region.getProvince(), location);
+            assertEquals("Beijing", region.getCity(), location);
+            assertEquals("Chaoyang", region.getDistrict(), location);
+        }
+
+        Region english = Region.parse("Zhejiang, Hangzhou, Xihu District");
+        Region chinese = Region.parse("浙江省杭州市西湖区文三路");
+        assertEquals("Zhejiang", chinese.getProvince());
+        assertEquals(english.getCity(), chinese.getCity());
+        assertEquals(english.getDistrict(), chinese.getDistrict());
+
+        assertEquals("Guangdong", Region.parse("深圳市").getProvince());
+        assertEquals("Shenzhen", Region.parse("深圳市").getCity());
+    }
+
+    @Test
+    public void testUnknownNamesAreKeptAsWritten() {
+        Region region = Region.parse("Atlantis, Old Town");
+        assertEquals("Atlantis", region.getProvince());
+        assertEquals("Atlantis", region.getCity());
+        assertEquals("Old Town", region.getDistrict());
+
+        Region query = Region.of("广东", null, null);
+        assertEquals("Guangdong", query.getProvince());
+        assertNull(query.getCity());
+    }
+}